@@ -1,127 +1,184 @@
-/*
- * debug_breakPtHandler.java
- *
- * Created on January 3, 2007, 9:12 PM
- * Handles breakpoints, and informing the Debug Window about them.
- *
- * @author Paul Kratt
- */
-
-package hc11emulator;
-
-import java.util.ArrayList;
-
-public class debug_breakPtHandler implements hc11_ramTrapper{
-    private DebuggerWindow window;
-    private hc11_Device device;
-    private ArrayList<Integer> bpxlist; //Breakpoint on execute list
-    private ArrayList<Integer> bprlist; //Breakpoint on read list
-    private ArrayList<Integer> bpwlist; //Breakpoint on write list
-    private boolean haltnext; //Halt on the next instruction, because we hit a read/write during the previous.
-    private int haltaddr=0; //When halting for bpr and bpw, this ensures we halt at the instruction doing the access, not the one after.
-    
-    /** Creates a new instance of debug_breakPtHandler */
-    public debug_breakPtHandler(DebuggerWindow dbgWin, hc11_Device board) {
-        window = dbgWin;
-        device = board;
-        bpxlist = new ArrayList(); //Setup our bpx list.
-        bprlist = new ArrayList(); //Setup our bpr list.
-        bpwlist = new ArrayList(); //Setup our bpw list.
-        haltnext = false;
-    }
-    
-    /** Check PC to see if we need to break right now.
-     *@return True if the thread needs to halt.
-     **/
-    public boolean checkPC(){
-        boolean retval = false;
-        int mypc = device.getPC();
-        
-        if(haltnext){
-            retval=true;
-            haltnext=false;
-            window.haltForBreakpoint(haltaddr);
-        }
-        //Loop through our PC's and see if any of them are the location we are at now.
-        for(int i=0; i<bpxlist.size();i++){
-            if(mypc==bpxlist.get(i).intValue()){
-                retval=true;
-                window.haltForBreakpoint(device.getPC());
-                break;
-            }
-        }
-        
-        return retval;
-    }
-    
-    /** Add a bpx somewhere **/
-    public void addbpx(int location){
-        bpxlist.add(new Integer(location));
-    }
-    
-    /** Remove a bpx from somewhere **/
-    public void removebpx(int location){
-        for(int i=0;i<bpxlist.size();i++)
-            if(bpxlist.get(i).intValue()==location){
-                bpxlist.remove(i);
-                break;
-            }
-    }
-    
-    /** Add a bpr somewhere **/
-    public void addbpr(int location){
-        bprlist.add(new Integer(location));
-        device.addTrap(location,this);
-    }
-    
-    /** Remove a bpr from somewhere. **/
-    public void removebpr(int location){
-        for(int i=0;i<bprlist.size();i++)
-            if(bprlist.get(i).intValue()==location){
-                bprlist.remove(i);
-                device.removeTrap(location,this);
-                break;
-            }
-    }
-    
-    /** Add a bpw somewhere **/
-    public void addbpw(int location){
-        bpwlist.add(new Integer(location));
-        device.addTrap(location,this);
-    }
-    
-    /** Remove a bpr from somewhere. **/
-    public void removebpw(int location){
-        for(int i=0;i<bpwlist.size();i++)
-            if(bpwlist.get(i).intValue()==location){
-                bpwlist.remove(i);
-                device.removeTrap(location,this);
-                break;
-            }
-    }
-
-    public void readTrap(int trapaddr, int instraddr) {
-        boolean exists = false;
-        for(int i=0; i<bprlist.size(); i++){
-            if(bprlist.get(i).intValue()==trapaddr)
-                exists=true; //Confirm that we have a read trap on this, not a write trap.
-        }
-        if(exists){
-            haltaddr=instraddr;
-            haltnext=true;
-        }
-    }
-
-    public void writeTrap(int trapaddr, int instraddr) {
-        boolean exists = false;
-        for(int i=0; i<bpwlist.size(); i++){
-            if(bpwlist.get(i).intValue()==trapaddr)
-                exists=true; //Confirm that we have a read trap on this, not a write trap.
-        }
-        if(exists){
-            haltaddr=instraddr;
-            haltnext=true;
-        }
-    }
-    
-}
+/*
+ * debug_breakPtHandler.java
+ *
+ * Created on January 3, 2007, 9:12 PM
+ * Handles breakpoints, and informing the Debug Window about them.
+ * The bpx list and the traps are only touched on the emulator thread. The add and remove methods
+ * can be called from any thread, and post the change to the emulator thread to make between slices.
+ * Read and write breakpoints are range traps on the device, set by two separate trappers, so a
+ * trap that fires never has to look up which kind of breakpoint covers its address.
+ *
+ * @author Paul Kratt
+ */
+
+package hc11emulator;
+
+import java.util.ArrayList;
+import javax.swing.SwingUtilities;
+
+public class debug_breakPtHandler {
+    private DebuggerWindow window;
+    private hc11_Device device;
+    private hc11_thread runner; //The emulator thread, which makes every change to the breakpoints
+    private ArrayList<Integer> bpxlist; //Breakpoint on execute list
+    private final AccessBreak reads; //Trapper for every bpr range
+    private final AccessBreak writes; //Trapper for every bpw range
+    private boolean haltnext; //Halt on the next instruction, because we hit a read/write during the previous.
+    private int haltaddr=0; //When halting for bpr and bpw, this ensures we halt at the instruction doing the access, not the one after.
+    
+    /** Creates a new instance of debug_breakPtHandler */
+    public debug_breakPtHandler(DebuggerWindow dbgWin, hc11_Device board, hc11_thread thread) {
+        window = dbgWin;
+        device = board;
+        runner = thread;
+        bpxlist = new ArrayList(); //Setup our bpx list.
+        reads = new AccessBreak(false);
+        writes = new AccessBreak(true);
+        haltnext = false;
+    }
+    
+    /** Check PC to see if we need to break right now.
+     *@return True if the thread needs to halt.
+     **/
+    public boolean checkPC(){
+        boolean retval = false;
+        int mypc = device.getPC();
+        
+        if(haltnext){
+            retval=true;
+            haltnext=false;
+            halt(haltaddr);
+        }
+        //Loop through our PC's and see if any of them are the location we are at now.
+        for(int i=0; i<bpxlist.size();i++){
+            if(mypc==bpxlist.get(i).intValue()){
+                retval=true;
+                halt(device.getPC());
+                break;
+            }
+        }
+        
+        return retval;
+    }
+    
+    /** Tell the window we halted. checkPC() runs on the emulator thread, so this goes through the Swing one. **/
+    private void halt(final int address){
+        SwingUtilities.invokeLater(new Runnable() {
+            public void run() {
+                window.haltForBreakpoint(address);
+            }
+        });
+    }
+    
+    /** Check if any breakpoints on execute are set. Compiled blocks can't stop for those. **/
+    public boolean hasExecuteBreakpoints(){
+        return !bpxlist.isEmpty();
+    }
+    
+    /** Add a bpx somewhere **/
+    public void addbpx(final int location){
+        runner.invoke(new Runnable() {
+            public void run() {
+                bpxlist.add(new Integer(location));
+            }
+        });
+    }
+    
+    /** Remove a bpx from somewhere **/
+    public void removebpx(final int location){
+        runner.invoke(new Runnable() {
+            public void run() {
+                for(int i=0;i<bpxlist.size();i++)
+                    if(bpxlist.get(i).intValue()==location){
+                        bpxlist.remove(i);
+                        break;
+                    }
+            }
+        });
+    }
+    
+    /** Add a bpr somewhere **/
+    public void addbpr(int location){
+        addbpr(location,location);
+    }
+    
+    /** Add a bpr on every address from start to end **/
+    public void addbpr(final int start, final int end){
+        runner.invoke(new Runnable() {
+            public void run() {
+                device.addRangeTrap(start,end,reads);
+            }
+        });
+    }
+    
+    /** Remove a bpr from somewhere. **/
+    public void removebpr(int location){
+        removebpr(location,location);
+    }
+    
+    /** Remove a bpr on a range of addresses **/
+    public void removebpr(final int start, final int end){
+        runner.invoke(new Runnable() {
+            public void run() {
+                device.removeRangeTrap(start,end,reads);
+            }
+        });
+    }
+    
+    /** Add a bpw somewhere **/
+    public void addbpw(int location){
+        addbpw(location,location);
+    }
+    
+    /** Add a bpw on every address from start to end **/
+    public void addbpw(final int start, final int end){
+        runner.invoke(new Runnable() {
+            public void run() {
+                device.addRangeTrap(start,end,writes);
+            }
+        });
+    }
+    
+    /** Remove a bpr from somewhere. **/
+    public void removebpw(int location){
+        removebpw(location,location);
+    }
+    
+    /** Remove a bpw on a range of addresses **/
+    public void removebpw(final int start, final int end){
+        runner.invoke(new Runnable() {
+            public void run() {
+                device.removeRangeTrap(start,end,writes);
+            }
+        });
+    }
+
+    /** Halts on the instruction that made a read or a write, whichever kind it was registered for **/
+    private class AccessBreak implements hc11_ramTrapper {
+        private final boolean write; //True for bpw ranges, false for bpr ones
+        
+        AccessBreak(boolean write){
+            this.write = write;
+        }
+        
+        public void readTrap(int trapaddr, int instraddr) {
+            if(!write)
+                hit(instraddr);
+        }
+        
+        public void writeTrap(int trapaddr, int instraddr) {
+            if(write)
+                hit(instraddr);
+        }
+        
+        public boolean canStop() {
+            return true;
+        }
+        
+        private void hit(int instraddr){
+            haltaddr=instraddr;
+            haltnext=true;
+        }
+    }
+    
+}
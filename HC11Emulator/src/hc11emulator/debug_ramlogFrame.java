@@ -1,170 +1,236 @@
-/*
- * debug_ramlogFrame.java
- *
- * Created on December 28, 2006, 2:59 PM
- *
- * @author Paul Kratt
- */
-
-package hc11emulator;
-
-import javax.swing.table.DefaultTableModel;
-
-public class debug_ramlogFrame extends javax.swing.JFrame implements hc11_ramTrapper {
-    private int mytrap; //The address this window is trapping
-    private hc11_Device device; //The hc11 device we're trapping
-    
-    /** Creates new form debug_ramlogFrame, trapping the address specified */
-    public debug_ramlogFrame(int addr, hc11_Device dev) {
-        initComponents();
-        
-        mytrap = addr;
-        device = dev;
-        lblLogAddr.setText(Integer.toHexString(mytrap));
-    }
-    
-    /** We have been notified that a write trap has been hit.
-     *@param trapaddr The address that was trapped
-     *@param instaddr The address of the instruction that fell into our trap.
-     **/
-    public void writeTrap(int trapaddr, int instraddr){
-        DefaultTableModel table = (DefaultTableModel)tblLog.getModel();
-        
-        if(chkWriteLog.isSelected()){
-            String[] nxtRow = new String[3];
-            nxtRow[0] = "W";
-            nxtRow[1] = Integer.toHexString(instraddr);
-            nxtRow[2] = Integer.toHexString(device.getMemSilent(trapaddr));
-            table.addRow(nxtRow);
-        }
-    }
-    
-    /** We have been notified that a read trap has been hit.
-     *@param trapaddr The address that was trapped
-     *@param instaddr The address of the instruction that fell into our trap.
-     **/
-    public void readTrap(int trapaddr, int instraddr){
-        DefaultTableModel table = (DefaultTableModel)tblLog.getModel();
-        
-        if(chkReadLog.isSelected()){
-            String[] nxtRow = new String[3];
-            nxtRow[0] = "R";
-            nxtRow[1] = Integer.toHexString(instraddr);
-            nxtRow[2] = Integer.toHexString(device.getMemSilent(trapaddr));
-            table.addRow(nxtRow);
-        }
-    }
-    
-    /** This method is called from within the constructor to
-     * initialize the form.
-     * WARNING: Do NOT modify this code. The content of this method is
-     * always regenerated by the Form Editor.
-     */
-    // <editor-fold defaultstate="collapsed" desc=" Generated Code ">//GEN-BEGIN:initComponents
-    private void initComponents() {
-        lblLogging = new javax.swing.JLabel();
-        lblLogAddr = new javax.swing.JLabel();
-        btnClear = new javax.swing.JButton();
-        chkReadLog = new javax.swing.JCheckBox();
-        chkWriteLog = new javax.swing.JCheckBox();
-        jspLogScroll = new javax.swing.JScrollPane();
-        tblLog = new javax.swing.JTable();
-
-        setDefaultCloseOperation(javax.swing.WindowConstants.DISPOSE_ON_CLOSE);
-        setTitle("HC11 RAM access log");
-        addWindowListener(new java.awt.event.WindowAdapter() {
-            public void windowClosing(java.awt.event.WindowEvent evt) {
-                formWindowClosing(evt);
-            }
-        });
-
-        lblLogging.setText("Logging ram access to location:");
-
-        lblLogAddr.setText("0xFFFF");
-
-        btnClear.setText("Clear list");
-        btnClear.addActionListener(new java.awt.event.ActionListener() {
-            public void actionPerformed(java.awt.event.ActionEvent evt) {
-                btnClearActionPerformed(evt);
-            }
-        });
-
-        chkReadLog.setText("Log reads");
-        chkReadLog.setBorder(javax.swing.BorderFactory.createEmptyBorder(0, 0, 0, 0));
-        chkReadLog.setMargin(new java.awt.Insets(0, 0, 0, 0));
-
-        chkWriteLog.setSelected(true);
-        chkWriteLog.setText("Log writes");
-        chkWriteLog.setBorder(javax.swing.BorderFactory.createEmptyBorder(0, 0, 0, 0));
-        chkWriteLog.setMargin(new java.awt.Insets(0, 0, 0, 0));
-
-        tblLog.setModel(new javax.swing.table.DefaultTableModel(
-            new Object [][] {
-
-            },
-            new String [] {
-                "Mode", "Address", "Value"
-            }
-        ));
-        jspLogScroll.setViewportView(tblLog);
-
-        org.jdesktop.layout.GroupLayout layout = new org.jdesktop.layout.GroupLayout(getContentPane());
-        getContentPane().setLayout(layout);
-        layout.setHorizontalGroup(
-            layout.createParallelGroup(org.jdesktop.layout.GroupLayout.LEADING)
-            .add(layout.createSequentialGroup()
-                .addContainerGap()
-                .add(layout.createParallelGroup(org.jdesktop.layout.GroupLayout.LEADING)
-                    .add(jspLogScroll, org.jdesktop.layout.GroupLayout.DEFAULT_SIZE, 407, Short.MAX_VALUE)
-                    .add(layout.createSequentialGroup()
-                        .add(lblLogging)
-                        .addPreferredGap(org.jdesktop.layout.LayoutStyle.RELATED)
-                        .add(lblLogAddr))
-                    .add(layout.createSequentialGroup()
-                        .add(chkReadLog)
-                        .addPreferredGap(org.jdesktop.layout.LayoutStyle.RELATED)
-                        .add(chkWriteLog)
-                        .addPreferredGap(org.jdesktop.layout.LayoutStyle.RELATED, 195, Short.MAX_VALUE)
-                        .add(btnClear)))
-                .addContainerGap())
-        );
-        layout.setVerticalGroup(
-            layout.createParallelGroup(org.jdesktop.layout.GroupLayout.LEADING)
-            .add(layout.createSequentialGroup()
-                .addContainerGap()
-                .add(layout.createParallelGroup(org.jdesktop.layout.GroupLayout.BASELINE)
-                    .add(lblLogging)
-                    .add(lblLogAddr))
-                .addPreferredGap(org.jdesktop.layout.LayoutStyle.RELATED)
-                .add(jspLogScroll, org.jdesktop.layout.GroupLayout.DEFAULT_SIZE, 211, Short.MAX_VALUE)
-                .addPreferredGap(org.jdesktop.layout.LayoutStyle.RELATED)
-                .add(layout.createParallelGroup(org.jdesktop.layout.GroupLayout.BASELINE)
-                    .add(chkReadLog)
-                    .add(chkWriteLog)
-                    .add(btnClear))
-                .addContainerGap())
-        );
-        pack();
-    }// </editor-fold>//GEN-END:initComponents
-
-    private void formWindowClosing(java.awt.event.WindowEvent evt) {//GEN-FIRST:event_formWindowClosing
-        device.removeTrap(this);
-    }//GEN-LAST:event_formWindowClosing
-
-    private void btnClearActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_btnClearActionPerformed
-        DefaultTableModel table = (DefaultTableModel)tblLog.getModel();
-        while(table.getRowCount()>0)
-            table.removeRow(0);
-    }//GEN-LAST:event_btnClearActionPerformed
-    
-    // Variables declaration - do not modify//GEN-BEGIN:variables
-    private javax.swing.JButton btnClear;
-    private javax.swing.JCheckBox chkReadLog;
-    private javax.swing.JCheckBox chkWriteLog;
-    private javax.swing.JScrollPane jspLogScroll;
-    private javax.swing.JLabel lblLogAddr;
-    private javax.swing.JLabel lblLogging;
-    private javax.swing.JTable tblLog;
-    // End of variables declaration//GEN-END:variables
-    
-}
+/*
+ * debug_ramlogFrame.java
+ *
+ * Created on December 28, 2006, 2:59 PM
+ *
+ * @author Paul Kratt
+ */
+
+package hc11emulator;
+
+import java.util.ArrayList;
+import javax.swing.table.AbstractTableModel;
+
+public class debug_ramlogFrame extends javax.swing.JFrame implements hc11_TrapLog.Reader {
+    private static final int LOG_SIZE = 0x10000; //Accesses the log can hold between updates
+    private static final int UPDATE_MS = 50; //How often the table catches up with the log
+    private int mytrap, mytrapend; //The addresses this window is trapping
+    private hc11_Device device; //The hc11 device we're trapping
+    private hc11_thread runner; //The thread running it, which sets and removes the trap
+    private hc11_TrapLog log; //Where the emulator thread records the accesses
+    private javax.swing.Timer updater; //Moves the log into the table, on the Swing thread
+    private boolean logReads, logWrites; //Checkbox states for the batch being drained
+    private LogModel rows; //The table's rows
+    
+    /** The logged accesses, as the table shows them. Rows are added quietly, then announced together. **/
+    private static class LogModel extends AbstractTableModel {
+        private static final String[] COLUMNS = {"Mode", "Address", "Location", "Value", "Cycle"};
+        private final ArrayList<String[]> rows = new ArrayList<String[]>();
+        private int announced; //Rows the table has been told about
+        
+        public int getRowCount(){
+            return announced;
+        }
+        
+        public int getColumnCount(){
+            return COLUMNS.length;
+        }
+        
+        public String getColumnName(int column){
+            return COLUMNS[column];
+        }
+        
+        public Object getValueAt(int row, int column){
+            return rows.get(row)[column];
+        }
+        
+        /** Add a row, without telling the table yet **/
+        void add(String[] row){
+            rows.add(row);
+        }
+        
+        /** Tell the table about every row added since last time, in one event **/
+        void announce(){
+            int first = announced;
+            announced = rows.size();
+            if(announced > first)
+                fireTableRowsInserted(first, announced-1);
+        }
+        
+        void clear(){
+            rows.clear();
+            announced = 0;
+            fireTableDataChanged();
+        }
+    }
+    
+    /** Creates new form debug_ramlogFrame, trapping the address specified */
+    public debug_ramlogFrame(int addr, hc11_Device dev, hc11_thread thread) {
+        this(addr, addr, dev, thread);
+    }
+    
+    /** Creates new form debug_ramlogFrame, trapping every address from start to end.
+     * The trap is set on the emulator thread, which is running dev.
+     **/
+    public debug_ramlogFrame(final int start, final int end, hc11_Device dev, hc11_thread thread) {
+        initComponents();
+        rows = new LogModel();
+        tblLog.setModel(rows);
+        
+        mytrap = start;
+        mytrapend = end;
+        device = dev;
+        runner = thread;
+        if(start == end)
+            lblLogAddr.setText(Integer.toHexString(mytrap));
+        else
+            lblLogAddr.setText(Integer.toHexString(mytrap) + "-" + Integer.toHexString(mytrapend));
+        
+        log = new hc11_TrapLog(device, LOG_SIZE);
+        runner.invoke(new Runnable() {
+            public void run() {
+                device.addRangeTrap(start, end, log);
+            }
+        });
+        updater = new javax.swing.Timer(UPDATE_MS, new java.awt.event.ActionListener() {
+            public void actionPerformed(java.awt.event.ActionEvent evt) {
+                drainLog();
+            }
+        });
+        updater.start();
+    }
+    
+    /** Move everything waiting in the log into the table, and fire one table event for the lot **/
+    private void drainLog(){
+        logReads = chkReadLog.isSelected();
+        logWrites = chkWriteLog.isSelected();
+        log.drain(this, LOG_SIZE);
+        rows.announce();
+        if(log.getDropped() > 0)
+            setTitle("HC11 RAM access log - " + log.getDropped() + " accesses dropped");
+    }
+    
+    /** Add one logged access to the table, without telling it yet. Called by drainLog(). **/
+    public void trapRecord(long cycle, int pc, int address, int value, int kind){
+        if(kind == hc11_TrapLog.READ ? !logReads : !logWrites)
+            return;
+        rows.add(new String[] {kind == hc11_TrapLog.READ ? "R" : "W", Integer.toHexString(pc),
+                Integer.toHexString(address), Integer.toHexString(value), Long.toString(cycle)});
+    }
+    
+    /** This method is called from within the constructor to
+     * initialize the form.
+     * WARNING: Do NOT modify this code. The content of this method is
+     * always regenerated by the Form Editor.
+     */
+    // <editor-fold defaultstate="collapsed" desc=" Generated Code ">//GEN-BEGIN:initComponents
+    private void initComponents() {
+        lblLogging = new javax.swing.JLabel();
+        lblLogAddr = new javax.swing.JLabel();
+        btnClear = new javax.swing.JButton();
+        chkReadLog = new javax.swing.JCheckBox();
+        chkWriteLog = new javax.swing.JCheckBox();
+        jspLogScroll = new javax.swing.JScrollPane();
+        tblLog = new javax.swing.JTable();
+
+        setDefaultCloseOperation(javax.swing.WindowConstants.DISPOSE_ON_CLOSE);
+        setTitle("HC11 RAM access log");
+        addWindowListener(new java.awt.event.WindowAdapter() {
+            public void windowClosing(java.awt.event.WindowEvent evt) {
+                formWindowClosing(evt);
+            }
+        });
+
+        lblLogging.setText("Logging ram access to location:");
+
+        lblLogAddr.setText("0xFFFF");
+
+        btnClear.setText("Clear list");
+        btnClear.addActionListener(new java.awt.event.ActionListener() {
+            public void actionPerformed(java.awt.event.ActionEvent evt) {
+                btnClearActionPerformed(evt);
+            }
+        });
+
+        chkReadLog.setText("Log reads");
+        chkReadLog.setBorder(javax.swing.BorderFactory.createEmptyBorder(0, 0, 0, 0));
+        chkReadLog.setMargin(new java.awt.Insets(0, 0, 0, 0));
+
+        chkWriteLog.setSelected(true);
+        chkWriteLog.setText("Log writes");
+        chkWriteLog.setBorder(javax.swing.BorderFactory.createEmptyBorder(0, 0, 0, 0));
+        chkWriteLog.setMargin(new java.awt.Insets(0, 0, 0, 0));
+
+        tblLog.setModel(new javax.swing.table.DefaultTableModel(
+            new Object [][] {
+
+            },
+            new String [] {
+                "Mode", "Address", "Location", "Value", "Cycle"
+            }
+        ));
+        jspLogScroll.setViewportView(tblLog);
+
+        org.jdesktop.layout.GroupLayout layout = new org.jdesktop.layout.GroupLayout(getContentPane());
+        getContentPane().setLayout(layout);
+        layout.setHorizontalGroup(
+            layout.createParallelGroup(org.jdesktop.layout.GroupLayout.LEADING)
+            .add(layout.createSequentialGroup()
+                .addContainerGap()
+                .add(layout.createParallelGroup(org.jdesktop.layout.GroupLayout.LEADING)
+                    .add(jspLogScroll, org.jdesktop.layout.GroupLayout.DEFAULT_SIZE, 407, Short.MAX_VALUE)
+                    .add(layout.createSequentialGroup()
+                        .add(lblLogging)
+                        .addPreferredGap(org.jdesktop.layout.LayoutStyle.RELATED)
+                        .add(lblLogAddr))
+                    .add(layout.createSequentialGroup()
+                        .add(chkReadLog)
+                        .addPreferredGap(org.jdesktop.layout.LayoutStyle.RELATED)
+                        .add(chkWriteLog)
+                        .addPreferredGap(org.jdesktop.layout.LayoutStyle.RELATED, 195, Short.MAX_VALUE)
+                        .add(btnClear)))
+                .addContainerGap())
+        );
+        layout.setVerticalGroup(
+            layout.createParallelGroup(org.jdesktop.layout.GroupLayout.LEADING)
+            .add(layout.createSequentialGroup()
+                .addContainerGap()
+                .add(layout.createParallelGroup(org.jdesktop.layout.GroupLayout.BASELINE)
+                    .add(lblLogging)
+                    .add(lblLogAddr))
+                .addPreferredGap(org.jdesktop.layout.LayoutStyle.RELATED)
+                .add(jspLogScroll, org.jdesktop.layout.GroupLayout.DEFAULT_SIZE, 211, Short.MAX_VALUE)
+                .addPreferredGap(org.jdesktop.layout.LayoutStyle.RELATED)
+                .add(layout.createParallelGroup(org.jdesktop.layout.GroupLayout.BASELINE)
+                    .add(chkReadLog)
+                    .add(chkWriteLog)
+                    .add(btnClear))
+                .addContainerGap())
+        );
+        pack();
+    }// </editor-fold>//GEN-END:initComponents
+
+    private void formWindowClosing(java.awt.event.WindowEvent evt) {//GEN-FIRST:event_formWindowClosing
+        updater.stop();
+        runner.invoke(new Runnable() {
+            public void run() {
+                device.removeTrap(log);
+            }
+        });
+    }//GEN-LAST:event_formWindowClosing
+
+    private void btnClearActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_btnClearActionPerformed
+        rows.clear();
+    }//GEN-LAST:event_btnClearActionPerformed
+    
+    // Variables declaration - do not modify//GEN-BEGIN:variables
+    private javax.swing.JButton btnClear;
+    private javax.swing.JCheckBox chkReadLog;
+    private javax.swing.JCheckBox chkWriteLog;
+    private javax.swing.JScrollPane jspLogScroll;
+    private javax.swing.JLabel lblLogAddr;
+    private javax.swing.JLabel lblLogging;
+    private javax.swing.JTable tblLog;
+    // End of variables declaration//GEN-END:variables
+    
+}
@@ -0,0 +1,111 @@
+/*
+ * fox11_LCD.java
+ *
+ * Created on October 18, 2026
+ *
+ * The FOX11's 2 line, 16 character LCD, without any window. It decodes the nybbles the firmware writes
+ * to 0x1401 into the characters on each line, so the LCD can be read by the headless runner as well as
+ * shown by fox11_LCDscreen.
+ */
+
+package hc11emulator;
+
+public class fox11_LCD implements hc11_IOHandler {
+    public static final int ADDRESS = 0x1401; //Where the LCD is mapped
+    private final byte[][] line; //Characters on each line
+    private int row=0, col=0; //Row is the line, column is the current nybble
+    private boolean firstuse=true; //Is this the first time the LCD is being written to?
+    private int lastWritten; //Reads just see the last thing written
+    
+    /** Creates a new, blank LCD **/
+    public fox11_LCD() {
+        this(new byte[2][16]);
+    }
+    
+    /** Creates an LCD that keeps its characters in the array given, so a panel can draw them
+     *@param line Two lines of characters
+     **/
+    public fox11_LCD(byte[][] line) {
+        this.line = line;
+    }
+    
+    public void ioWrite(int address, int written) {
+        int data = written;
+        int command = data&0xF;
+        data=(data>>4)&0xF;
+        int lastdata=0;
+        lastWritten = written;
+        
+        //Note: Data actually sent to the LCD screen does not seem to match anything in either of the
+        //LCD specification documents that came with the FOX11 board. Therefore, all of the stuff
+        //in this function is just guessed based on logs of the data actually sent to the LCD.
+        //Due to this, the emulated LCD may not accurately mimic the real thing.
+        
+        if(firstuse){
+            //Clear the LCD
+            for(int i=0; i<line[0].length;i++){
+                line[0][i] = (byte)0;
+                line[1][i] = (byte)0;
+            }
+            firstuse=false;
+        }
+        
+        if(command==0){
+            //Tell the LCD to be ready for a new command?
+        }
+        else if(command==1){
+            //This command is sent when outputting data to the LCD screen. I'm not going to use it at all.
+        }
+        else if(command==2){
+            //Cursor commands?
+            if(lastdata==0x8 || lastdata==0xC){
+                col=data;
+                lastdata=0;
+            }
+            if(data==0x8){
+                //Line 1
+                row=0;
+                lastdata=data;
+            }
+            else if(data==0xC){
+                //Line 2
+                row=1;
+                lastdata=data;
+            }
+        }
+        else if(command==3){
+            //Update the current nybble, and advance the cursor
+            int value = line[row][col/2];
+            if(col%2==0){
+                value=(data<<4)+(value&0xF);
+            }else{
+                value=(value&0xF0)+data;
+            }
+            line[row][col/2] = (byte)(value);
+            col++;
+            if(col==line[0].length*2)
+                col=0; //Loop to the beginning of the line, because I don't know what would happen otherwise.
+        }
+    }
+    
+    public int ioRead(int address) {
+        return lastWritten;
+    }
+    
+    /** Get the text on one line. Characters that were never written show as spaces.
+     *@param row 0 for the top line, 1 for the bottom
+     **/
+    public String getLine(int row){
+        StringBuilder text = new StringBuilder(line[row].length);
+        for(int i=0; i<line[row].length; i++){
+            char c = (char)(line[row][i] & 0xFF);
+            text.append(c < ' ' ? ' ' : c);
+        }
+        return text.toString();
+    }
+    
+    /** Get the text on both lines, with a newline between them **/
+    public String getText(){
+        return getLine(0) + "\n" + getLine(1);
+    }
+}
@@ -1,28 +1,90 @@
-/*
- * hc11.java
- *
- * Created on May 4, 2006, 12:22 PM
- */
-
-package hc11emulator;
-
-/**
- *
- * @author Paul Kratt
- */
-public class fox11w extends hc11_Device {
-    
-    /** Creates a new instance of hc11 */
-    public fox11w() {
-        super();
-    }
-    
-    /** Execute the next instruction **/
-    public void execute(){
-        super.execute();
-        
-        //Do fox11 specific stuff here
-        
-    }
-    
-}
+/*
+ * hc11.java
+ *
+ * Created on May 4, 2006, 12:22 PM
+ */
+
+package hc11emulator;
+
+/**
+ *
+ * @author Paul Kratt
+ */
+public class fox11w extends hc11_Device {
+    public static final int REGISTERS = 0x1000; //Where the HC11's register block is on the FOX11
+    private hc11_Ports ports;
+    private hc11_Timer timer;
+    private hc11_SCI sci;
+    private hc11_SPI spi;
+    private hc11_ADC adc;
+    private hc11_COP cop;
+    private hc11_Priority priority;
+    
+    /** Creates a new instance of hc11 */
+    public fox11w() {
+        super();
+        timer = new hc11_Timer(this, REGISTERS);
+        ports = new hc11_Ports(this, REGISTERS);
+        sci = new hc11_SCI(this, REGISTERS);
+        spi = new hc11_SPI(this, REGISTERS);
+        adc = new hc11_ADC(this, REGISTERS);
+        cop = new hc11_COP(this, REGISTERS);
+        priority = new hc11_Priority(this, REGISTERS);
+    }
+    
+    /** Get the HC11's parallel ports, to put levels on and listen to **/
+    public hc11_Ports getPorts(){
+        return ports;
+    }
+    
+    /** Get the HC11's main timer **/
+    public hc11_Timer getTimer(){
+        return timer;
+    }
+    
+    /** Get the HC11's serial port **/
+    public hc11_SCI getSCI(){
+        return sci;
+    }
+    
+    /** Get the HC11's SPI, to attach slaves to **/
+    public hc11_SPI getSPI(){
+        return spi;
+    }
+    
+    /** Get the HC11's A/D converter, to set its channels **/
+    public hc11_ADC getADC(){
+        return adc;
+    }
+    
+    /** Get the HC11's COP watchdog **/
+    public hc11_COP getCOP(){
+        return cop;
+    }
+    
+    /** Get the HC11's HPRIO register, which picks the highest priority interrupt **/
+    public hc11_Priority getPriority(){
+        return priority;
+    }
+    
+    /** Reset the CPU, and every peripheral with it **/
+    public void reset(int vector){
+        super.reset(vector);
+        timer.reset(); //First, since the ports read PACTL
+        ports.reset();
+        sci.reset();
+        spi.reset();
+        adc.reset();
+        cop.reset();
+        priority.reset();
+    }
+    
+    /** Execute the next instruction **/
+    public void execute(){
+        super.execute();
+        
+        //Do fox11 specific stuff here
+        
+    }
+    
+}
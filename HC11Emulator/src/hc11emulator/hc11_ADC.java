@@ -0,0 +1,160 @@
+/*
+ * hc11_ADC.java
+ *
+ * Created on October 18, 2026
+ *
+ * The HC11's A/D converter: ADCTL and ADR1-ADR4. Writing ADCTL starts a sequence of four
+ * conversions, 32 E cycles each, one channel four times or four channels once each. In SCAN mode
+ * the sequence keeps repeating. Like TCNT, nothing ticks. Which conversions have finished, and CCF,
+ * are worked out from the cycle counter when the firmware reads a register, and each result is the
+ * channel's level on the cycle its conversion started. A channel's level comes from an
+ * hc11_ADCStream if one is attached, or otherwise is whatever setLevel() last set. The internal
+ * channels read VRH, VRL and VRH/2, taking those as 0xFF, 0x00 and 0x80.
+ */
+
+package hc11emulator;
+
+import java.io.File;
+import java.io.IOException;
+
+public class hc11_ADC implements hc11_IOHandler {
+    //Register offsets from the start of the register block
+    public static final int ADCTL=0x30, ADR1=0x31, OPTION=0x39;
+    public static final int CCF=0x80, SCAN=0x20, MULT=0x10; //ADCTL bits
+    public static final int ADPU=0x80; //OPTION bit that powers the converter up
+    public static final int CHANNELS=8; //PE0-PE7
+    public static final int CONVERSION_CYCLES=32, RESULTS=4;
+    
+    private final hc11_Device device;
+    private final int base; //Address of the register block
+    private final hc11_ADCStream[] streams = new hc11_ADCStream[CHANNELS];
+    private final int[] levels = new int[CHANNELS]; //For channels without a stream
+    private final int[] results = new int[RESULTS]; //ADR1-ADR4
+    private int adctl;
+    private boolean converting; //A sequence has conversions left to finish, or is scanning
+    private boolean powered; //ADPU was set when the sequence started. Otherwise the results are 0.
+    private long start; //Cycle the sequence started on
+    private long finished; //Conversions of it already in the results
+    
+    /** Creates the converter, as it is out of reset, and maps its registers
+     *@param device The board it belongs to
+     *@param base Where the register block is mapped
+     **/
+    public hc11_ADC(hc11_Device device, int base) {
+        this.device = device;
+        this.base = base;
+        for(int address=base+ADCTL; address<base+ADR1+RESULTS; address++)
+            device.addIOHandler(address, this);
+        reset();
+    }
+    
+    /** Stop converting and clear the registers, for a board reset. The chip leaves them
+     * undefined. The channels keep their levels and recordings.
+     **/
+    public void reset(){
+        adctl = 0;
+        converting = false;
+        for(int i=0; i<RESULTS; i++)
+            results[i] = 0;
+        refresh();
+    }
+    
+    /** Set the level on a channel's pin, for channels without a stream
+     *@param channel 0-7
+     *@param level 0-255
+     **/
+    public void setLevel(int channel, int level){
+        levels[channel] = level & 0xFF;
+    }
+    
+    /** Replay a recording on a channel. Call this on the emulator thread, or before it starts.
+     *@param channel 0-7
+     *@param stream The recording, or null to go back to setLevel()
+     **/
+    public void setStream(int channel, hc11_ADCStream stream){
+        streams[channel] = stream;
+    }
+    
+    /** Attach a recording from a description, like adc= in config.ini: channel,file,rate with the
+     * rate in samples per second.
+     *@throws IOException If the file can't be mapped
+     *@throws IllegalArgumentException If the description doesn't make sense
+     **/
+    public void setStream(String spec) throws IOException {
+        String[] args = spec.split(",");
+        if(args.length != 3)
+            throw new IllegalArgumentException("Expected channel,file,rate: " + spec);
+        int channel = Integer.parseInt(args[0]);
+        if(channel < 0 || channel >= CHANNELS)
+            throw new IllegalArgumentException("No A/D channel " + channel);
+        setStream(channel, new hc11_ADCStream(new File(args[1]), Double.parseDouble(args[2])));
+    }
+    
+    /** Get a channel's level on a cycle, as a conversion would see it
+     *@param channel 0-15, where 8-15 are the internal channels
+     **/
+    public int getLevel(int channel, long cycle){
+        if(channel >= CHANNELS){
+            switch(channel){
+                case 12: return 0xFF; //VRH
+                case 14: return 0x80; //VRH/2
+                default: return 0x00; //VRL, and the reserved ones
+            }
+        }
+        hc11_ADCStream stream = streams[channel];
+        return stream != null ? stream.sample(cycle, device.getClockSpeed()) : levels[channel];
+    }
+    
+    public int ioRead(int address){
+        catchUp();
+        if(address == base+ADCTL){
+            //Nothing changes it but a write, or the cycle CCF gets set on
+            device.readWaitsUntil(address, (adctl & CCF) == 0 && converting ? start + RESULTS*CONVERSION_CYCLES : Long.MAX_VALUE);
+            return adctl;
+        }
+        return results[address - base - ADR1];
+    }
+    
+    public void ioWrite(int address, int value){
+        catchUp();
+        if(address == base+ADCTL){
+            adctl = value & ~CCF;
+            converting = true;
+            powered = (device.getMemSilent(base+OPTION) & ADPU) != 0;
+            start = device.getCycles();
+            finished = 0;
+        }
+        refresh(); //The result registers are read only
+    }
+    
+    /** Put the results of every conversion that has finished by now into ADR1-ADR4. In SCAN mode
+     * only the last four matter, however long it has been since the firmware looked.
+     **/
+    private void catchUp(){
+        if(!converting)
+            return;
+        long done = (device.getCycles() - start) / CONVERSION_CYCLES;
+        if((adctl & SCAN) == 0 && done >= RESULTS){
+            done = RESULTS;
+            converting = false;
+        }
+        if(done >= RESULTS)
+            adctl |= CCF;
+        for(long conversion=Math.max(finished, done - RESULTS); conversion<done; conversion++){
+            int result = (int)(conversion & (RESULTS-1));
+            int channel = (adctl & MULT) != 0 ? (adctl & 0x0C) | result : adctl & 0x0F;
+            results[result] = powered ? getLevel(channel, start + conversion*CONVERSION_CYCLES) : 0;
+        }
+        if(done > finished){
+            finished = done;
+            refresh();
+        }
+    }
+    
+    /** Put the registers where the debugger can see them **/
+    private void refresh(){
+        device.getMemoryMap().poke(base+ADCTL, adctl);
+        for(int i=0; i<RESULTS; i++)
+            device.getMemoryMap().poke(base+ADR1+i, results[i]);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * hc11_ADCStream.java
+ *
+ * Created on October 18, 2026
+ *
+ * A recording of one A/D channel, replayed by emulated time. The file is raw unsigned 8-bit samples
+ * at a fixed rate, the first one at cycle 0. Cycles are turned into time by the board's E clock,
+ * whatever hc11_thread.setClockSpeed() has set it to. The file is mapped into memory rather than
+ * read, a gigabyte per mapping, so a recording of any length costs address space instead of heap,
+ * and the OS only pages in the parts a conversion looks at. Finding a sample is a divide, a multiply
+ * and an array index. Once the recording runs out, the channel holds its last sample.
+ */
+
+package hc11emulator;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+public class hc11_ADCStream {
+    private static final int CHUNK_BITS=30, CHUNK_MASK=(1<<CHUNK_BITS)-1; //Bytes per mapping, as a power of 2
+    
+    private final String description;
+    private final MappedByteBuffer[] chunks;
+    private final long length; //Samples in the file
+    private final double rate; //Samples per second
+    
+    /** Map a recording
+     *@param file Raw unsigned 8-bit samples
+     *@param rate Samples per second of emulated time
+     *@throws IOException If the file can't be opened or mapped, or is empty
+     **/
+    public hc11_ADCStream(File file, double rate) throws IOException {
+        if(!(rate > 0))
+            throw new IllegalArgumentException("Sample rate must be positive: " + rate);
+        description = file.getPath();
+        this.rate = rate;
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try{
+            FileChannel channel = raf.getChannel();
+            length = channel.size();
+            if(length == 0)
+                throw new IOException(file + " has no samples");
+            chunks = new MappedByteBuffer[(int)(((length - 1) >> CHUNK_BITS) + 1)];
+            for(int i=0; i<chunks.length; i++){
+                long position = (long)i << CHUNK_BITS;
+                chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(CHUNK_MASK + 1L, length - position));
+            }
+        }finally{
+            raf.close(); //The mappings stay valid
+        }
+    }
+    
+    /** Get the sample playing at a cycle
+     *@param cycle The board's cycle count
+     *@param clock The board's E cycles per second
+     *@return 0-255
+     **/
+    public int sample(long cycle, long clock){
+        long index = Math.min((long)(cycle * (rate / clock)), length - 1);
+        return chunks[(int)(index >> CHUNK_BITS)].get((int)(index & CHUNK_MASK)) & 0xFF;
+    }
+    
+    /** Get the number of samples in the recording **/
+    public long getLength(){
+        return length;
+    }
+    
+    public String toString(){
+        return description;
+    }
+}
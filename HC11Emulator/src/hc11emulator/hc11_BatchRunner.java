@@ -0,0 +1,377 @@
+/*
+ * hc11_BatchRunner.java
+ *
+ * Created on October 18, 2026
+ *
+ * Runs a batch of firmware images without any windows, each on its own fox11w, spread over a
+ * fork-join pool with a thread per core. Every run stops at its cycle budget, or as soon as one of
+ * the exit conditions is met, and the runner prints one line per image and a summary at the end.
+ * Run it with: java -cp HC11Emulator.jar hc11emulator.hc11_BatchRunner [options] image...
+ */
+
+package hc11emulator;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+public class hc11_BatchRunner {
+    private static final long SLICE = 10000; //Most cycles between checks of the LCD
+    
+    //How a run ended
+    public static final String PASS="PASS", TIMEOUT="TIMEOUT", LOADFAIL="LOADFAIL", ERROR="ERROR";
+    
+    private long budget = 100000000; //Cycles each image gets, 50 seconds at 2MHz
+    private int exitPC = -1; //Stop when PC gets here. -1 for no PC condition.
+    private int exitAddress = -1, exitValue; //Stop when this address holds this value. -1 for none.
+    private String exitText; //Stop when the LCD shows this text. Null for none.
+    private boolean cop; //Turn on every board's COP watchdog
+    private String serial; //Serial bridge spec for each board, with % for the image's name. Null for none.
+    private String spi; //SPI slave spec for each board, with % for the image's name. Null for none.
+    private hc11_ADCStream[] recordings = new hc11_ADCStream[hc11_ADC.CHANNELS]; //Replayed on every board's A/D channels
+    private hc11_Farm farm = new hc11_Farm(); //Makes the boards, all sharing one copy of the ROMs
+    
+    /** The outcome of one image **/
+    public static class Result {
+        public final String image;
+        public String status = ERROR;
+        public String detail = "";
+        public long cycles, instructions, nanos;
+        public int pc;
+        
+        Result(String image) {
+            this.image = image;
+        }
+        
+        /** One line for the summary: image, status, cycles, instructions, final PC, milliseconds, detail **/
+        public String toString(){
+            return image + "\t" + status + "\t" + cycles + "\t" + instructions + "\t"
+                    + Integer.toHexString(pc) + "\t" + (nanos / 1000000) + "\t" + detail;
+        }
+    }
+    
+    /** Creates a runner with no exit conditions, so every image runs its whole budget **/
+    public hc11_BatchRunner() {
+        farm.setRecompiling(true); //Until a config.ini or setRecompiling() says otherwise
+    }
+    
+    public void setBudget(long budget){
+        this.budget = budget;
+    }
+    
+    /** Stop a run when PC reaches an address. Runs with a PC condition don't use the recompiler. **/
+    public void setExitPC(int exitPC){
+        this.exitPC = exitPC;
+    }
+    
+    /** Stop a run when the CPU writes a value to an address **/
+    public void setExitMemory(int address, int value){
+        exitAddress = address;
+        exitValue = value & 0xFF;
+    }
+    
+    /** Stop a run when the text appears anywhere on the LCD. Each line is checked on its own. **/
+    public void setExitText(String text){
+        exitText = text;
+    }
+    
+    /** Use the recompiler or not. The farm keeps the setting, so a later loadConfig() can change it again. **/
+    public void setRecompiling(boolean recompiling){
+        farm.setRecompiling(recompiling);
+    }
+    
+    /** Turn on the COP watchdog of every board, like cop=on in config.ini **/
+    public void setCOP(boolean cop){
+        this.cop = cop;
+    }
+    
+    /** Connect each board's SCI to the host, like sci= in config.ini. Any % in the spec is replaced
+     * with the image's path, so file:%.txt saves the serial output of each image next to it.
+     **/
+    public void setSerial(String serial){
+        this.serial = serial;
+    }
+    
+    /** Put an SPI slave on each board, like spi= in config.ini. Any % in the spec is replaced with
+     * the image's path, so eeprom:%.eep,8192 gives each image its own EEPROM file.
+     **/
+    public void setSPI(String spi){
+        this.spi = spi;
+    }
+    
+    /** Replay a recording on an A/D channel of every board, like adc= in config.ini. The file is
+     * mapped once, and every board shares it.
+     *@param channel 0-7
+     *@param file Raw unsigned 8-bit samples
+     *@param rate Samples per second
+     **/
+    public void addRecording(int channel, String file, double rate) throws IOException {
+        recordings[channel] = new hc11_ADCStream(new File(file), rate);
+    }
+    
+    /** Map a ROM file into every board before the firmware, like romfile= in config.ini.
+     * The file is read once, and every board shares it.
+     *@param address Where to load it
+     *@param file The binary file
+     *@param readOnly True if the firmware can't write to it
+     **/
+    public void addRom(int address, String file, boolean readOnly) throws IOException {
+        farm.addRom(address, new File(file), readOnly);
+    }
+    
+    /** Map the ROM files a config.ini lists into every board, and take its recompiler= setting if it has one **/
+    public void loadConfig(String config) throws IOException {
+        farm.loadConfig(new File(config));
+    }
+    
+    /** Run every image, in parallel
+     *@param images Paths of .elf or .s19 files
+     *@param threads How many to run at once
+     *@return The results, in the same order as the images
+     **/
+    public List<Result> runAll(List<String> images, int threads) throws InterruptedException {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        List<Callable<Result>> runs = new ArrayList<Callable<Result>>();
+        for(final String image : images){
+            runs.add(new Callable<Result>() {
+                public Result call() {
+                    return run(image);
+                }
+            });
+        }
+        List<Result> results = new ArrayList<Result>();
+        try{
+            List<Future<Result>> done = pool.invokeAll(runs);
+            for(int i=0; i<done.size(); i++){
+                try{
+                    results.add(done.get(i).get());
+                }catch(ExecutionException e){
+                    Result failed = new Result(images.get(i));
+                    failed.detail = String.valueOf(e.getCause());
+                    results.add(failed);
+                }
+            }
+        }finally{
+            pool.shutdown();
+        }
+        return results;
+    }
+    
+    /** Load and run one image on a new board. Never throws; problems show in the result. **/
+    public Result run(String image){
+        Result result = new Result(image);
+        long start = System.nanoTime();
+        try{
+            runBoard(image, result);
+        }catch(RuntimeException e){
+            result.status = ERROR;
+            result.detail = e.toString();
+        }
+        result.nanos = System.nanoTime() - start;
+        return result;
+    }
+    
+    private void runBoard(String image, Result result){
+        final fox11w board = farm.newBoard(); //Recompiling or not, as the farm was told
+        if(exitPC >= 0)
+            board.setRecompiling(false); //Compiled blocks don't stop at every PC
+        boolean loaded = image.toLowerCase().endsWith(".s19") ? hc11_Helpers.loadS19(new File(image), board)
+                : hc11_Helpers.loadElf(new File(image), board);
+        if(!loaded){
+            result.status = LOADFAIL;
+            return;
+        }
+        for(int i=0; i<recordings.length; i++)
+            board.getADC().setStream(i, recordings[i]);
+        board.getCOP().setEnabled(cop);
+        if(spi != null){
+            try{
+                board.getSPI().addSlave(spi.replace("%", image));
+            }catch(IOException e){
+                result.status = LOADFAIL;
+                result.detail = "spi " + e.getMessage();
+                return;
+            }
+        }
+        
+        hc11_SerialBridge bridge = null;
+        if(serial != null){
+            try{
+                bridge = hc11_SerialBridge.open(serial.replace("%", image));
+            }catch(IOException e){
+                result.status = LOADFAIL;
+                result.detail = "serial " + e.getMessage();
+                return;
+            }
+            board.getSCI().setBridge(bridge);
+        }
+        try{
+            runLoaded(board, result);
+        }finally{
+            if(bridge != null)
+                bridge.close();
+        }
+    }
+    
+    /** Run a board that has its image loaded, until it passes or its budget runs out **/
+    private void runLoaded(final fox11w board, Result result){
+        fox11_LCD lcd = new fox11_LCD();
+        board.addIOHandler(fox11_LCD.ADDRESS, lcd);
+        final boolean[] hit = new boolean[1];
+        if(exitAddress >= 0){
+            //A write trap ends the running block straight away, so the run stops on the instruction that wrote it
+            board.addTrap(exitAddress, new hc11_ramTrapper() {
+                public void writeTrap(int trapaddr, int instraddr){
+                    if(board.getMemSilent(trapaddr) == exitValue)
+                        hit[0] = true;
+                }
+                
+                public void readTrap(int trapaddr, int instraddr){
+                }
+                
+                public boolean canStop(){
+                    return true;
+                }
+            });
+        }
+        
+        long stoptime = board.getCycles() + budget;
+        long sliceSize = exitText == null ? budget : SLICE; //Only the LCD needs checking between slices
+        result.status = TIMEOUT;
+        while(board.getCycles() < stoptime){
+            long slice = Math.min(stoptime, board.getCycles() + sliceSize);
+            while(board.getCycles() < slice && !hit[0]){
+                long deadline = Math.min(slice, board.getNextEventCycle());
+                if(exitPC < 0)
+                    board.executeBlocks(deadline);
+                else{
+                    board.execute(); //One at a time, so we see every PC
+                    board.idle(deadline);
+                    if(board.getPC() == exitPC){
+                        result.status = PASS;
+                        result.detail = "pc " + Integer.toHexString(exitPC);
+                        break;
+                    }
+                }
+                board.runEvents();
+            }
+            if(result.status == PASS)
+                break;
+            if(hit[0]){
+                result.status = PASS;
+                result.detail = "mem " + Integer.toHexString(exitAddress) + "=" + Integer.toHexString(exitValue);
+                break;
+            }
+            if(exitText != null && (lcd.getLine(0).contains(exitText) || lcd.getLine(1).contains(exitText))){
+                result.status = PASS;
+                result.detail = "lcd \"" + exitText + "\"";
+                break;
+            }
+        }
+        result.cycles = board.getCycles();
+        result.instructions = board.getInstructions();
+        result.pc = board.getPC();
+        if(result.status == TIMEOUT)
+            result.detail = "lcd \"" + lcd.getLine(0).trim() + "|" + lcd.getLine(1).trim() + "\"";
+        if(board.getCOP().getTimeouts() > 0)
+            result.detail += " cop resets " + board.getCOP().getTimeouts();
+    }
+    
+    /**
+     * @param args Options, then the images to run. @file reads a list of images, one per line.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        hc11_BatchRunner runner = new hc11_BatchRunner();
+        int threads = Runtime.getRuntime().availableProcessors();
+        boolean interpret = false; //-norecompile, which wins over config.ini wherever it is
+        List<String> images = new ArrayList<String>();
+        
+        try{
+            for(int i=0; i<args.length; i++){
+                String arg = args[i];
+                if(arg.equals("-cycles"))
+                    runner.setBudget(Long.parseLong(args[++i]));
+                else if(arg.equals("-pc"))
+                    runner.setExitPC(Integer.parseInt(args[++i],16));
+                else if(arg.equals("-mem")){
+                    String value = args[++i];
+                    runner.setExitMemory(Integer.parseInt(value.substring(0,value.indexOf('=')),16),
+                            Integer.parseInt(value.substring(value.indexOf('=')+1),16));
+                }
+                else if(arg.equals("-lcd"))
+                    runner.setExitText(args[++i]);
+                else if(arg.equals("-rom")){
+                    String value = args[++i];
+                    boolean readOnly = value.endsWith(",readonly");
+                    if(readOnly)
+                        value = value.substring(0,value.lastIndexOf(','));
+                    runner.addRom(Integer.parseInt(value.substring(0,value.indexOf(',')),16), value.substring(value.indexOf(',')+1), readOnly);
+                }
+                else if(arg.equals("-config"))
+                    runner.loadConfig(args[++i]);
+                else if(arg.equals("-threads"))
+                    threads = Integer.parseInt(args[++i]);
+                else if(arg.equals("-norecompile"))
+                    interpret = true;
+                else if(arg.equals("-cop"))
+                    runner.setCOP(true);
+                else if(arg.equals("-sci"))
+                    runner.setSerial(args[++i]);
+                else if(arg.equals("-spi"))
+                    runner.setSPI(args[++i]);
+                else if(arg.equals("-adc")){
+                    String[] value = args[++i].split(",");
+                    runner.addRecording(Integer.parseInt(value[0]), value[1], Double.parseDouble(value[2]));
+                }
+                else if(arg.startsWith("@")){
+                    Scanner list = new Scanner(new File(arg.substring(1)));
+                    while(list.hasNextLine()){
+                        String line = list.nextLine().trim();
+                        if(line.length() > 0 && !line.startsWith("#"))
+                            images.add(line);
+                    }
+                    list.close();
+                }
+                else
+                    images.add(arg);
+            }
+        }catch(IOException e){
+            System.out.println("Can't read " + e.getMessage());
+            System.exit(2);
+        }catch(RuntimeException e){
+            System.out.println("Bad arguments: " + e);
+            images.clear();
+        }
+        if(interpret)
+            runner.setRecompiling(false);
+        if(images.isEmpty()){
+            System.out.println("Usage: hc11_BatchRunner [-cycles n] [-pc hex] [-mem addr=value] [-lcd text]");
+            System.out.println("       [-rom addr,file[,readonly]] [-config config.ini] [-sci bridge] [-spi slave]");
+            System.out.println("       [-adc channel,file,rate] [-threads n] [-norecompile] [-cop]");
+            System.out.println("       image... | @listfile");
+            System.exit(2);
+        }
+        
+        long start = System.nanoTime();
+        List<Result> results = runner.runAll(images, threads);
+        long nanos = System.nanoTime() - start;
+        int passed = 0;
+        long cycles = 0;
+        System.out.println("image\tstatus\tcycles\tinstructions\tpc\tms\tdetail");
+        for(Result result : results){
+            System.out.println(result);
+            if(result.status == PASS)
+                passed++;
+            cycles += result.cycles;
+        }
+        System.out.println(passed + "/" + results.size() + " passed in " + (nanos / 1000000) + " ms on "
+                + threads + " threads, " + (cycles * 1000 / Math.max(nanos, 1)) + " MHz total");
+        System.exit(passed == results.size() ? 0 : 1);
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * hc11_Block.java
+ *
+ * Created on October 18, 2026
+ *
+ * A basic block of HC11 code that hc11_Recompiler has translated into a JVM class.
+ */
+
+package hc11emulator;
+
+public abstract class hc11_Block {
+    protected int start; //Address of the first instruction in the block
+    protected int end; //Address just past the last byte of the block
+    
+    /** Run the instructions in this block, leaving the device exactly as the interpreter would.
+     * The block returns early, with PC pointing at the next instruction, if device.blockExit gets set.
+     * A block that branches back to its own start keeps going until device.blockStop cycles.
+     *@param device The device to run on
+     **/
+    public abstract void run(hc11_Device device);
+    
+    /** Get the address of the first instruction in the block **/
+    public int getStart(){
+        return start;
+    }
+    
+    /** Get the address just past the last byte of the block **/
+    public int getEnd(){
+        return end;
+    }
+}
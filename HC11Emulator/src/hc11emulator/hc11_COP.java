@@ -0,0 +1,104 @@
+/*
+ * hc11_COP.java
+ *
+ * Created on October 18, 2026
+ *
+ * The HC11's computer operating properly watchdog: COPRST, and the CR1:CR0 rate bits of OPTION.
+ * The firmware has to write 0x55 then 0xAA to COPRST at least once every timeout, 2^15 E cycles
+ * times 1, 4, 16 or 64 by the rate bits. The timeout is one hc11_Device event, moved along each
+ * time the firmware feeds it, so nothing is checked per instruction. If it ever fires, the board
+ * resets through the COP vector, on exactly the same cycle every run. On the chip, the NOCOP bit
+ * of CONFIG turns the watchdog on. Here it is off until setEnabled() turns it on, since most
+ * firmware written for the emulator never feeds it.
+ */
+
+package hc11emulator;
+
+public class hc11_COP implements hc11_IOHandler, hc11_Event {
+    //Register offsets from the start of the register block
+    public static final int OPTION=0x39, COPRST=0x3A;
+    public static final int ARM=0x55, FEED=0xAA; //What COPRST takes, in that order
+    public static final int COP_CYCLES=1<<15; //E cycles per timeout at the fastest rate
+    public static final int OPTION_RESET=0x10; //OPTION out of reset, with DLY set
+    
+    private final hc11_Device device;
+    private final int base; //Address of the register block
+    private boolean enabled;
+    private boolean armed; //0x55 has been written, and 0xAA would feed it
+    private long fedAt; //Cycle the timeout counts from
+    private int handle = hc11_EventQueue.NONE; //The timeout event
+    private long timeouts; //Resets it has caused
+    
+    /** Creates the watchdog, turned off, and maps its registers
+     *@param device The board it belongs to
+     *@param base Where the register block is mapped
+     **/
+    public hc11_COP(hc11_Device device, int base) {
+        this.device = device;
+        this.base = base;
+        device.addIOHandler(base+OPTION, this);
+        device.addIOHandler(base+COPRST, this);
+        reset();
+    }
+    
+    /** Turn the watchdog on or off, like the NOCOP bit. Turning it on starts a timeout from now.
+     * Call this on the emulator thread, or before it starts.
+     **/
+    public void setEnabled(boolean enabled){
+        this.enabled = enabled;
+        fedAt = device.getCycles();
+        schedule();
+    }
+    
+    public boolean isEnabled(){
+        return enabled;
+    }
+    
+    /** Get the E cycles the firmware has between feeds, by the rate bits of OPTION **/
+    public int getTimeout(){
+        return COP_CYCLES << 2*(device.getMemSilent(base+OPTION) & 3);
+    }
+    
+    /** Get the number of times the watchdog has reset the board **/
+    public long getTimeouts(){
+        return timeouts;
+    }
+    
+    /** Put OPTION back the way it is out of reset, and start a new timeout. The board resets the
+     * watchdog along with everything else, and it keeps running.
+     **/
+    public void reset(){
+        device.getMemoryMap().poke(base+OPTION, OPTION_RESET);
+        armed = false;
+        fedAt = device.getCycles();
+        schedule();
+    }
+    
+    public int ioRead(int address){
+        return device.getMemSilent(address);
+    }
+    
+    public void ioWrite(int address, int value){
+        if(address == base+OPTION)
+            schedule(); //The rate may have changed
+        else if(value == ARM)
+            armed = true;
+        else if(value == FEED && armed){
+            armed = false;
+            fedAt = device.getCycles();
+            schedule();
+        }
+    }
+    
+    /** The firmware didn't feed it in time **/
+    public void eventFired(long cycle, int id){
+        timeouts++;
+        device.reset(hc11_Interrupts.COP_VECTOR);
+    }
+    
+    /** Move the timeout event to a timeout after the last feed **/
+    private void schedule(){
+        device.cancelEvent(handle); //Does nothing if it already fired, or is NONE
+        handle = enabled ? device.scheduleEvent(fedAt + getTimeout(), this, 0) : hc11_EventQueue.NONE;
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * hc11_ClassFile.java
+ *
+ * Created on October 18, 2026
+ *
+ * Just enough of a JVM class file writer for hc11_Recompiler. It builds the constant pool,
+ * takes method bodies as raw bytecode, and writes a version 49 class file so that no
+ * StackMapTable is needed.
+ */
+
+package hc11emulator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+public class hc11_ClassFile {
+    //Constant pool tags
+    private static final int UTF8=1, INTEGER=3, CLASS=7, FIELDREF=9, METHODREF=10, NAMEANDTYPE=12;
+    
+    //Access flags
+    public static final int ACC_PUBLIC=0x0001, ACC_FINAL=0x0010, ACC_SUPER=0x0020;
+    
+    //The few opcodes the recompiler emits
+    public static final int ICONST_0=0x03, BIPUSH=0x10, SIPUSH=0x11, LDC=0x12, LDC_W=0x13, I2L=0x85, LADD=0x61,
+            DUP=0x59, ALOAD_0=0x2A, ALOAD_1=0x2B, LCMP=0x94, IFEQ=0x99, IFNE=0x9A, IFGE=0x9C, IF_ICMPNE=0xA0,
+            GOTO=0xA7, RETURN=0xB1, GETFIELD=0xB4, PUTFIELD=0xB5,
+            INVOKEVIRTUAL=0xB6, INVOKESPECIAL=0xB7;
+    
+    private final ByteArrayOutputStream poolBytes = new ByteArrayOutputStream();
+    private final DataOutputStream pool = new DataOutputStream(poolBytes);
+    private final HashMap<String,Integer> poolIndex = new HashMap<String,Integer>();
+    private int poolCount = 1; //Entry 0 is never used
+    private final ArrayList<byte[]> methods = new ArrayList<byte[]>();
+    private final String name, superName;
+    
+    /** Start a new class file
+     *@param name The internal name of the class, like hc11emulator/hc11_Block
+     *@param superName The internal name of its superclass
+     **/
+    public hc11_ClassFile(String name, String superName) {
+        this.name = name;
+        this.superName = superName;
+    }
+    
+    /** Get the constant pool index of a UTF8 string, adding it if needed **/
+    public int utf8(String value){
+        Integer index = poolIndex.get("U" + value);
+        if(index != null)
+            return index.intValue();
+        try {
+            pool.writeByte(UTF8);
+            pool.writeUTF(value);
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return add("U" + value, 1);
+    }
+    
+    /** Get the constant pool index of an int constant, adding it if needed **/
+    public int integer(int value){
+        Integer index = poolIndex.get("I" + value);
+        if(index != null)
+            return index.intValue();
+        try {
+            pool.writeByte(INTEGER);
+            pool.writeInt(value);
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return add("I" + value, 1);
+    }
+    
+    /** Get the constant pool index of a class reference **/
+    public int classRef(String className){
+        return ref(CLASS, "C" + className, utf8(className), -1);
+    }
+    
+    /** Get the constant pool index of a field reference **/
+    public int fieldRef(String owner, String field, String descriptor){
+        return ref(FIELDREF, "F" + owner + "." + field + ":" + descriptor, classRef(owner), nameAndType(field, descriptor));
+    }
+    
+    /** Get the constant pool index of a method reference **/
+    public int methodRef(String owner, String method, String descriptor){
+        return ref(METHODREF, "M" + owner + "." + method + descriptor, classRef(owner), nameAndType(method, descriptor));
+    }
+    
+    /** Get the constant pool index of a name and type pair **/
+    private int nameAndType(String member, String descriptor){
+        return ref(NAMEANDTYPE, "N" + member + ":" + descriptor, utf8(member), utf8(descriptor));
+    }
+    
+    /** Add a constant that is made of one or two other constants **/
+    private int ref(int tag, String key, int first, int second){
+        Integer index = poolIndex.get(key);
+        if(index != null)
+            return index.intValue();
+        try {
+            pool.writeByte(tag);
+            pool.writeShort(first);
+            if(second >= 0)
+                pool.writeShort(second);
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return add(key, 1);
+    }
+    
+    /** Remember where a constant was added, and reserve its pool entries **/
+    private int add(String key, int size){
+        int index = poolCount;
+        poolIndex.put(key, Integer.valueOf(index));
+        poolCount += size;
+        if(poolCount > 0xFFFF)
+            throw new IllegalStateException("Constant pool is full");
+        return index;
+    }
+    
+    /** Add a method to the class
+     *@param access The access flags of the method
+     *@param method The name of the method
+     *@param descriptor The method descriptor, like (Lhc11emulator/hc11_Device;)V
+     *@param maxStack The deepest the operand stack gets
+     *@param maxLocals The number of local variable slots, including this and the parameters
+     *@param code The bytecode of the method
+     **/
+    public void addMethod(int access, String method, String descriptor, int maxStack, int maxLocals, byte[] code){
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeShort(access);
+            out.writeShort(utf8(method));
+            out.writeShort(utf8(descriptor));
+            out.writeShort(1); //One attribute, the code
+            out.writeShort(utf8("Code"));
+            out.writeInt(12 + code.length);
+            out.writeShort(maxStack);
+            out.writeShort(maxLocals);
+            out.writeInt(code.length);
+            out.write(code);
+            out.writeShort(0); //No exception table
+            out.writeShort(0); //No attributes
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        methods.add(bytes.toByteArray());
+    }
+    
+    /** Write out the finished class file **/
+    public byte[] toByteArray(int access){
+        int thisIndex = classRef(name);
+        int superIndex = classRef(superName);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0); //Minor version
+            out.writeShort(49); //Major version. Java 5 class files are verified without stack maps.
+            out.writeShort(poolCount);
+            out.write(poolBytes.toByteArray());
+            out.writeShort(access);
+            out.writeShort(thisIndex);
+            out.writeShort(superIndex);
+            out.writeShort(0); //No interfaces
+            out.writeShort(0); //No fields
+            out.writeShort(methods.size());
+            for(byte[] method : methods)
+                out.write(method);
+            out.writeShort(0); //No attributes
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return bytes.toByteArray();
+    }
+    
+}
@@ -0,0 +1,85 @@
+/*
+ * hc11_Command.java
+ *
+ * Created on October 18, 2026
+ *
+ * Something for hc11_thread to do, posted from another thread with hc11_thread.post(). The emulator
+ * thread is the only one that runs the board, and it picks commands up between slices, so other
+ * threads never touch the board while it is running.
+ */
+
+package hc11emulator;
+
+public class hc11_Command {
+    //Kinds of command. The argument each takes is in brackets.
+    public static final int RUN=0; //Run until stopped
+    public static final int STOP=1; //Stop running
+    public static final int STEP=2; //Execute (argument) instructions straight away, without pacing
+    public static final int STEP_OVER=3; //Step, but run a JSR, BSR or SWI until it returns
+    public static final int STEP_OUT=4; //Run until the current subroutine or interrupt returns
+    public static final int RUN_TO=5; //Run until PC reaches (argument)
+    public static final int RUN_FOR=6; //Run for (argument) cycles
+    public static final int QUIT=7; //Stop, and end the thread
+    public static final int CALL=8; //Run (action) on the emulator thread, without stopping a run
+    
+    private final int kind;
+    private final long argument;
+    private final Runnable action; //What a CALL runs. Null for the other kinds.
+    private final Runnable done; //Run on the Swing event thread when the command has finished. Can be null.
+    private final long posted; //System.nanoTime() when the command was made
+    
+    /** Creates a command that takes no argument **/
+    public hc11_Command(int kind) {
+        this(kind, 0, null);
+    }
+    
+    /** Creates a CALL, which runs an action on the emulator thread between slices. Use it for
+     * anything that changes what the board's running code looks at, like breakpoints and traps.
+     *@param action What to run
+     *@param done Run on the Swing event thread once the action has run. Can be null.
+     **/
+    public hc11_Command(Runnable action, Runnable done) {
+        if(action == null)
+            throw new IllegalArgumentException("A CALL needs an action");
+        kind = CALL;
+        argument = 0;
+        this.action = action;
+        this.done = done;
+        posted = System.nanoTime();
+    }
+    
+    /** Creates a new command
+     *@param kind What to do
+     *@param argument The instruction count, address or cycle count the kind takes
+     *@param done Run on the Swing event thread once the command has finished, or been stopped. Can be null.
+     **/
+    public hc11_Command(int kind, long argument, Runnable done) {
+        if(kind < RUN || kind > QUIT)
+            throw new IllegalArgumentException("Unknown command: " + kind);
+        this.kind = kind;
+        this.argument = argument;
+        action = null;
+        this.done = done;
+        posted = System.nanoTime();
+    }
+    
+    public int getKind(){
+        return kind;
+    }
+    
+    public long getArgument(){
+        return argument;
+    }
+    
+    Runnable getAction(){
+        return action;
+    }
+    
+    Runnable getDone(){
+        return done;
+    }
+    
+    long getPosted(){
+        return posted;
+    }
+}
@@ -0,0 +1,306 @@
+/*
+ * hc11_DecodeCache.java
+ *
+ * Created on October 18, 2026
+ *
+ * Remembers the decoded form of every instruction that has been executed, keyed by its address.
+ * Each address has an entry word holding the handler id and length, and an operand word holding
+ * the operand bytes. Base cycle counts come from a table indexed by handler id. Entries are thrown
+ * away when the memory they were decoded from is written.
+ */
+
+package hc11emulator;
+
+import java.util.Arrays;
+
+public class hc11_DecodeCache {
+    private final hc11_Device device; //The device whose memory we decode from
+    
+    //One entry per address. An entry of 0 means nothing has been decoded there.
+    final int[] entries = new int[0x10000]; //(length<<LENGTH_SHIFT)|(cycles<<CYCLES_SHIFT)|VALID|handler
+    final int[] operands = new int[0x10000]; //Operand bytes, big-endian
+    private final boolean[] decoded = new boolean[0x100]; //Pages that have had anything decoded in them
+    
+    //Layout of an entry. The handler id is (page<<8)|opcode, with pages numbered from 0.
+    private static final int HANDLER_MASK=0x3FF, VALID=0x400, CYCLES_SHIFT=11, LENGTH_SHIFT=17;
+    private static final int MAX_LENGTH=5; //BRSET/BRCLR with the 0x18 prebyte
+    
+    /** Length of every handler id, indexed by (page<<8)|opcode. Pages are numbered from 0. **/
+    private static final byte[] LENGTH = new byte[0x400];
+    /** Base cycle count of every handler id, indexed the same way as LENGTH. **/
+    private static final byte[] CYCLES = new byte[0x400];
+    
+    /** Length in bytes of each page 1 opcode, including any prebyte. **/
+    private static final int[] PAGE1_LENGTH = {
+        1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1, //0x00
+        1,1,4,4,3,3,1,1,0,1,0,1,3,3,4,4, //0x10
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0x20
+        1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1, //0x30
+        1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1, //0x40
+        1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1, //0x50
+        2,1,1,2,2,1,2,2,2,2,2,1,2,2,2,2, //0x60
+        3,1,1,3,3,1,3,3,3,3,3,1,3,3,3,3, //0x70
+        2,2,2,3,2,2,2,1,2,2,2,2,3,2,3,1, //0x80
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0x90
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0xA0
+        3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3, //0xB0
+        2,2,2,3,2,2,2,1,2,2,2,2,3,0,3,1, //0xC0
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0xD0
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0xE0
+        3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3 //0xF0
+    };
+    
+    /** Base cycle count of each page 1 opcode. **/
+    private static final int[] PAGE1_CYCLES = {
+        2,2,41,41,3,3,2,2,3,3,2,2,2,2,2,2, //0x00
+        2,2,6,6,6,6,2,2,0,2,0,2,7,7,7,7, //0x10
+        3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3, //0x20
+        3,3,4,4,3,3,3,3,5,5,3,12,4,10,14,14, //0x30
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0x40
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0x50
+        6,2,2,6,6,2,6,6,6,6,6,2,6,6,3,6, //0x60
+        6,2,2,6,6,2,6,6,6,6,6,2,6,6,3,6, //0x70
+        2,2,2,4,2,2,2,2,2,2,2,2,4,6,3,3, //0x80
+        3,3,3,5,3,3,3,3,3,3,3,3,5,5,4,4, //0x90
+        4,4,4,6,4,4,4,4,4,4,4,4,6,6,5,5, //0xA0
+        4,4,4,6,4,4,4,4,4,4,4,4,6,6,5,5, //0xB0
+        2,2,2,4,2,2,2,2,2,2,2,2,3,0,3,2, //0xC0
+        3,3,3,5,3,3,3,3,3,3,3,3,4,4,4,4, //0xD0
+        4,4,4,6,4,4,4,4,4,4,4,4,5,5,5,5, //0xE0
+        4,4,4,6,4,4,4,4,4,4,4,4,5,5,5,5 //0xF0
+    };
+    
+    /** Length in bytes of each page 2 opcode, including any prebyte. **/
+    private static final int[] PAGE2_LENGTH = {
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0x18 0x00
+        2,2,2,2,2,2,2,2,2,2,2,2,4,4,5,5, //0x18 0x10
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0x18 0x20
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0x18 0x30
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0x18 0x40
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0x18 0x50
+        3,2,2,3,3,2,3,3,3,3,3,2,3,3,3,3, //0x18 0x60
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0x18 0x70
+        2,2,2,2,2,2,2,2,2,2,2,2,4,2,2,2, //0x18 0x80
+        2,2,2,2,2,2,2,2,2,2,2,2,3,2,2,2, //0x18 0x90
+        3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3, //0x18 0xA0
+        2,2,2,2,2,2,2,2,2,2,2,2,4,2,2,2, //0x18 0xB0
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,4,2, //0x18 0xC0
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,3,3, //0x18 0xD0
+        3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3, //0x18 0xE0
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,4,4 //0x18 0xF0
+    };
+    
+    /** Base cycle count of each page 2 opcode. **/
+    private static final int[] PAGE2_CYCLES = {
+        2,2,2,2,2,2,2,2,4,4,2,2,2,2,2,2, //0x18 0x00
+        2,2,2,2,2,2,2,2,2,2,2,2,8,8,8,8, //0x18 0x10
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0x18 0x20
+        4,2,2,2,2,4,2,2,6,2,4,2,5,2,2,2, //0x18 0x30
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0x18 0x40
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0x18 0x50
+        7,2,2,7,7,2,7,7,7,7,7,2,7,7,4,7, //0x18 0x60
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0x18 0x70
+        2,2,2,2,2,2,2,2,2,2,2,2,5,2,2,4, //0x18 0x80
+        2,2,2,2,2,2,2,2,2,2,2,2,6,2,2,2, //0x18 0x90
+        5,5,5,7,5,5,6,5,5,5,5,5,7,7,6,6, //0x18 0xA0
+        2,2,2,2,2,2,2,2,2,2,2,2,7,2,2,2, //0x18 0xB0
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,4,2, //0x18 0xC0
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,5,5, //0x18 0xD0
+        5,5,5,7,5,5,5,5,5,5,5,5,6,6,6,6, //0x18 0xE0
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,6,6 //0x18 0xF0
+    };
+    
+    /** Length in bytes of each page 3 opcode, including any prebyte. **/
+    private static final int[] PAGE3_LENGTH = {
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0x1A 0x00
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0x1A 0x10
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0x1A 0x20
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0x1A 0x30
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0x1A 0x40
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0x1A 0x50
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0x1A 0x60
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0x1A 0x70
+        2,2,2,4,2,2,2,2,2,2,2,2,2,2,2,2, //0x1A 0x80
+        2,2,2,3,2,2,2,2,2,2,2,2,2,2,2,2, //0x1A 0x90
+        2,2,2,3,2,2,2,2,2,2,2,2,3,2,2,2, //0x1A 0xA0
+        2,2,2,4,2,2,2,2,2,2,2,2,2,2,2,2, //0x1A 0xB0
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0x1A 0xC0
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0x1A 0xD0
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,3,3, //0x1A 0xE0
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2 //0x1A 0xF0
+    };
+    
+    /** Base cycle count of each page 3 opcode. **/
+    private static final int[] PAGE3_CYCLES = {
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0x1A 0x00
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0x1A 0x10
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0x1A 0x20
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0x1A 0x30
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0x1A 0x40
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0x1A 0x50
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0x1A 0x60
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0x1A 0x70
+        2,2,2,5,2,2,2,2,2,2,2,2,2,2,2,2, //0x1A 0x80
+        2,2,2,6,2,2,2,2,2,2,2,2,2,2,2,2, //0x1A 0x90
+        2,2,2,7,2,2,2,2,2,2,2,2,7,2,2,2, //0x1A 0xA0
+        2,2,2,7,2,2,2,2,2,2,2,2,2,2,2,2, //0x1A 0xB0
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0x1A 0xC0
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0x1A 0xD0
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,6,6, //0x1A 0xE0
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2 //0x1A 0xF0
+    };
+    
+    /** Length in bytes of each page 4 opcode, including any prebyte. **/
+    private static final int[] PAGE4_LENGTH = {
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0xCD 0x00
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0xCD 0x10
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0xCD 0x20
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0xCD 0x30
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0xCD 0x40
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0xCD 0x50
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0xCD 0x60
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0xCD 0x70
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0xCD 0x80
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0xCD 0x90
+        2,2,2,3,2,2,2,2,2,2,2,2,3,2,2,2, //0xCD 0xA0
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0xCD 0xB0
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0xCD 0xC0
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0xCD 0xD0
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,3,3, //0xCD 0xE0
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2 //0xCD 0xF0
+    };
+    
+    /** Base cycle count of each page 4 opcode. **/
+    private static final int[] PAGE4_CYCLES = {
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0xCD 0x00
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0xCD 0x10
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0xCD 0x20
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0xCD 0x30
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0xCD 0x40
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0xCD 0x50
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0xCD 0x60
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0xCD 0x70
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0xCD 0x80
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0xCD 0x90
+        2,2,2,7,2,2,2,2,2,2,2,2,7,2,2,2, //0xCD 0xA0
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0xCD 0xB0
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0xCD 0xC0
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2, //0xCD 0xD0
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,6,6, //0xCD 0xE0
+        2,2,2,2,2,2,2,2,2,2,2,2,2,2,2,2 //0xCD 0xF0
+    };
+    
+    static{
+        int[][] lengths = {PAGE1_LENGTH, PAGE2_LENGTH, PAGE3_LENGTH, PAGE4_LENGTH};
+        int[][] cycles = {PAGE1_CYCLES, PAGE2_CYCLES, PAGE3_CYCLES, PAGE4_CYCLES};
+        for(int page=0; page<4; page++){
+            for(int op=0; op<0x100; op++){
+                LENGTH[(page<<8)|op] = (byte)lengths[page][op];
+                CYCLES[(page<<8)|op] = (byte)cycles[page][op];
+            }
+        }
+    }
+    
+    /** Creates a new, empty decode cache for the device passed in. **/
+    public hc11_DecodeCache(hc11_Device device) {
+        this.device = device;
+    }
+    
+    /** Get the entry for the instruction at an address, decoding it now if it isn't cached.
+     *  The length is kept in the same word as the handler id, so that the next PC only waits on one load.
+     *@param addr The address of the first byte of the instruction, including any prebyte
+     *@return The entry. Use handler() and length() to unpack it, and operand() for its operand bytes.
+     */
+    public int fetch(int addr){
+        int entry = entries[addr];
+        if(entry == 0)
+            entry = decode(addr);
+        return entry;
+    }
+    
+    /** The operand bytes of the instruction decoded at an address, big-endian. **/
+    public int operand(int addr){
+        return operands[addr];
+    }
+    
+    /** The handler id of an entry, (page<<8)|opcode with pages numbered from 0. **/
+    public static int handler(int entry){
+        return entry & HANDLER_MASK;
+    }
+    
+    /** The length in bytes of an entry, including any prebyte. **/
+    public static int length(int entry){
+        return entry >>> LENGTH_SHIFT;
+    }
+    
+    /** The base cycle count of an entry, so execute() doesn't have to look it up by handler. **/
+    public static int entryCycles(int entry){
+        return (entry >>> CYCLES_SHIFT) & 0x3F;
+    }
+    
+    /** The base cycle count of a handler id. **/
+    public static int cycles(int handler){
+        return CYCLES[handler];
+    }
+    
+    /** Decode the instruction at an address and store it in the cache **/
+    private int decode(int addr){
+        int handler = device.getMemSilent(addr);
+        int opbytes = 1;
+        
+        //Prebytes select pages 2, 3 and 4.
+        if(handler == 0x18){
+            handler = 0x100 | device.getMemSilent((addr+1)&0xFFFF);
+            opbytes = 2;
+        }
+        else if(handler == 0x1A){
+            handler = 0x200 | device.getMemSilent((addr+1)&0xFFFF);
+            opbytes = 2;
+        }
+        else if(handler == 0xCD){
+            handler = 0x300 | device.getMemSilent((addr+1)&0xFFFF);
+            opbytes = 2;
+        }
+        
+        int length = LENGTH[handler];
+        int operand = 0;
+        for(int i=opbytes; i<length; i++)
+            operand = (operand<<8) | device.getMemSilent((addr+i)&0xFFFF);
+        
+        int entry = (length<<LENGTH_SHIFT) | (CYCLES[handler]<<CYCLES_SHIFT) | VALID | handler;
+        operands[addr] = operand;
+        entries[addr] = entry;
+        decoded[addr>>8] = true;
+        return entry;
+    }
+    
+    /** A byte of memory has changed. Forget any instruction that was decoded from it.
+     *@param addr The address that was written
+     */
+    public void invalidate(int addr){
+        //An instruction covering addr can start up to MAX_LENGTH-1 bytes before it.
+        if(!decoded[addr>>8] && ((addr&0xFF) >= MAX_LENGTH-1 || !decoded[((addr-MAX_LENGTH+1)>>8)&0xFF]))
+            return;
+        for(int back=0; back<MAX_LENGTH; back++){
+            int start = (addr-back)&0xFFFF;
+            if(length(entries[start]) > back)
+                entries[start] = 0;
+        }
+    }
+    
+    /** A block of memory has changed. Forget any instruction that was decoded from it.
+     *@param addr The first address that was written
+     *@param count The number of bytes written
+     */
+    public void invalidate(int addr, int count){
+        for(int i=0; i<count; i++)
+            invalidate((addr+i)&0xFFFF);
+    }
+    
+    /** Forget everything that has been decoded. **/
+    public void clear(){
+        Arrays.fill(entries, 0);
+        Arrays.fill(decoded, false);
+    }
+    
+}
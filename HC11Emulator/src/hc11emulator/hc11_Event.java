@@ -0,0 +1,19 @@
+/*
+ * hc11_Event.java
+ *
+ * Created on October 18, 2026
+ *
+ * Something on the board that wants to run at a given cycle, like a timer or a serial port.
+ * Schedule it with hc11_Device.scheduleEvent().
+ */
+
+package hc11emulator;
+
+public interface hc11_Event {
+    /** Called when the cycle counter reaches the cycle this event was scheduled for. The instruction
+     * that crossed it has already finished, so the counter may be a few cycles past.
+     *@param cycle The cycle the event was due on
+     *@param id The id it was scheduled with, so one class can tell its events apart
+     **/
+    public void eventFired(long cycle, int id);
+}
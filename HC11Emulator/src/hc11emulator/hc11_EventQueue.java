@@ -0,0 +1,192 @@
+/*
+ * hc11_EventQueue.java
+ *
+ * Created on October 18, 2026
+ *
+ * A queue of hc11_Events ordered by the cycle they are due on. It is a binary min-heap kept in
+ * plain arrays, so scheduling and firing an event allocates nothing once the arrays are big enough.
+ * Events due on the same cycle fire in the order they were scheduled.
+ */
+
+package hc11emulator;
+
+import java.util.Arrays;
+
+public class hc11_EventQueue {
+    private static final int SLOT_BITS=16, SLOT_MASK=(1<<SLOT_BITS)-1; //Handles are a slot plus a use count
+    private static final int USE_MASK=0x7FFF; //Use counts wrap here, so handles are never negative
+    public static final int NONE=-1; //A handle no event ever gets, for "nothing scheduled". cancel() ignores it.
+    
+    //The heap, by position. Position 0 is the next event due.
+    private long[] times = new long[16]; //Cycle each event is due on
+    private long[] order = new long[16]; //When it was scheduled, to break ties
+    private int[] heap = new int[16]; //Slot holding the rest of the event
+    private int size;
+    
+    //The events, by slot
+    private hc11_Event[] events = new hc11_Event[16];
+    private int[] ids = new int[16];
+    private int[] position = new int[16]; //Where the slot is in the heap, or -1 if it is free
+    private int[] uses = new int[16]; //Bumped each time the slot is freed, so old handles stop working
+    private int[] free = new int[16]; //Stack of free slots
+    private int freeCount;
+    private int slots; //Slots handed out so far
+    private long scheduled; //Events ever scheduled
+    
+    /** Creates a new, empty event queue */
+    public hc11_EventQueue() {
+    }
+    
+    /** Add an event to the queue
+     *@param cycle The cycle it is due on
+     *@param event What to call when it is due
+     *@param id Passed back to the event when it fires
+     *@return A handle that can be passed to cancel()
+     **/
+    public int schedule(long cycle, hc11_Event event, int id){
+        int slot;
+        if(freeCount > 0)
+            slot = free[--freeCount];
+        else{
+            if(slots == SLOT_MASK+1)
+                throw new IllegalStateException("Too many events scheduled");
+            if(slots == events.length)
+                growSlots();
+            slot = slots++;
+        }
+        events[slot] = event;
+        ids[slot] = id;
+        
+        if(size == heap.length)
+            growHeap();
+        int pos = size++;
+        times[pos] = cycle;
+        order[pos] = scheduled++;
+        heap[pos] = slot;
+        position[slot] = pos;
+        siftUp(pos);
+        return (uses[slot]<<SLOT_BITS) | slot;
+    }
+    
+    /** Take an event back out of the queue
+     *@param handle The handle schedule() returned
+     *@return True if it was removed, false if it had already fired or been cancelled
+     **/
+    public boolean cancel(int handle){
+        if(handle == NONE)
+            return false;
+        int slot = handle & SLOT_MASK;
+        if(slot >= slots || uses[slot] != (handle>>>SLOT_BITS) || position[slot] < 0)
+            return false;
+        removeAt(position[slot]);
+        return true;
+    }
+    
+    /** Get the cycle the next event is due on, or Long.MAX_VALUE if there isn't one **/
+    public long nextCycle(){
+        return size == 0 ? Long.MAX_VALUE : times[0];
+    }
+    
+    /** Take the next event off the queue and fire it. Only call this if the queue isn't empty.
+     * The event may schedule more events, including ones that are already due.
+     **/
+    public void fireNext(){
+        long cycle = times[0];
+        int slot = heap[0];
+        hc11_Event event = events[slot];
+        int id = ids[slot];
+        removeAt(0);
+        event.eventFired(cycle, id);
+    }
+    
+    /** Get the number of events waiting **/
+    public int size(){
+        return size;
+    }
+    
+    /** Throw away every event **/
+    public void clear(){
+        while(size > 0)
+            removeAt(size-1);
+    }
+    
+    /** Remove the event at a heap position, and free its slot **/
+    private void removeAt(int pos){
+        int slot = heap[pos];
+        events[slot] = null;
+        position[slot] = -1;
+        uses[slot] = (uses[slot]+1) & USE_MASK; //Old handles to this slot stop working
+        free[freeCount++] = slot;
+        
+        int last = --size;
+        if(pos != last){
+            move(last, pos);
+            siftDown(pos);
+            siftUp(pos);
+        }
+    }
+    
+    /** Check if the event at heap position a is due before the one at b **/
+    private boolean before(int a, int b){
+        return times[a] < times[b] || (times[a] == times[b] && order[a] < order[b]);
+    }
+    
+    private void siftUp(int pos){
+        while(pos > 0){
+            int parent = (pos-1) >> 1;
+            if(!before(pos, parent))
+                break;
+            swap(pos, parent);
+            pos = parent;
+        }
+    }
+    
+    private void siftDown(int pos){
+        while(true){
+            int child = 2*pos + 1;
+            if(child >= size)
+                break;
+            if(child+1 < size && before(child+1, child))
+                child++;
+            if(!before(child, pos))
+                break;
+            swap(pos, child);
+            pos = child;
+        }
+    }
+    
+    /** Move the event at heap position from to position to **/
+    private void move(int from, int to){
+        times[to] = times[from];
+        order[to] = order[from];
+        heap[to] = heap[from];
+        position[heap[to]] = to;
+    }
+    
+    private void swap(int a, int b){
+        long time = times[a];
+        long when = order[a];
+        int slot = heap[a];
+        move(b, a);
+        times[b] = time;
+        order[b] = when;
+        heap[b] = slot;
+        position[slot] = b;
+    }
+    
+    private void growHeap(){
+        int length = heap.length*2;
+        times = Arrays.copyOf(times, length);
+        order = Arrays.copyOf(order, length);
+        heap = Arrays.copyOf(heap, length);
+    }
+    
+    private void growSlots(){
+        int length = events.length*2;
+        events = Arrays.copyOf(events, length);
+        ids = Arrays.copyOf(ids, length);
+        position = Arrays.copyOf(position, length);
+        uses = Arrays.copyOf(uses, length);
+        free = Arrays.copyOf(free, length);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * hc11_Farm.java
+ *
+ * Created on October 18, 2026
+ *
+ * Makes any number of fox11w boards that boot the same ROM files. The files are read once, into
+ * hc11_RomImages, and every board's ROM pages point at the same arrays. A ROM the firmware can
+ * write to stays shared until a board writes one of its pages, and so does any page nothing has
+ * written yet. That leaves each board's flat decode cache as most of what it costs: two ints for
+ * each of the 64k addresses, 512 KB whatever the firmware does. It stays flat because paging it
+ * slows every instruction down. So a board takes about 530 KB, and a thousand of them need over
+ * half a gigabyte of heap.
+ */
+
+package hc11emulator;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+
+public class hc11_Farm {
+    private final List<Rom> roms = new ArrayList<Rom>(); //Mapped into every new board
+    private boolean recompiling; //Whether new boards use the block recompiler
+    
+    /** A ROM image, and whether the firmware can write to it **/
+    private static class Rom {
+        final hc11_RomImage image;
+        final boolean readOnly;
+        
+        Rom(hc11_RomImage image, boolean readOnly) {
+            this.image = image;
+            this.readOnly = readOnly;
+        }
+    }
+    
+    /** Creates a farm with no ROMs, making plain all-RAM boards **/
+    public hc11_Farm() {
+    }
+    
+    /** Add a ROM file to every board made from now on, which the firmware can write to like RAM
+     *@param address Where it loads
+     *@param file The binary file
+     **/
+    public void addRom(int address, File file) throws IOException {
+        addRom(address, file, false);
+    }
+    
+    /** Add a ROM file to every board made from now on
+     *@param address Where it loads
+     *@param file The binary file
+     *@param readOnly True to make it ROM the firmware can't write, as the chip's own ROM would be
+     **/
+    public void addRom(int address, File file, boolean readOnly) throws IOException {
+        roms.add(new Rom(hc11_RomImage.load(file, address), readOnly));
+    }
+    
+    /** Read the romfile= and recompiler= settings from a config.ini, the same way DebuggerWindow does **/
+    public void loadConfig(File config) throws IOException {
+        Scanner confRead = new Scanner(config);
+        try{
+            while(confRead.hasNextLine()){
+                String line = confRead.nextLine();
+                if(line.indexOf('=')>0){
+                    String setting = line.substring(0,line.indexOf('='));
+                    String value = line.substring(line.indexOf('=')+1,line.length());
+                    if(setting.equals("romfile")){
+                        boolean readOnly = value.endsWith(",readonly");
+                        if(readOnly)
+                            value = value.substring(0,value.lastIndexOf(','));
+                        addRom(Integer.parseInt(value.substring(0,value.indexOf(',')),16),
+                                new File(value.substring(value.indexOf(',')+1,value.length())), readOnly);
+                    }
+                    else if(setting.equals("recompiler"))
+                        recompiling = value.equals("on");
+                }
+            }
+        }finally{
+            confRead.close();
+        }
+    }
+    
+    public void setRecompiling(boolean recompiling){
+        this.recompiling = recompiling;
+    }
+    
+    /** Make a new board with every ROM mapped, ready to load firmware into **/
+    public fox11w newBoard(){
+        fox11w board = new fox11w();
+        for(Rom rom : roms)
+            board.getMemoryMap().mapROM(rom.image, rom.readOnly);
+        board.setRecompiling(recompiling);
+        return board;
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * hc11_FlagTables.java
+ *
+ * Created on October 18, 2026
+ *
+ * Lookup tables for the result and condition codes of the 8-bit ALU instructions. Each entry has the
+ * 8-bit result in its low byte and the CCR bits the instruction sets above that, so hc11_Instructions
+ * can do one array read instead of a chain of compares. The tables are built when the class loads,
+ * from reference versions of the old branching code, and then checked against a second, bitwise
+ * working of every flag before anything can use them.
+ */
+
+package hc11emulator;
+
+public final class hc11_FlagTables {
+    //CCR bits
+    public static final int H=0x20, N=0x08, Z=0x04, V=0x02, C=0x01;
+    
+    //The CCR bits each kind of instruction changes. The rest are left alone.
+    public static final int ADD_FLAGS=H|N|Z|V|C, SUB_FLAGS=N|Z|V|C, INC_FLAGS=N|Z|V,
+            ASL_FLAGS=N|Z|V|C, SHIFT_RIGHT_FLAGS=N|Z|C, ROTATE_FLAGS=C;
+    
+    //Add and subtract, indexed by (carry<<16)|(a<<8)|b. Compare uses the subtract table.
+    static final short[] ADD = new short[0x20000];
+    static final short[] SUB = new short[0x20000];
+    //Increment, decrement and shifts, indexed by the value
+    static final short[] INC = new short[0x100];
+    static final short[] DEC = new short[0x100];
+    static final short[] ASL = new short[0x100];
+    static final short[] ASR = new short[0x100];
+    static final short[] LSR = new short[0x100];
+    //Rotates, indexed by (carry<<8)|value
+    static final short[] ROL = new short[0x200];
+    static final short[] ROR = new short[0x200];
+    
+    static{
+        for(int carry=0; carry<2; carry++){
+            for(int a=0; a<0x100; a++){
+                for(int b=0; b<0x100; b++){
+                    ADD[(carry<<16)|(a<<8)|b] = (short)referenceAdd(a, b, carry);
+                    SUB[(carry<<16)|(a<<8)|b] = (short)referenceSub(a, b, carry);
+                }
+                ROL[(carry<<8)|a] = (short)referenceRol(a, carry);
+                ROR[(carry<<8)|a] = (short)referenceRor(a, carry);
+            }
+        }
+        for(int value=0; value<0x100; value++){
+            INC[value] = (short)referenceInc(value);
+            DEC[value] = (short)referenceDec(value);
+            ASL[value] = (short)referenceAsl(value);
+            ASR[value] = (short)referenceAsr(value);
+            LSR[value] = (short)referenceLsr(value);
+        }
+        verify();
+    }
+    
+    private hc11_FlagTables() {
+    }
+    
+    /** Work out the Z and N bits of an 8-bit result, the way updateCCR8 always has **/
+    private static int nz(int result){
+        if(result == 0)
+            return Z;
+        else if(result >= 0x80)
+            return N;
+        return 0;
+    }
+    
+    /** Reference ADDA/ADCA. V is set along with C, like it always has been in this emulator. **/
+    static int referenceAdd(int a, int b, int carry){
+        int flags = 0;
+        if((a&0xF)+(b&0xF)+carry > 0xF)
+            flags |= H; //Half carry
+        
+        int result = a + b + carry;
+        if(result > 255){
+            result -= 256;
+            flags |= V|C;
+        }
+        flags |= nz(result);
+        return (flags<<8) | result;
+    }
+    
+    /** Reference SUBA/SBCA/CMPA **/
+    static int referenceSub(int a, int b, int carry){
+        int flags = 0;
+        int result = a - b;
+        if(carry == 1)
+            result--; //Carry bit set, subtract one more.
+        if(result < 0){
+            result += 256;
+            flags |= C;
+        }
+        //Overflow if the operands have different signs and the result has the sign of b
+        if((a & 0x80) != (b & 0x80) && (b & 0x80) == (result & 0x80))
+            flags |= V;
+        flags |= nz(result);
+        return (flags<<8) | result;
+    }
+    
+    /** Reference INC. Wrapping to 0 sets Z and V. **/
+    static int referenceInc(int value){
+        int flags = 0;
+        value++;
+        if(value == 256){
+            flags |= Z|V;
+            value = 0;
+        }
+        if(value >= 128)
+            flags |= N;
+        return (flags<<8) | value;
+    }
+    
+    /** Reference DEC. Wrapping to 255 sets V. **/
+    static int referenceDec(int value){
+        int flags = 0;
+        value--;
+        if(value == -1){
+            flags |= V;
+            value = 255;
+        }
+        if(value >= 128)
+            flags |= N;
+        if(value == 0)
+            flags |= Z;
+        return (flags<<8) | value;
+    }
+    
+    /** Reference ASL. V is bit 6 of the value shifted in, C is bit 7. **/
+    static int referenceAsl(int value){
+        int flags = 0;
+        if((value&0x40) == 0x40)
+            flags |= V;
+        if((value&0x80) == 0x80)
+            flags |= C;
+        value = (value << 1) & 0xFF;
+        flags |= nz(value);
+        return (flags<<8) | value;
+    }
+    
+    /** Reference ASR. V is left alone, and bit 6 of the result is always clear, as it always has been here. **/
+    static int referenceAsr(int value){
+        int flags = 0;
+        boolean negative = false;
+        if((value&0x80) == 0x80){
+            negative = true;
+            value &= 0x7F;
+        }
+        if((value&1) == 1)
+            flags |= C;
+        value >>= 1;
+        if(negative)
+            value |= 0x80;
+        flags |= nz(value);
+        return (flags<<8) | value;
+    }
+    
+    /** Reference LSR. V is left alone. **/
+    static int referenceLsr(int value){
+        int flags = 0;
+        if((value&1) == 1)
+            flags |= C;
+        value >>= 1;
+        flags |= nz(value);
+        return (flags<<8) | value;
+    }
+    
+    /** Reference ROL. Only C changes. **/
+    static int referenceRol(int value, int carry){
+        int flags = 0;
+        if((value&0x80) == 0x80)
+            flags |= C;
+        value = (value << 1) & 0xFF;
+        if(carry == 1)
+            value += 1;
+        return (flags<<8) | value;
+    }
+    
+    /** Reference ROR. Only C changes. **/
+    static int referenceRor(int value, int carry){
+        int flags = 0;
+        if((value&1) == 1)
+            flags |= C;
+        value >>= 1;
+        if(carry == 1)
+            value |= 0x80;
+        return (flags<<8) | value;
+    }
+    
+    /** Check every table entry against the flags worked out a second way, with bit operations
+     * instead of compares. A table that disagrees is a bug, so this throws rather than let the
+     * emulator run with it.
+     **/
+    static void verify(){
+        for(int carry=0; carry<2; carry++){
+            for(int a=0; a<0x100; a++){
+                for(int b=0; b<0x100; b++){
+                    int index = (carry<<16)|(a<<8)|b;
+                    
+                    int sum = a + b + carry;
+                    int result = sum & 0xFF;
+                    int expect = (((a&0xF)+(b&0xF)+carry) >> 4) * H + (sum >> 8) * (V|C) + bitsNZ(result);
+                    check("ADD", index, ADD[index], (expect<<8) | result);
+                    
+                    int diff = a - b - carry;
+                    result = diff & 0xFF;
+                    int overflow = ((a ^ b) & (a ^ result) & 0x80) >> 7;
+                    expect = (diff >>> 31) * C + overflow * V + bitsNZ(result);
+                    check("SUB", index, SUB[index], (expect<<8) | result);
+                }
+                check("ROL", (carry<<8)|a, ROL[(carry<<8)|a], ((a >> 7) << 8) | ((a << 1) & 0xFF) | carry);
+                check("ROR", (carry<<8)|a, ROR[(carry<<8)|a], ((a & 1) << 8) | (a >> 1) | (carry << 7));
+            }
+        }
+        for(int value=0; value<0x100; value++){
+            int result = (value + 1) & 0xFF;
+            check("INC", value, INC[value], (((result == 0 ? Z|V : 0) | (result & 0x80) >> 4) << 8) | result);
+            result = (value - 1) & 0xFF;
+            check("DEC", value, DEC[value], (((value == 0 ? V : 0) | (result & 0x80) >> 4 | (result == 0 ? Z : 0)) << 8) | result);
+            result = (value << 1) & 0xFF;
+            check("ASL", value, ASL[value], (((value >> 6) & 1) * V + (value >> 7) * C + bitsNZ(result)) << 8 | result);
+            result = ((value & 0x7F) >> 1) | (value & 0x80);
+            check("ASR", value, ASR[value], ((value & 1) * C + bitsNZ(result)) << 8 | result);
+            result = value >> 1;
+            check("LSR", value, LSR[value], ((value & 1) * C + bitsNZ(result)) << 8 | result);
+        }
+    }
+    
+    /** Z and N of a byte, without any compares **/
+    private static int bitsNZ(int result){
+        return (((result - 1) >>> 31) * Z) | ((result & 0x80) >> 4);
+    }
+    
+    /** Throw if a table entry is wrong **/
+    private static void check(String table, int index, int entry, int expect){
+        if(entry != expect)
+            throw new IllegalStateException(table + " flag table is wrong at 0x" + Integer.toHexString(index)
+                    + ": 0x" + Integer.toHexString(entry) + " should be 0x" + Integer.toHexString(expect));
+    }
+}
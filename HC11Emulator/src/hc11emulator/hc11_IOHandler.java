@@ -0,0 +1,25 @@
+/*
+ * hc11_IOHandler.java
+ *
+ * Created on October 18, 2026
+ *
+ * A memory mapped register on the board, like the keypad port or the LCD. Map it with
+ * hc11_Device.addIOHandler(), and the CPU's reads and writes of its address come straight here.
+ */
+
+package hc11emulator;
+
+public interface hc11_IOHandler {
+    /** Called when the CPU reads a mapped address
+     *@param address The address being read
+     *@return The value read, 0-255
+     **/
+    public int ioRead(int address);
+    
+    /** Called when the CPU writes a mapped address. The value has already been stored, so
+     * getMemSilent() returns it too.
+     *@param address The address written
+     *@param value The value written, 0-255
+     **/
+    public void ioWrite(int address, int value);
+}
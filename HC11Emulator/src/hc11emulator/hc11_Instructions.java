@@ -1,3093 +1,2542 @@
-/*
- * hc11instructions.java
- *
- * Created on May 4, 2006, 12:44 PM
- */
-
-package hc11emulator;
-
-/**
- * All of the HC11 instructions are executed by this class. Each instruction has its own function.
- * @author Paul Kratt
- */
-public class hc11_Instructions {
-    private final hc11_Device device; //This instruction executor's host hardware
-    private static final int INH=0,IMM=1,DIR=2,EXT=3,INDX=4,INDY=5,IMMA=6,IMMB=7;
-    
-    /** Creates a new instance of hc11instructions 
-     @param device The HC11 device I'm executing instructions for
-    */
-    public hc11_Instructions(hc11_Device device) {
-        this.device = device;
-    }
-    
-    /** No Operation **/
-    public void nop(){
-        device.addCycles(2);
-    }
-    
-    /** Clear overflow flag **/
-    public void clv(){
-        device.clearCCRbits((byte)(2));
-        device.addCycles(2);
-    }
-    
-    /** Set overflow flag **/
-    public void sev(){
-        device.setCCRbits((byte)(2));
-        device.addCycles(2);
-    }
-    
-    /** Clear carry flag **/
-    public void clc(){
-        device.clearCCRbits((byte)(1));
-        device.addCycles(2);
-    }
-    
-    /** Set carry flag **/
-    public void sec(){
-        device.setCCRbits((byte)(1));
-        device.addCycles(2);
-    }
-    
-    /** Clear the interrupt flag, enabling interupts. **/
-    public void cli(){
-        device.clearCCRbits((byte)(0x10));
-        device.addCycles(2);
-    }
-    
-    /** Set the interrupt flag, disables interrupts **/
-    public void sei(){
-        device.setCCRbits((byte)(0x10));
-        device.addCycles(2);
-    }
-    
-    /** Subtract B from A, putting the result into A. Also used for CBA. **/
-    public void sba(boolean cba){
-        int a = device.getA();
-        int b = device.getB();
-        int result = a-b;
-        
-        if(result < 0){
-            result+=256;
-            device.setCCRbits((byte)(1)); //Set C
-        }
-        else
-            device.clearCCRbits((byte)(1)); //Clear C
-        
-        updateOverflow8(a, b, result);
-        
-        updateCCR8(result);
-        if(!cba)
-            device.setA(result);
-        device.addCycles(2);
-    }
-    
-    /** Branch if bits set **/
-    public void brset(int mode){
-        int offset = device.nextInstruct();
-        int mask = device.nextInstruct();
-        int jumprel = device.nextInstruct();
-        
-        if(mode==DIR){
-            offset = device.getMem(offset);
-            device.addCycles(6);
-        }
-        else if(mode==INDX){
-            offset = device.getMem(device.getX()+offset);
-            device.addCycles(7);
-        }
-        else if(mode==INDY){
-            offset = device.getMem(device.getY()+offset);
-            device.addCycles(8);
-        }
-        
-        if(jumprel >= 128){
-            jumprel -= 256;
-        }
-        
-        offset &= mask;
-        if(offset == mask){
-            device.setPC(device.getPC()+jumprel);
-        }
-    }
-    
-    /** Branch if bits cleared  **/
-    public void brclr(int mode){
-        int offset = device.nextInstruct();
-        int mask = device.nextInstruct();
-        int jumprel = device.nextInstruct();
-        
-        if(mode==DIR){
-            offset = device.getMem(offset);
-            device.addCycles(6);
-        }
-        else if(mode==INDX){
-            offset = device.getMem(device.getX()+offset);
-            device.addCycles(7);
-        }
-        else if(mode==INDY){
-            offset = device.getMem(device.getY()+offset);
-            device.addCycles(8);
-        }
-        
-        if(jumprel >= 128){
-            jumprel -= 256;
-        }
-        
-        offset &= mask;
-        if(offset == 0){
-            device.setPC(device.getPC()+jumprel);
-        }
-    }
-    
-    /** Bit set **/
-    public void bset(int mode){
-        int offset = device.nextInstruct();
-        int value;
-        int mask = device.nextInstruct();
-        
-        if(mode==DIR){
-            value = device.getMem(offset);
-            device.addCycles(6);
-        }
-        else if(mode==INDX){
-            value = device.getMem(device.getX()+offset);
-            device.addCycles(7);
-        }
-        else{ //INDY
-            value = device.getMem(device.getY()+offset);
-            device.addCycles(8);
-        }
-        
-        value |= mask;
-        
-        if(mode==DIR){
-            device.writeMem(offset,value);
-        }
-        else if(mode==INDX){
-            device.writeMem(device.getX()+offset,value);
-        }
-        else if(mode==INDY){
-            device.writeMem(device.getY()+offset,value);
-        }
-        
-        updateCCR8(value); //Update N and Z
-        device.clearCCRbits((byte)(2)); //Clear overflow bit
-    }
-    
-    /** Bit clear **/
-    public void bclr(int mode){
-        int offset = device.nextInstruct();
-        int value;
-        int mask = device.nextInstruct();
-        
-        if(mode==DIR){
-            value = device.getMem(offset);
-            device.addCycles(6);
-        }
-        else if(mode==INDX){
-            value = device.getMem(device.getX()+offset);
-            device.addCycles(7);
-        }
-        else{ //INDY
-            value = device.getMem(device.getY()+offset);
-            device.addCycles(8);
-        }
-        
-        value &= (~mask);
-        
-        if(mode==DIR){
-            device.writeMem(offset,value);
-        }
-        else if(mode==INDX){
-            device.writeMem(device.getX()+offset,value);
-        }
-        else if(mode==INDY){
-            device.writeMem(device.getY()+offset,value);
-        }
-        
-        updateCCR8(value); //Update N and Z
-        device.clearCCRbits((byte)(2)); //Clear overflow bit
-    }
-    
-    /** Decimal Adjust A for Binary Coded Decimal - TODO: Fix this! **/
-    public void daa(){
-        int value = device.getA();
-        
-        if(((device.getCCR()&1) == 1) || (value >= 0x9A)){
-            value += 0x66; //Carry bit was set, this is the result of a big addition.
-            value&=0xFF; //Clamp it.
-            device.setCCRbits((byte)(3));
-            if((value & 0xF) > 9) //This value needs adjusting!
-                value-=6;
-        }
-        else{
-            device.clearCCRbits((byte)(3));
-        }
-        if((value & 0xF) > 9){ //This value needs adjusting!
-            value+=6;
-        }
-                
-        updateCCR8(value); //Update negative and zero bits
-        device.setA(value);
-        device.addCycles(2);
-    }
-    
-    /** Add B to A, putting the result into A **/
-    public void aba(){
-        int result = device.getA() + device.getB();
-        
-        if(((device.getA()&0xF) + (device.getB()&0xF)) > 0xF)
-            device.setCCRbits((byte)(32)); //Set the Half-Carry bit
-        else
-            device.clearCCRbits((byte)(32)); //Clear the Half-Carry bit
-        
-        if(result >= 256){
-            device.setCCRbits((byte)(3)); //Set Carry and overflow
-            result-=256;
-        }
-        else
-            device.clearCCRbits((byte)(3)); //Clear carry and overflow
-        
-        updateCCR8(result);
-        device.setA(result);
-        device.addCycles(2);
-    }
-    
-    /** Add B to X, putting the result into X **/
-    public void abx(){
-        int result = device.getB() + device.getX();
-        
-        //No CCR's get updated this time, but we still need to properly handle overflow
-        if(result > 0xFFFF)
-            result -= 0x10000;
-        
-        device.setX(result);
-        device.addCycles(3);
-    }
-    
-    /** Add B to Y, putting the result into X **/
-    public void aby(){
-        int result = device.getB() + device.getY();
-        
-        //No CCR's get updated this time, but we still need to properly handle overflow
-        if(result > 0xFFFF)
-            result -= 0x10000;
-        
-        device.setY(result);
-        device.addCycles(4);
-    }
-    
-    /** Logical shift right accumulator D. **/
-    public void lsrd(){
-        int value = device.getD();
-        
-        if((value&1)==1)
-            device.setCCRbits((byte)(1)); //Carry bit
-        else
-            device.clearCCRbits((byte)(1));
-        //I don't quite understand how this can "overflow." I'll assume it means going from A into B.
-        if((value&0x100)==0x100)
-            device.setCCRbits((byte)(2));
-        else
-            device.clearCCRbits((byte)(2));
-        
-        value >>=1; //Right shift once
-        updateCCR16(value);
-        
-        device.setD(value);
-        device.addCycles(3);
-    }
-    
-    /** Logical/Arithmetically shift left accumulator D. **/
-    public void lsld(){
-        int value = device.getD();
-        
-        if((value&0x8000)==0x8000)
-            device.setCCRbits((byte)(1)); //Carry bit
-        else
-            device.clearCCRbits((byte)(1));
-        //I'll assume overflow means going from A into B again.
-        if((value&0x80)==0x80)
-            device.setCCRbits((byte)(2));
-        else
-            device.clearCCRbits((byte)(2));
-        
-        value <<=1; //Left shift once
-        value &= 0xFFFF; //Clean up the value
-        updateCCR16(value);
-        
-        device.setD(value);
-        device.addCycles(3);
-    }
-    
-    /** Integer division! How fun! **/
-    public void idiv(){
-        int resx, resd;
-        
-        if(device.getX() > 0){
-            resx = device.getD() / device.getX();
-            resd = device.getD() % device.getX();
-        }
-        else{
-            resd = device.getX();
-            resx = 0; //Divide by zero means 0 remainder X?
-        }
-        
-        if(resx == 0)
-            device.setCCRbits((byte)(4)); //Set the zero bit
-        else
-            device.clearCCRbits((byte)(4)); //Clear the zero bit
-        if(resd != 0)
-            device.setCCRbits((byte)(1)); //Set the carry bit
-        else
-            device.clearCCRbits((byte)(1)); //Clear the carry bit
-        device.clearCCRbits((byte)(2)); //Clear the Overflow bit!
-        device.setD(resd);
-        device.setX(resx);
-        device.addCycles(41);
-    }
-    
-    /** Fractional division! Even more fun... oh wait. **/
-    public void fdiv(){
-        int resx, resd;
-        
-        if(device.getX() > 0){
-            resx = (device.getD() * 0x10000) / device.getX();
-            if(resx > 0xFFFF){
-                resx &= 0xFFFF;
-                device.setCCRbits((byte)(2)); //Overflow!!!
-            }
-            else{
-                device.clearCCRbits((byte)(2)); //Clear the Overflow bit!
-            }
-            resd = device.getD() % device.getX();
-        }
-        else{
-            resd = device.getX();
-            resx = 0; //Divide by zero means 0 remainder X?
-        }
-        
-        if(resx == 0)
-            device.setCCRbits((byte)(4)); //Set the zero bit
-        else
-            device.clearCCRbits((byte)(4)); //Clear the zero bit
-        if(resd != 0)
-            device.setCCRbits((byte)(1)); //Set the carry bit
-        else
-            device.clearCCRbits((byte)(1)); //Clear the carry bit
-        
-        device.setD(resd);
-        device.setX(resx);
-        device.addCycles(41);
-    }
-    
-    /** Branch if carry bit clear. Also is Branch if higher or same (bhs) */
-    public void bcc(){
-        int offset = device.nextInstruct();
-        
-        if((device.getCCR()&0x1)==0){
-            if(offset>=128)
-                offset-=256;
-            device.setPC(device.getPC()+offset);
-        }
-        device.addCycles(3);
-    }
-    
-    /** Branch if carry bit set... Also is blo, branch if lower */
-    public void bcs(){
-        int offset = device.nextInstruct();
-        
-        if((device.getCCR()&0x1)==1){
-            if(offset>=128)
-                offset-=256;
-            device.setPC(device.getPC()+offset);
-        }
-        device.addCycles(3);
-    }
-    
-    /** Branch if plus. N=0 */ 
-    public void bpl(){
-        int offset = device.nextInstruct();
-        
-        if((device.getCCR()&0x8)==0){
-            if(offset>=128)
-                offset-=256;
-            device.setPC(device.getPC()+offset);
-        }
-        device.addCycles(3);
-    }
-    
-    /** Branch Always */ 
-    public void bra(){
-        int offset = device.nextInstruct();
-        
-        if(offset>=128)
-            offset-=256;
-        device.setPC(device.getPC()+offset);
-        device.addCycles(3);
-    }
-    
-    /** Branch to subroutine */ 
-    public void bsr(){
-        int offset = device.nextInstruct();
-        int retaddr = device.getPC();
-        
-        if(offset>=128)
-            offset-=256;
-        
-        device.writeMem(device.getSP(),retaddr&0xFF);
-        device.writeMem(device.getSP()-1,retaddr>>8);
-        device.setSP(device.getSP()-2);
-        device.setPC(device.getPC()+offset);
-        device.addCycles(6);
-    }
-    
-    /** Jump to subroutine */ 
-    public void jsr(int mode){
-        int jumpaddr=0;
-        int retaddr=0;
-        
-        if(mode==DIR){
-            jumpaddr = device.nextInstruct();
-            device.addCycles(5);
-        }
-        else if (mode==EXT){
-            jumpaddr = device.nextInstruct();
-            jumpaddr<<=8;
-            jumpaddr+=device.nextInstruct();
-            device.addCycles(6);
-        }
-        else if (mode==INDX){
-            int place = device.getX();
-            place+=device.nextInstruct();
-            jumpaddr = device.getMem(place);
-            jumpaddr<<=8;
-            jumpaddr+=device.getMem(place+1);
-            device.addCycles(6);
-        }
-        else if (mode==INDY){
-            int place = device.getY();
-            place+=device.nextInstruct();
-            jumpaddr = device.getMem(place);
-            jumpaddr<<=8;
-            jumpaddr+=device.getMem(place+1);
-            device.addCycles(7);
-        }
-        
-        retaddr=device.getPC();
-        device.writeMem(device.getSP(),retaddr&0xFF);
-        device.writeMem(device.getSP()-1,retaddr>>8);
-        device.setSP(device.getSP()-2);
-        device.setPC(jumpaddr);
-    }
-    
-    /** Return from subroutine */ 
-    public void rts(){
-        int retaddr = device.getMem(device.getSP()+1);
-        retaddr = retaddr << 8;
-        retaddr += device.getMem(device.getSP()+2);
-        device.setSP(device.getSP()+2);
-        
-        device.setPC(retaddr);
-        device.addCycles(5);
-    }
-    
-    /** Return from interrupt */ 
-    public void rti(){
-        int ccr = device.getMem(device.getSP()+1);
-        int accb = device.getMem(device.getSP()+2);
-        int acca = device.getMem(device.getSP()+3);
-        int accx = device.getMem(device.getSP()+4);
-        accx <<= 8;
-        accx += device.getMem(device.getSP()+5);
-        int accy = device.getMem(device.getSP()+6);
-        accy <<= 8;
-        accy += device.getMem(device.getSP()+7);
-        int retaddr = device.getMem(device.getSP()+8);
-        retaddr = retaddr << 8;
-        retaddr += device.getMem(device.getSP()+9);
-        device.setSP(device.getSP()+9);
-        
-        if(ccr > 127)
-            ccr-=256;
-        
-        device.setCCR((byte)ccr);
-        device.setA(acca);
-        device.setB(accb);
-        device.setX(accx);
-        device.setY(accy);
-        device.setPC(retaddr);
-        device.addCycles(12);
-    }
-    
-    /** Multiply A x B, put the result into D **/
-    public void mul(){
-        int result = device.getA() * device.getB();
-        if(result > 0x10000){ //This is IMPOSSIBLE!
-            result &= 0xFFFF;
-            device.setCCRbits((byte)(1));
-        }
-        else
-            device.clearCCRbits((byte)(1));
-        
-        device.setD(result);
-        device.addCycles(10);
-    }
-    
-    /** Branch Never */ 
-    public void brn(){
-        int offset = device.nextInstruct();
-        
-        device.addCycles(3);
-    }
-    
-    /** Branch if minus... N=1 */ 
-    public void bmi(){
-        int offset = device.nextInstruct();
-        
-        if((device.getCCR()&0x8)==1){
-            if(offset>=128)
-                offset-=256;
-            device.setPC(device.getPC()+offset);
-        }
-        device.addCycles(3);
-    }
-    
-    /** Branch if equal, the zero bit set */
-    public void beq(){
-        int offset = device.nextInstruct();
-        
-        if((device.getCCR()&0x4)==4){
-            if(offset>=128)
-                offset-=256;
-            device.setPC(device.getPC()+offset);
-        }
-        device.addCycles(3);
-    }
-    
-    /** Branch if not equal to zero, Z=0 */
-    public void bne(){
-        int offset = device.nextInstruct();
-        
-        if((device.getCCR()&0x4)==0){
-            if(offset>=128)
-                offset-=256;
-            device.setPC(device.getPC()+offset);
-        }
-        device.addCycles(3);
-    }
-    
-    /** Branch if overflow clear, V=0 */
-    public void bvc(){
-        int offset = device.nextInstruct();
-        
-        if((device.getCCR()&0x2)==0){
-            if(offset>=128)
-                offset-=256;
-            device.setPC(device.getPC()+offset);
-        }
-        device.addCycles(3);
-    }
-    
-    /** Branch if overflow set, V=1 */
-    public void bvs(){
-        int offset = device.nextInstruct();
-        
-        if((device.getCCR()&0x2)==2){
-            if(offset>=128)
-                offset-=256;
-            device.setPC(device.getPC()+offset);
-        }
-        device.addCycles(3);
-    }
-    
-    /** Branch if greater or equal (N ^ V == 0)*/
-    public void bge(){
-        int offset = device.nextInstruct();
-        
-        //XOR = 0 if both bits are the same
-        if((device.getCCR()&0xA)==0 || (device.getCCR()&0xA)==0xA){
-            if(offset>=128)
-                offset-=256;
-            device.setPC(device.getPC()+offset);
-        }
-        device.addCycles(3);
-    }
-    
-    /** Branch if less than (N ^ V == 1)*/
-    public void blt(){
-        int offset = device.nextInstruct();
-        
-        //XOR = 1 if both bits are the different
-        if((device.getCCR()&0xA)>0 && (device.getCCR()&0xA)<0xA){
-            if(offset>=128)
-                offset-=256;
-            device.setPC(device.getPC()+offset);
-        }
-        device.addCycles(3);
-    }
-    
-    /** Branch if greater than (Z + (N ^ V) == 0)*/
-    public void bgt(){
-        int offset = device.nextInstruct();
-        
-        //XOR = 0 if both bits are the same
-        if(((device.getCCR()&0xA)==0 || (device.getCCR()&0xA)==0xA) || (device.getCCR()&0x4)==0){
-            if(offset>=128)
-                offset-=256;
-            device.setPC(device.getPC()+offset);
-        }
-        device.addCycles(3);
-    }
-    
-    /** Branch if greater than (Z + (N ^ V) == 1)*/
-    public void ble(){
-        int offset = device.nextInstruct();
-        
-        //XOR = 0 if both bits are the same
-        if(((device.getCCR()&0xA)==0xA || (device.getCCR()&0xA)==0xA) || (device.getCCR()&0x4)==4){
-            if(offset>=128)
-                offset-=256;
-            device.setPC(device.getPC()+offset);
-        }
-        device.addCycles(3);
-    }
-    
-    /** Branch if higher (C | Z==0))*/
-    public void bhi(){
-        int offset = device.nextInstruct();
-        
-        //XOR = 0 if both bits are the same
-        if((device.getCCR()&0x05)==0){
-            if(offset>=128)
-                offset-=256;
-            device.setPC(device.getPC()+offset);
-        }
-        device.addCycles(3);
-    }
-    
-    /** Branch if lower or same (C | Z==1))*/
-    public void bls(){
-        int offset = device.nextInstruct();
-        
-        if((device.getCCR()&0x05)>0){
-            if(offset>=128)
-                offset-=256;
-            device.setPC(device.getPC()+offset);
-        }
-        device.addCycles(3);
-    }
-    
-    /** Push accumulator A onto the stack */
-    public void psha(){
-        int value=device.getA();
-        
-        device.writeMem(device.getSP(),value);
-        device.setSP(device.getSP()-1);
-        device.addCycles(3);
-    }
-    
-    /** Pull accumulator A off of the stack */
-    public void pula(){
-        device.setSP(device.getSP()+1);
-        device.setA(device.getMem(device.getSP()));
-         
-        device.addCycles(4);
-    }
-    
-    /** Push accumulator B onto the stack */
-    public void pshb(){
-        int value=device.getB();
-        
-        device.writeMem(device.getSP(),value);
-        device.setSP(device.getSP()-1);
-        device.addCycles(3);
-    }
-    
-    /** Pull accumulator B off of the stack */
-    public void pulb(){
-        device.setSP(device.getSP()+1);
-        device.setB(device.getMem(device.getSP()));
-         
-        device.addCycles(4);
-    }
-    
-    /** Push register X onto the stack */
-    public void pshx(){
-        int value=device.getX();
-        
-        device.writeMem(device.getSP(),value&0xFF);
-        device.writeMem(device.getSP()-1,value>>8);
-        device.setSP(device.getSP()-2);
-        device.addCycles(4);
-    }
-    
-    /** Pull register X off of the stack **/
-    public void pulx(){
-        int value=device.getMem(device.getSP()+1);
-        
-        value = value << 8;
-        value += device.getMem(device.getSP()+2);
-        device.setX(value);
-        device.setSP(device.getSP()+2);
-        device.addCycles(5);
-    }
-    
-    /** Push register Y onto the stack */
-    public void pshy(){
-        int value=device.getY();
-        
-        device.writeMem(device.getSP(),value&0xFF);
-        device.writeMem(device.getSP()-1,value>>8);
-        device.setSP(device.getSP()-2);
-        device.addCycles(5);
-    }
-    
-    /** Pull register Y off of the stack **/
-    public void puly(){
-        int value=device.getMem(device.getSP()+1);
-        
-        value = value << 8;
-        value += device.getMem(device.getSP()+2);
-        device.setY(value);
-        device.setSP(device.getSP()+2);
-        device.addCycles(6);
-    }
-    
-    /** Negate an 8-bit value by 2's complement **/
-    public void neg(int mode){
-        int value=0;
-        int addr=0;
-        
-        if(mode==IMMA){
-            value = device.getA();
-            device.addCycles(2);
-        }
-        else if(mode==IMMB){
-            value = device.getB();
-            device.addCycles(2);
-        }
-        else if(mode==EXT){
-            addr = device.nextInstruct();
-            addr <<= 8;
-            addr += device.nextInstruct();
-            value = device.getMem(addr);
-            device.addCycles(6);
-        }
-        else if(mode==INDX){
-            addr = device.getX()+device.nextInstruct();
-            value = device.getMem(addr);
-            device.addCycles(6);
-        }
-        else{ //(mode==INDY)
-            addr = device.getY()+device.nextInstruct();
-            value = device.getMem(addr);
-            device.addCycles(7);
-        }
-        
-        //Now we have our value, let us complement it on its good manners.
-        value = (~value) & 0xFF;
-        value++; //Add one
-        
-        //Carry bit
-        if(value >= 0x100){
-            device.setCCRbits((byte)(1));
-            value = value & 0xFF;
-        }
-        else
-            device.clearCCRbits((byte)(1));
-        //Overflow if -128
-        if(value == 0x80) //-128
-            device.setCCRbits((byte)(2));
-        else
-            device.clearCCRbits((byte)(2));
-        
-        updateCCR8(value); //Update N and Z bits.
-        
-        //Return the negated value to its origin
-        if(mode==IMMA){
-            device.setA(value);
-        }
-        else if(mode==IMMB){
-            device.setB(value);
-        }
-        else{
-            device.writeMem(addr,value);
-        }
-    }
-    
-    /** Perform 1's complement on an 8-bit value **/
-    public void com(int mode){
-        int value=0;
-        int addr=0;
-        
-        if(mode==IMMA){
-            value = device.getA();
-            device.addCycles(2);
-        }
-        else if(mode==IMMB){
-            value = device.getB();
-            device.addCycles(2);
-        }
-        else if(mode==EXT){
-            addr = device.nextInstruct();
-            addr <<= 8;
-            addr += device.nextInstruct();
-            value = device.getMem(addr);
-            device.addCycles(6);
-        }
-        else if(mode==INDX){
-            addr = device.getX()+device.nextInstruct();
-            value = device.getMem(addr);
-            device.addCycles(6);
-        }
-        else{ //(mode==INDY)
-            addr = device.getY()+device.nextInstruct();
-            value = device.getMem(addr);
-            device.addCycles(7);
-        }
-        
-        //Now we have our value, let us complement it on its good manners.
-        value = (~value) & 0xFF;
-        
-        //Update the CCR
-        device.setCCRbits((byte)(1));
-        device.clearCCRbits((byte)(2));
-        updateCCR8(value); //Update N and Z bits.
-        
-        //Return the complemented value to its origin
-        if(mode==IMMA){
-            device.setA(value);
-        }
-        else if(mode==IMMB){
-            device.setB(value);
-        }
-        else{
-            device.writeMem(addr,value);
-        }
-    }
-    
-    /** Load Stack Pointer... Set SP to somewhere in memory **/
-    public void lds(int mode){
-        int value=0;
-        
-        //Grab the operand
-        if(mode==IMM){
-            value = get16bitImmediate();
-            device.addCycles(3);
-        }
-        else if(mode==DIR){
-            int tempad = get8bitImmediate();
-            value = device.getMem(tempad);
-            value = value << 8;
-            value += device.getMem(tempad+1);
-            device.addCycles(4);
-        }
-        else if(mode==EXT){
-            int tempad = get16bitImmediate();
-            value = device.getMem(tempad);
-            value = value << 8;
-            value += device.getMem(tempad+1);
-            device.addCycles(5);
-        }
-        else if(mode==INDX){
-            int tempad = device.getX()+get8bitImmediate();
-            value = device.getMem(tempad);
-            value = value << 8;
-            value += device.getMem(tempad+1);
-            device.addCycles(5);
-        }
-        else if(mode==INDY){
-            int tempad = device.getY()+get8bitImmediate();
-            value = device.getMem(tempad);
-            value = value << 8;
-            value += device.getMem(tempad+1);
-            device.addCycles(6);
-        }
-        //No else statement, because I want something bad to happen if you don't call this correctly.
-        device.setSP(value);
-        updateCCR16(value); //Set negative and zero bits
-        device.clearCCRbits((byte)(0x02)); //Clear the overflow bit
-    }
-    
-    /** Bitwise Rotate Left **/
-    public void rol(int mode){
-        int value=0;
-        
-        //Grab the operand
-        if(mode==EXT){
-            int tempad = get16bitImmediate();
-            value = device.getMem(tempad);
-            value = roll_left(value);
-            device.writeMem(tempad,value);
-            device.addCycles(6);
-        }
-        else if(mode==INDX){
-            int tempad = device.getX()+get8bitImmediate();
-            value = device.getMem(tempad);
-            value = roll_left(value);
-            device.writeMem(tempad,value);
-            device.addCycles(6);
-        }
-        else if(mode==INDY){
-            int tempad = device.getY()+get8bitImmediate();
-            value = device.getMem(tempad);
-            value = roll_left(value);
-            device.writeMem(tempad,value);
-            device.addCycles(7);
-        }
-        else if(mode==IMMA){
-            value = device.getA();
-            value = roll_left(value);
-            device.setA(value);
-            device.addCycles(2);
-        }
-        else if(mode==IMMB){
-            value = device.getB();
-            value = roll_left(value);
-            device.setB(value);
-            device.addCycles(2);
-        }
-    }
-    
-    /** Logical Shift Right **/
-    public void lsr(int mode){
-        int value=0;
-        
-        //Grab the operand
-        if(mode==EXT){
-            int tempad = get16bitImmediate();
-            value = device.getMem(tempad);
-            value = roll_right(value);
-            value &= 0x7F;
-            device.writeMem(tempad,value);
-            device.addCycles(6);
-        }
-        else if(mode==INDX){
-            int tempad = device.getX()+get8bitImmediate();
-            value = device.getMem(tempad);
-            value = roll_right(value);
-            value &= 0x7F;
-            device.writeMem(tempad,value);
-            device.addCycles(6);
-        }
-        else if(mode==INDY){
-            int tempad = device.getY()+get8bitImmediate();
-            value = device.getMem(tempad);
-            value = roll_right(value);
-            value &= 0x7F;
-            device.writeMem(tempad,value);
-            device.addCycles(7);
-        }
-        else if(mode==IMMA){
-            value = device.getA();
-            value = roll_right(value);
-            value &= 0x7F;
-            device.setA(value);
-            device.addCycles(2);
-        }
-        else if(mode==IMMB){
-            value = device.getB();
-            value = roll_right(value);
-            value &= 0x7F;
-            device.setB(value);
-            device.addCycles(2);
-        }
-        updateCCR8(value);
-    }
-    
-    /** Arithmetically Shift Right **/
-    public void asr(int mode){
-        int value=0;
-        int tempad=0;
-        boolean negative = false;
-        
-        //Grab the operand
-        if(mode==EXT){
-            tempad = get16bitImmediate();
-            value = device.getMem(tempad);
-        }
-        else if(mode==INDX){
-            tempad = device.getX()+get8bitImmediate();
-            value = device.getMem(tempad);
-        }
-        else if(mode==INDY){
-            tempad = device.getY()+get8bitImmediate();
-            value = device.getMem(tempad);
-        }
-        else if(mode==IMMA){
-            value = device.getA();
-        }
-        else if(mode==IMMB){
-            value = device.getB();
-        }
-        
-        if((value&0x80)==0x80){
-            negative = true;
-            value &= 0x7F;
-        }
-        if((value&1)==1)
-            device.setCCRbits((byte)(1));
-        else
-            device.clearCCRbits((byte)(1));
-        value >>= 1;
-        if(negative)
-            value |= 0x80;
-        
-        //Grab the operand
-        if(mode==EXT){
-            device.writeMem(tempad,value);
-            device.addCycles(6);
-        }
-        else if(mode==INDX){
-            device.writeMem(tempad,value);
-            device.addCycles(6);
-        }
-        else if(mode==INDY){
-            device.writeMem(tempad,value);
-            device.addCycles(7);
-        }
-        else if(mode==IMMA){
-            device.setA(value);
-            device.addCycles(2);
-        }
-        else if(mode==IMMB){
-            device.setB(value);
-            device.addCycles(2);
-        }
-        
-        updateCCR8(value);
-    }
-    
-    /** Arithmetically Shift Left **/
-    public void asl(int mode){
-        int value=0;
-        int tempad=0;
-        
-        //Grab the operand
-        if(mode==EXT){
-            tempad = get16bitImmediate();
-            value = device.getMem(tempad);
-        }
-        else if(mode==INDX){
-            tempad = device.getX()+get8bitImmediate();
-            value = device.getMem(tempad);
-        }
-        else if(mode==INDY){
-            tempad = device.getY()+get8bitImmediate();
-            value = device.getMem(tempad);
-        }
-        else if(mode==IMMA){
-            value = device.getA();
-        }
-        else if(mode==IMMB){
-            value = device.getB();
-        }
-        
-        if((value&0x40)==0x40)
-            device.setCCRbits((byte)(2));
-        else
-            device.clearCCRbits((byte)(2));
-        if((value&0x80)==0x80)
-            device.setCCRbits((byte)(1));
-        else
-            device.clearCCRbits((byte)(1));
-        value <<= 1;
-        value &= 0xFF;
-        
-        //Write the result back
-        if(mode==EXT){
-            device.writeMem(tempad,value);
-            device.addCycles(6);
-        }
-        else if(mode==INDX){
-            device.writeMem(tempad,value);
-            device.addCycles(6);
-        }
-        else if(mode==INDY){
-            device.writeMem(tempad,value);
-            device.addCycles(7);
-        }
-        else if(mode==IMMA){
-            device.setA(value);
-            device.addCycles(2);
-        }
-        else if(mode==IMMB){
-            device.setB(value);
-            device.addCycles(2);
-        }
-        
-        updateCCR8(value);
-    }
-    
-    /** Bitwise Rotate Right **/
-    public void ror(int mode){
-        int value=0;
-        
-        //Grab the operand
-        if(mode==EXT){
-            int tempad = get16bitImmediate();
-            value = device.getMem(tempad);
-            value = roll_right(value);
-            device.writeMem(tempad,value);
-            device.addCycles(6);
-        }
-        else if(mode==INDX){
-            int tempad = device.getX()+get8bitImmediate();
-            value = device.getMem(tempad);
-            value = roll_right(value);
-            device.writeMem(tempad,value);
-            device.addCycles(6);
-        }
-        else if(mode==INDY){
-            int tempad = device.getY()+get8bitImmediate();
-            value = device.getMem(tempad);
-            value = roll_right(value);
-            device.writeMem(tempad,value);
-            device.addCycles(7);
-        }
-        else if(mode==IMMA){
-            value = device.getA();
-            value = roll_right(value);
-            device.setA(value);
-            device.addCycles(2);
-        }
-        else if(mode==IMMB){
-            value = device.getB();
-            value = roll_right(value);
-            device.setB(value);
-            device.addCycles(2);
-        }
-    }
-    
-    /** Roll the current value to the left and return the rolled value.
-     * Updates the carry bit accordingly.
-     */
-    private int roll_left(int value){
-        int tempval = value;
-        boolean carrybit = ((device.getCCR()&1)==1);
-        //Now we have the value sitting in value.
-        if((tempval & 0x80) == 0x80){ //Left most bit is set!!
-            device.setCCRbits((byte)(1)); //Turn on the carry bit
-        }
-        else{
-            device.clearCCRbits((byte)(1)); //We need to clear the carry bit!!!
-        }
-        tempval = (tempval << 1) & 0xFF;
-        if(carrybit) //Carry bit was set
-            tempval += 1;
-        return tempval;
-    }
-    
-    /** Roll the current value to the right and return the rolled value.
-     * Updates the carry bit accordingly.
-     */
-    private int roll_right(int value){
-        int tempval = value;
-        boolean carrybit = ((device.getCCR()&1)==1);
-        //Now we have the value sitting in value.
-        if((tempval & 0x01) == 1){ //Right most bit is set!!
-            device.setCCRbits((byte)(1)); //Turn on the carry bit
-        }
-        else
-            device.clearCCRbits((byte)(1)); //Clear the carry bit.
-        tempval = (tempval >> 1);
-        if(carrybit) //Carry bit was set
-            tempval |= 0x80;
-        return tempval;
-    }
-    
-    /** Jump to somewhere else **/
-    public void jmp(int mode){
-        int jumploc=0;
-        
-        if(mode==EXT){
-            jumploc=device.nextInstruct();
-            jumploc<<=8;
-            jumploc+=device.nextInstruct();
-            device.addCycles(3);
-        }
-        else if(mode==INDX){
-            jumploc = device.nextInstruct();
-            jumploc+=device.getX();
-            device.addCycles(3);
-        }
-        else if(mode==INDY){
-            jumploc = device.nextInstruct();
-            jumploc+=device.getY();
-            device.addCycles(4);
-        }
-        device.setPC(jumploc);
-    }
-    
-    /** Subtract from Accumulator A **/
-    public void suba(int mode){
-        int subval,result;
-        
-        if(mode==IMM){
-            subval = get8bitImmediate();
-            device.addCycles(2);
-        }
-        else if(mode==DIR){
-            subval = device.getMem(get8bitImmediate());
-            device.addCycles(3);
-        }
-        else if(mode==INDX){
-            subval = device.getX();
-            subval+=device.nextInstruct();
-            subval = device.getMem(subval);
-            device.addCycles(4);
-        }
-        else if(mode==INDY){
-            subval = device.getY();
-            subval+=device.nextInstruct();
-            subval = device.getMem(subval);
-            device.addCycles(5);
-        }
-        else{ //MODE==EXT
-            subval = device.getMem(get16bitImmediate());
-            device.addCycles(4);
-        }
-        
-        int a = device.getA();
-        result = a - subval;
-        if(result < 0){
-            result+=256;
-            device.setCCRbits((byte)(1)); //Set C
-        }
-        else
-            device.clearCCRbits((byte)(1)); //Clear C
-        
-        updateOverflow8(a, subval, result);
-        updateCCR8(result);
-        device.setA(result);
-    }
-    
-    /** Compare Accumulator A **/
-    public void cmpa(int mode){
-        int subval,result;
-        
-        if(mode==IMM){
-            subval = get8bitImmediate();
-            device.addCycles(2);
-        }
-        else if(mode==DIR){
-            subval = device.getMem(get8bitImmediate());
-            device.addCycles(3);
-        }
-        else if(mode==INDX){
-            subval = device.getX();
-            subval+=device.nextInstruct();
-            subval = device.getMem(subval);
-            device.addCycles(4);
-        }
-        else if(mode==INDY){
-            subval = device.getY();
-            subval+=device.nextInstruct();
-            subval = device.getMem(subval);
-            device.addCycles(5);
-        }
-        else{ //MODE==EXT
-            subval = device.getMem(get16bitImmediate());
-            device.addCycles(4);
-        }
-        
-        int a = device.getA();
-        result = a - subval;
-        if(result < 0){
-            result+=256;
-            device.setCCRbits((byte)(1)); //Set C
-        }
-        else
-            device.clearCCRbits((byte)(1)); //Clear C
-        
-        updateOverflow8(a, subval, result);
-        updateCCR8(result);
-    }
-    
-    /** Subtract with carry from Accumulator A **/
-    public void sbca(int mode){
-        int subval,result;
-        
-        if(mode==IMM){
-            subval = get8bitImmediate();
-            device.addCycles(2);
-        }
-        else if(mode==DIR){
-            subval = device.getMem(get8bitImmediate());
-            device.addCycles(3);
-        }
-        else if(mode==INDX){
-            subval = device.getX();
-            subval+=device.nextInstruct();
-            subval = device.getMem(subval);
-            device.addCycles(4);
-        }
-        else if(mode==INDY){
-            subval = device.getY();
-            subval+=device.nextInstruct();
-            subval = device.getMem(subval);
-            device.addCycles(5);
-        }
-        else{ //MODE==EXT
-            subval = device.getMem(get16bitImmediate());
-            device.addCycles(4);
-        }
-       
-        int a = device.getA();
-        result = a - subval;
-        if((device.getCCR()&1)==1)
-            result--; //Carrry bit set, subtract one more.
-        if(result < 0){
-            result+=256;
-            device.setCCRbits((byte)(1)); //Set C
-        }
-        else
-            device.clearCCRbits((byte)(1)); //Clear C
-        
-        updateOverflow8(a, subval, result);
-        updateCCR8(result);
-        device.setA(result);
-    }
-    
-    /** Subtract from Accumulator B **/
-    public void subb(int mode){
-        int subval,result;
-        
-        if(mode==IMM){
-            subval = get8bitImmediate();
-            device.addCycles(2);
-        }
-        else if(mode==DIR){
-            subval = device.getMem(get8bitImmediate());
-            device.addCycles(3);
-        }
-        else if(mode==INDX){
-            subval = device.getX();
-            subval+=device.nextInstruct();
-            subval = device.getMem(subval);
-            device.addCycles(4);
-        }
-        else if(mode==INDY){
-            subval = device.getY();
-            subval+=device.nextInstruct();
-            subval = device.getMem(subval);
-            device.addCycles(5);
-        }
-        else{ //MODE==EXT
-            subval = device.getMem(get16bitImmediate());
-            device.addCycles(4);
-        }
-        
-        int b = device.getB();
-        result = b - subval;
-        if(result < 0){
-            result+=256;
-            device.setCCRbits((byte)(1)); //Set C
-        }
-        else
-            device.clearCCRbits((byte)(1)); //Clear C
-        
-        updateOverflow8(b, subval, result);
-        updateCCR8(result);
-        device.setB(result);
-    }
-
-    /** Compare Accumulator B **/
-    public void cmpb(int mode){
-        int subval,result;
-        
-        if(mode==IMM){
-            subval = get8bitImmediate();
-            device.addCycles(2);
-        }
-        else if(mode==DIR){
-            subval = device.getMem(get8bitImmediate());
-            device.addCycles(3);
-        }
-        else if(mode==INDX){
-            subval = device.getX();
-            subval+=device.nextInstruct();
-            subval = device.getMem(subval);
-            device.addCycles(4);
-        }
-        else if(mode==INDY){
-            subval = device.getY();
-            subval+=device.nextInstruct();
-            subval = device.getMem(subval);
-            device.addCycles(5);
-        }
-        else{ //MODE==EXT
-            subval = device.getMem(get16bitImmediate());
-            device.addCycles(4);
-        }
-        
-        int b = device.getB();
-        result = b - subval;
-        
-        if(result < 0){
-            result+=256;
-            device.setCCRbits((byte)(1)); //Set C
-        }
-        else
-            device.clearCCRbits((byte)(1)); //Clear C
-        
-        updateOverflow8(b, subval, result);
-        updateCCR8(result);
-    }
-    
-    /** Subtract with carry from Accumulator B **/
-    public void sbcb(int mode){
-        int subval,result;
-        
-        if(mode==IMM){
-            subval = get8bitImmediate();
-            device.addCycles(2);
-        }
-        else if(mode==DIR){
-            subval = device.getMem(get8bitImmediate());
-            device.addCycles(3);
-        }
-        else if(mode==INDX){
-            subval = device.getX();
-            subval+=device.nextInstruct();
-            subval = device.getMem(subval);
-            device.addCycles(4);
-        }
-        else if(mode==INDY){
-            subval = device.getY();
-            subval+=device.nextInstruct();
-            subval = device.getMem(subval);
-            device.addCycles(5);
-        }
-        else{ //MODE==EXT
-            subval = device.getMem(get16bitImmediate());
-            device.addCycles(4);
-        }
-        
-        int b = device.getB();
-        result = b - subval;
-        if((device.getCCR()&1)==1)
-            result--; //Subtract carry bit if it's set.
-        if(result < 0){
-            result+=256;
-            device.setCCRbits((byte)(1)); //Set C
-        }
-        else
-            device.clearCCRbits((byte)(1)); //Clear C
-        
-        updateOverflow8(b, subval, result);
-        updateCCR8(result);
-        device.setB(result);
-    }
-    
-    /** Bitwise AND accumulator A **/
-    public void anda(int mode){
-        int subval;
-        
-        if(mode==IMM){
-            subval = get8bitImmediate();
-            device.addCycles(2);
-        }
-        else if(mode==DIR){
-            subval = device.getMem(get8bitImmediate());
-            device.addCycles(3);
-        }
-        else if(mode==INDX){
-            subval = device.getX();
-            subval+=device.nextInstruct();
-            subval = device.getMem(subval);
-            device.addCycles(4);
-        }
-        else if(mode==INDY){
-            subval = device.getY();
-            subval+=device.nextInstruct();
-            subval = device.getMem(subval);
-            device.addCycles(5);
-        }
-        else{ //MODE==EXT
-            subval = device.getMem(get16bitImmediate());
-            device.addCycles(4);
-        }
-        
-        subval = device.getA() & subval;
-        device.clearCCRbits((byte)(2)); //Clear V
-        updateCCR8(subval);
-        device.setA(subval);
-    }
-    
-    /** Bitwise AND accumulator B **/
-    public void andb(int mode){
-        int subval;
-        
-        if(mode==IMM){
-            subval = get8bitImmediate();
-            device.addCycles(2);
-        }
-        else if(mode==DIR){
-            subval = device.getMem(get8bitImmediate());
-            device.addCycles(3);
-        }
-        else if(mode==INDX){
-            subval = device.getX();
-            subval+=device.nextInstruct();
-            subval = device.getMem(subval);
-            device.addCycles(4);
-        }
-        else if(mode==INDY){
-            subval = device.getY();
-            subval+=device.nextInstruct();
-            subval = device.getMem(subval);
-            device.addCycles(5);
-        }
-        else{ //MODE==EXT
-            subval = device.getMem(get16bitImmediate());
-            device.addCycles(4);
-        }
-        
-        subval = device.getB() & subval;
-        device.clearCCRbits((byte)(2)); //Clear V
-        updateCCR8(subval);
-        device.setB(subval);
-    }
-    
-    /** Bitwise test accumulator A **/
-    public void bita(int mode){
-        int subval;
-        
-        if(mode==IMM){
-            subval = get8bitImmediate();
-            device.addCycles(2);
-        }
-        else if(mode==DIR){
-            subval = device.getMem(get8bitImmediate());
-            device.addCycles(3);
-        }
-        else if(mode==INDX){
-            subval = device.getX();
-            subval+=device.nextInstruct();
-            subval = device.getMem(subval);
-            device.addCycles(4);
-        }
-        else if(mode==INDY){
-            subval = device.getY();
-            subval+=device.nextInstruct();
-            subval = device.getMem(subval);
-            device.addCycles(5);
-        }
-        else{ //MODE==EXT
-            subval = device.getMem(get16bitImmediate());
-            device.addCycles(4);
-        }
-        
-        subval = device.getA() & subval;
-        device.clearCCRbits((byte)(2)); //Clear V
-        updateCCR8(subval);
-    }
-    
-    /** Bitwise test accumulator B **/
-    public void bitb(int mode){
-        int subval;
-        
-        if(mode==IMM){
-            subval = get8bitImmediate();
-            device.addCycles(2);
-        }
-        else if(mode==DIR){
-            subval = device.getMem(get8bitImmediate());
-            device.addCycles(3);
-        }
-        else if(mode==INDX){
-            subval = device.getX();
-            subval+=device.nextInstruct();
-            subval = device.getMem(subval);
-            device.addCycles(4);
-        }
-        else if(mode==INDY){
-            subval = device.getY();
-            subval+=device.nextInstruct();
-            subval = device.getMem(subval);
-            device.addCycles(5);
-        }
-        else{ //MODE==EXT
-            subval = device.getMem(get16bitImmediate());
-            device.addCycles(4);
-        }
-        
-        subval = device.getB() & subval;
-        device.clearCCRbits((byte)(2)); //Clear V
-        updateCCR8(subval);
-    }
-    
-    /** XOR accumulator A **/
-    public void eora(int mode){
-        int subval;
-        
-        if(mode==IMM){
-            subval = get8bitImmediate();
-            device.addCycles(2);
-        }
-        else if(mode==DIR){
-            subval = device.getMem(get8bitImmediate());
-            device.addCycles(3);
-        }
-        else if(mode==INDX){
-            subval = device.getX();
-            subval+=device.nextInstruct();
-            subval = device.getMem(subval);
-            device.addCycles(4);
-        }
-        else if(mode==INDY){
-            subval = device.getY();
-            subval+=device.nextInstruct();
-            subval = device.getMem(subval);
-            device.addCycles(5);
-        }
-        else{ //MODE==EXT
-            subval = device.getMem(get16bitImmediate());
-            device.addCycles(4);
-        }
-        
-        subval ^= device.getA();
-        device.clearCCRbits((byte)(2)); //Clear V
-        updateCCR8(subval);
-        device.setA(subval);
-    }
-    
-    /** XOR accumulator B **/
-    public void eorb(int mode){
-        int subval;
-        
-        if(mode==IMM){
-            subval = get8bitImmediate();
-            device.addCycles(2);
-        }
-        else if(mode==DIR){
-            subval = device.getMem(get8bitImmediate());
-            device.addCycles(3);
-        }
-        else if(mode==INDX){
-            subval = device.getX();
-            subval+=device.nextInstruct();
-            subval = device.getMem(subval);
-            device.addCycles(4);
-        }
-        else if(mode==INDY){
-            subval = device.getY();
-            subval+=device.nextInstruct();
-            subval = device.getMem(subval);
-            device.addCycles(5);
-        }
-        else{ //MODE==EXT
-            subval = device.getMem(get16bitImmediate());
-            device.addCycles(4);
-        }
-        
-        subval ^= device.getB();
-        device.clearCCRbits((byte)(2)); //Clear V
-        updateCCR8(subval);
-        device.setB(subval);
-    }
-    
-    /** Bitwise OR accumulator A **/
-    public void oraa(int mode){
-        int subval;
-        
-        if(mode==IMM){
-            subval = get8bitImmediate();
-            device.addCycles(2);
-        }
-        else if(mode==DIR){
-            subval = device.getMem(get8bitImmediate());
-            device.addCycles(3);
-        }
-        else if(mode==INDX){
-            subval = device.getX();
-            subval+=device.nextInstruct();
-            subval = device.getMem(subval);
-            device.addCycles(4);
-        }
-        else if(mode==INDY){
-            subval = device.getY();
-            subval+=device.nextInstruct();
-            subval = device.getMem(subval);
-            device.addCycles(5);
-        }
-        else{ //MODE==EXT
-            subval = device.getMem(get16bitImmediate());
-            device.addCycles(4);
-        }
-        
-        subval |= device.getA();
-        device.clearCCRbits((byte)(2)); //Clear V
-        updateCCR8(subval);
-        device.setA(subval);
-    }
-    
-    /** Bitwise AND accumulator B **/
-    public void orab(int mode){
-        int subval;
-        
-        if(mode==IMM){
-            subval = get8bitImmediate();
-            device.addCycles(2);
-        }
-        else if(mode==DIR){
-            subval = device.getMem(get8bitImmediate());
-            device.addCycles(3);
-        }
-        else if(mode==INDX){
-            subval = device.getX();
-            subval+=device.nextInstruct();
-            subval = device.getMem(subval);
-            device.addCycles(4);
-        }
-        else if(mode==INDY){
-            subval = device.getY();
-            subval+=device.nextInstruct();
-            subval = device.getMem(subval);
-            device.addCycles(5);
-        }
-        else{ //MODE==EXT
-            subval = device.getMem(get16bitImmediate());
-            device.addCycles(4);
-        }
-        
-        subval |= device.getB();
-        device.clearCCRbits((byte)(2)); //Clear V
-        updateCCR8(subval);
-        device.setB(subval);
-    }
-    
-    /** Add to Accumulator A **/
-    public void adda(int mode){
-        int addval;
-        
-        if(mode==IMM){
-            addval = get8bitImmediate();
-            device.addCycles(2);
-        }
-        else if(mode==DIR){
-            addval = device.getMem(get8bitImmediate());
-            device.addCycles(3);
-        }
-        else if(mode==INDX){
-            addval = device.getX();
-            addval+=device.nextInstruct();
-            addval = device.getMem(addval);
-            device.addCycles(4);
-        }
-        else if(mode==INDY){
-            addval = device.getY();
-            addval+=device.nextInstruct();
-            addval = device.getMem(addval);
-            device.addCycles(5);
-        }
-        else{ //MODE==EXT
-            addval = device.getMem(get16bitImmediate());
-            device.addCycles(4);
-        }
-        
-        if((device.getA()&0xF)+(addval&0xF)>0xF)
-            device.setCCRbits((byte)(0x20)); //Set Half Carry bit
-        else
-            device.clearCCRbits((byte)(0x20));
-        
-        addval = device.getA() + addval;
-        if(addval > 255){
-            addval-=256;
-            device.setCCRbits((byte)(3)); //Set V and C
-        }
-        else
-            device.clearCCRbits((byte)(3)); //Clear V and C
-        updateCCR8(addval);
-        device.setA(addval);
-    }
-    
-    /** Add with carry to Accumulator A **/
-    public void adca(int mode){
-        int addval;
-        
-        if(mode==IMM){
-            addval = get8bitImmediate();
-            device.addCycles(2);
-        }
-        else if(mode==DIR){
-            addval = device.getMem(get8bitImmediate());
-            device.addCycles(3);
-        }
-        else if(mode==INDX){
-            addval = device.getX();
-            addval+=device.nextInstruct();
-            addval = device.getMem(addval);
-            device.addCycles(4);
-        }
-        else if(mode==INDY){
-            addval = device.getY();
-            addval+=device.nextInstruct();
-            addval = device.getMem(addval);
-            device.addCycles(5);
-        }
-        else{ //MODE==EXT
-            addval = device.getMem(get16bitImmediate());
-            device.addCycles(4);
-        }
-        
-        if((device.getA()&0xF)+(addval&0xF)+(device.getCCR()&1)>0xF)
-            device.setCCRbits((byte)(0x20)); //Set Half Carry bit
-        else
-            device.clearCCRbits((byte)(0x20));
-        
-        addval = device.getA() + addval + (device.getCCR()&1);
-        if(addval > 255){
-            addval-=256;
-            device.setCCRbits((byte)(3)); //Set V and C
-        }
-        else
-            device.clearCCRbits((byte)(3)); //Clear V and C
-        updateCCR8(addval);
-        device.setA(addval);
-    }
-    
-    /** Add to Accumulator B **/
-    public void addb(int mode){
-        int addval;
-        
-        if(mode==IMM){
-            addval = get8bitImmediate();
-            device.addCycles(2);
-        }
-        else if(mode==DIR){
-            addval = device.getMem(get8bitImmediate());
-            device.addCycles(3);
-        }
-        else if(mode==INDX){
-            addval = device.getX();
-            addval+=device.nextInstruct();
-            addval = device.getMem(addval);
-            device.addCycles(4);
-        }
-        else if(mode==INDY){
-            addval = device.getY();
-            addval+=device.nextInstruct();
-            addval = device.getMem(addval);
-            device.addCycles(5);
-        }
-        else{ //MODE==EXT
-            addval = device.getMem(get16bitImmediate());
-            device.addCycles(4);
-        }
-        
-        if((device.getB()&0xF)+(addval&0xF)>0xF)
-            device.setCCRbits((byte)(0x20)); //Set Half Carry bit
-        else
-            device.clearCCRbits((byte)(0x20));
-        
-        addval = device.getB() + addval;
-        if(addval > 255){
-            addval-=256;
-            device.setCCRbits((byte)(3)); //Set V and C
-        }
-        else
-            device.clearCCRbits((byte)(3)); //Clear V and C
-        updateCCR8(addval);
-        device.setB(addval);
-    }
-    
-    /** Add with carry to Accumulator B **/
-    public void adcb(int mode){
-        int addval;
-        
-        if(mode==IMM){
-            addval = get8bitImmediate();
-            device.addCycles(2);
-        }
-        else if(mode==DIR){
-            addval = device.getMem(get8bitImmediate());
-            device.addCycles(3);
-        }
-        else if(mode==INDX){
-            addval = device.getX();
-            addval+=device.nextInstruct();
-            addval = device.getMem(addval);
-            device.addCycles(4);
-        }
-        else if(mode==INDY){
-            addval = device.getY();
-            addval+=device.nextInstruct();
-            addval = device.getMem(addval);
-            device.addCycles(5);
-        }
-        else{ //MODE==EXT
-            addval = device.getMem(get16bitImmediate());
-            device.addCycles(4);
-        }
-        
-        if((device.getB()&0xF)+(addval&0xF)+(device.getCCR()&1)>0xF)
-            device.setCCRbits((byte)(0x20)); //Set Half Carry bit
-        else
-            device.clearCCRbits((byte)(0x20));
-        
-        addval = device.getB() + addval + (device.getCCR()&1);
-        if(addval > 255){
-            addval-=256;
-            device.setCCRbits((byte)(3)); //Set V and C
-        }
-        else
-            device.clearCCRbits((byte)(3)); //Clear V and C
-        updateCCR8(addval);
-        device.setB(addval);
-    }
-    
-    /** Subtract from Accumulator D **/
-    public void subd(int mode){
-        int subval,result;
-        
-        if(mode==IMM){
-            subval = get16bitImmediate();
-            device.addCycles(4);
-        }
-        else if(mode==DIR){
-            int temploc=get8bitImmediate();
-            subval = device.getMem(temploc);
-            subval<<=8;
-            subval += device.getMem(temploc+1);
-            device.addCycles(5);
-        }
-        else if(mode==INDX){
-            int temploc = device.getX();
-            temploc+=device.nextInstruct();
-            subval = device.getMem(temploc);
-            subval<<=8;
-            subval+=device.getMem(temploc+1);
-            device.addCycles(6);
-        }
-        else if(mode==INDY){
-            int temploc = device.getY();
-            temploc+=device.nextInstruct();
-            subval = device.getMem(temploc);
-            subval<<=8;
-            subval+=device.getMem(temploc+1);
-            device.addCycles(7);
-        }
-        else{ //MODE==EXT
-            int temploc=get16bitImmediate();
-            subval = device.getMem(temploc);
-            subval<<=8;
-            subval += device.getMem(temploc+1);
-            device.addCycles(6);
-        }
-        
-        int d = device.getD();
-        result = d - subval;
-        
-        if(result < 0){
-            result+=65536;
-            device.setCCRbits((byte)(1)); //Set C
-        }
-        else
-            device.clearCCRbits((byte)(1)); //Clear C
-        
-        updateOverflow16(d, subval, result);
-        updateCCR16(result);
-        device.setD(result);
-    }
-    
-    /** Add to Accumulator D **/
-    public void addd(int mode){
-        int addval;
-        
-        if(mode==IMM){
-            addval = get16bitImmediate();
-            device.addCycles(4);
-        }
-        else if(mode==DIR){
-            int temploc=get8bitImmediate();
-            addval = device.getMem(temploc);
-            addval<<=8;
-            addval += device.getMem(temploc+1);
-            device.addCycles(5);
-        }
-        else if(mode==INDX){
-            int temploc = device.getX();
-            temploc+=device.nextInstruct();
-            addval = device.getMem(temploc);
-            addval<<=8;
-            addval+=device.getMem(temploc+1);
-            device.addCycles(6);
-        }
-        else if(mode==INDY){
-            int temploc = device.getY();
-            temploc+=device.nextInstruct();
-            addval = device.getMem(temploc);
-            addval<<=8;
-            addval+=device.getMem(temploc+1);
-            device.addCycles(7);
-        }
-        else{ //MODE==EXT
-            int temploc=get16bitImmediate();
-            addval = device.getMem(temploc);
-            addval<<=8;
-            addval += device.getMem(temploc+1);
-            device.addCycles(6);
-        }
-        
-        addval = device.getD() + addval;
-        if(addval > 65535){
-            addval-=65536;
-            device.setCCRbits((byte)(3)); //Set V and C
-        }
-        else
-            device.clearCCRbits((byte)(3)); //Clear V and C
-        updateCCR16(addval);
-        device.setD(addval);
-    }
-    
-    /** Compare Accumulator D **/
-    public void cmpd(int mode){
-        int subval,result;
-        
-        if(mode==IMM){
-            subval = get16bitImmediate();
-            device.addCycles(5);
-        }
-        else if(mode==DIR){
-            int temploc=get8bitImmediate();
-            subval = device.getMem(temploc);
-            subval<<=8;
-            subval += device.getMem(temploc+1);
-            device.addCycles(6);
-        }
-        else if(mode==INDX){
-            int temploc = device.getX();
-            temploc+=device.nextInstruct();
-            subval = device.getMem(temploc);
-            subval<<=8;
-            subval+=device.getMem(temploc+1);
-            device.addCycles(7);
-        }
-        else if(mode==INDY){
-            int temploc = device.getY();
-            temploc+=device.nextInstruct();
-            subval = device.getMem(temploc);
-            subval<<=8;
-            subval+=device.getMem(temploc+1);
-            device.addCycles(7);
-        }
-        else{ //MODE==EXT
-            int temploc=get16bitImmediate();
-            subval = device.getMem(temploc);
-            subval<<=8;
-            subval += device.getMem(temploc+1);
-            device.addCycles(7);
-        }
-        
-        int d = device.getD();
-        result = d - subval;
-        
-        if(result < 0){
-            result+=65536;
-            device.setCCRbits((byte)(1)); //Set C
-        }
-        else
-            device.clearCCRbits((byte)(1)); //Clear C
-        
-        updateOverflow16(d, subval, result);
-        updateCCR16(result);
-    }
-    
-    /** Compare Accumulator X **/
-    public void cmpx(int mode){
-        int subval,result;
-        
-        if(mode==IMM){
-            subval = get16bitImmediate();
-            device.addCycles(4);
-        }
-        else if(mode==DIR){
-            int temploc=get8bitImmediate();
-            subval = device.getMem(temploc);
-            subval<<=8;
-            subval += device.getMem(temploc+1);
-            device.addCycles(5);
-        }
-        else if(mode==INDX){
-            int temploc = device.getX();
-            temploc+=device.nextInstruct();
-            subval = device.getMem(temploc);
-            subval<<=8;
-            subval+=device.getMem(temploc+1);
-            device.addCycles(6);
-        }
-        else if(mode==INDY){
-            int temploc = device.getY();
-            temploc+=device.nextInstruct();
-            subval = device.getMem(temploc);
-            subval<<=8;
-            subval+=device.getMem(temploc+1);
-            device.addCycles(7);
-        }
-        else{ //MODE==EXT
-            int temploc=get16bitImmediate();
-            subval = device.getMem(temploc);
-            subval<<=8;
-            subval += device.getMem(temploc+1);
-            device.addCycles(6);
-        }
-        
-        int x = device.getX();
-        result = x - subval;
-        if(result < 0){
-            result+=65536;
-            device.setCCRbits((byte)(1)); //Set C
-        }
-        else
-            device.clearCCRbits((byte)(1)); //Clear C
-        
-        updateOverflow16(x, subval, result);
-        updateCCR16(result);
-    }
-    
-    /** Compare Accumulator Y **/
-    public void cmpy(int mode){
-        int subval,result;
-        
-        if(mode==IMM){
-            subval = get16bitImmediate();
-            device.addCycles(5);
-        }
-        else if(mode==DIR){
-            int temploc=get8bitImmediate();
-            subval = device.getMem(temploc);
-            subval<<=8;
-            subval += device.getMem(temploc+1);
-            device.addCycles(6);
-        }
-        else if(mode==INDX){
-            int temploc = device.getX();
-            temploc+=device.nextInstruct();
-            subval = device.getMem(temploc);
-            subval<<=8;
-            subval+=device.getMem(temploc+1);
-            device.addCycles(7);
-        }
-        else if(mode==INDY){
-            int temploc = device.getY();
-            temploc+=device.nextInstruct();
-            subval = device.getMem(temploc);
-            subval<<=8;
-            subval+=device.getMem(temploc+1);
-            device.addCycles(7);
-        }
-        else{ //MODE==EXT
-            int temploc=get16bitImmediate();
-            subval = device.getMem(temploc);
-            subval<<=8;
-            subval += device.getMem(temploc+1);
-            device.addCycles(7);
-        }
-        
-        int y = device.getY();
-        result = y - subval;
-        if(result < 0){
-            result+=65536;
-            device.setCCRbits((byte)(1)); //Set C
-        }
-        else
-            device.clearCCRbits((byte)(1)); //Clear C
-        
-        updateOverflow16(y, subval, result);
-        updateCCR16(result);
-    }
-    
-    /** Load accumulator D **/
-    public void ldd(int mode){
-        int value=0;
-        
-        //Grab the operand
-        if(mode==IMM){
-            value = get16bitImmediate();
-            device.addCycles(3);
-        }
-        else if(mode==DIR){
-            int tempad = get8bitImmediate();
-            value = device.getMem(tempad);
-            value = value << 8;
-            value += device.getMem(tempad+1);
-            device.addCycles(4);
-        }
-        else if(mode==EXT){
-            int tempad = get16bitImmediate();
-            value = device.getMem(tempad);
-            value = value << 8;
-            value += device.getMem(tempad+1);
-            device.addCycles(5);
-        }
-        else if(mode==INDX){
-            int tempad = device.getX()+get8bitImmediate();
-            value = device.getMem(tempad);
-            value = value << 8;
-            value += device.getMem(tempad+1);
-            device.addCycles(5);
-        }
-        else if(mode==INDY){
-            int tempad = device.getY()+get8bitImmediate();
-            value = device.getMem(tempad);
-            value = value << 8;
-            value += device.getMem(tempad+1);
-            device.addCycles(6);
-        }
-        //No else statement, because I want something bad to happen if you don't call this correctly.
-        device.setD(value);
-        updateCCR16(value); //Set negative and zero bits
-        device.clearCCRbits((byte)(0x02)); //Clear the overflow bit
-    }
-    
-    /** Load accumulator A **/
-    public void ldaa(int mode){
-        int value=0;
-        
-        //Grab the operand
-        if(mode==IMM){
-            value = get8bitImmediate();
-            device.addCycles(2);
-        }
-        else if(mode==DIR){
-            int tempad = get8bitImmediate();
-            value = device.getMem(tempad);
-            device.addCycles(3);
-        }
-        else if(mode==EXT){
-            int tempad = get16bitImmediate();
-            value = device.getMem(tempad);
-            device.addCycles(4);
-        }
-        else if(mode==INDX){
-            int tempad = device.getX()+get8bitImmediate();
-            value = device.getMem(tempad);
-            device.addCycles(4);
-        }
-        else if(mode==INDY){
-            int tempad = device.getY()+get8bitImmediate();
-            value = device.getMem(tempad);
-            device.addCycles(5);
-        }
-        //No else statement, because I want something bad to happen if you don't call this correctly.
-        device.setA(value);
-        updateCCR8(value); //Set negative and zero bits
-        device.clearCCRbits((byte)(0x02)); //Clear the overflow bit
-    }
-    
-    /** Clear an 8-bit value **/
-    public void clr(int mode){
-        if(mode==EXT){
-            int tempad = get16bitImmediate();
-            device.writeMem(tempad,0);
-            device.addCycles(6);
-        }
-        else if(mode==INDX){
-            int tempad = device.getX()+get8bitImmediate();
-            device.writeMem(tempad,0);
-            device.addCycles(6);
-        }
-        else if(mode==INDY){
-            int tempad = device.getY()+get8bitImmediate();
-            device.writeMem(tempad,0);
-            device.addCycles(7);
-        }
-        else if(mode==IMMA){
-            device.setA(0);
-            device.addCycles(2);
-        }
-        else if(mode==IMMB){
-            device.setB(0);
-            device.addCycles(2);
-        }
-        
-        //Update CCR
-        device.setCCRbits((byte)0x04);
-        device.clearCCRbits((byte)0xB);
-    }
-    
-    /** Increment 8-bit value by one **/
-    public void inc(int mode){
-        int ramaddr = 0;
-        int value = 0;
-        byte ccrupdate=0;
-        
-        if(mode==EXT){
-            ramaddr = get16bitImmediate();
-            value = device.getMem(ramaddr);
-            device.addCycles(6);
-        }
-        else if(mode==INDX){
-            ramaddr = device.getX()+get8bitImmediate();
-            value = device.getMem(ramaddr);
-            device.addCycles(6);
-        }
-        else if(mode==INDY){
-            ramaddr = device.getY()+get8bitImmediate();
-            value = device.getMem(ramaddr);
-            device.addCycles(7);
-        }
-        
-        value++; //Add one to the value.
-        if(value == 256){
-            ccrupdate |= 6;
-            value = 0;
-        }
-        if(value >= 128)
-            ccrupdate |= 8;
-        
-        //Write back the value
-        device.writeMem(ramaddr,value);
-        
-        //Update CCR
-        device.clearCCRbits((byte)0xE);
-        device.setCCRbits(ccrupdate);
-    }
-    
-    /** Decrement 8-bit value by one **/
-    public void dec(int mode){
-        int ramaddr = 0;
-        int value = 0;
-        byte ccrupdate=0;
-        
-        if(mode==EXT){
-            ramaddr = get16bitImmediate();
-            value = device.getMem(ramaddr);
-            device.addCycles(6);
-        }
-        else if(mode==INDX){
-            ramaddr = device.getX()+get8bitImmediate();
-            value = device.getMem(ramaddr);
-            device.addCycles(6);
-        }
-        else if(mode==INDY){
-            ramaddr = device.getY()+get8bitImmediate();
-            value = device.getMem(ramaddr);
-            device.addCycles(7);
-        }
-        
-        value--; //Subtract one from the value.
-        if(value == -1){
-            ccrupdate |= 0x2;
-            value = 255;
-        }
-        if(value >= 128)
-            ccrupdate |= 8;
-        if(value == 0)
-            ccrupdate |= 4;
-        
-        //Write back the value
-        device.writeMem(ramaddr,value);
-        
-        //Update CCR
-        device.clearCCRbits((byte)0xE);
-        device.setCCRbits(ccrupdate);
-    }
-    
-    /** Increment Accumulator A by one **/
-    public void inca(){
-        int value = 0;
-        byte ccrupdate=0;
-        
-        value = device.getA();
-        device.addCycles(2);
-                
-        value++; //Add one to the value.
-        if(value == 256){
-            ccrupdate |= 6;
-            value = 0;
-        }
-        if(value >= 128)
-            ccrupdate |= 8;
-        
-        //Write back the value
-        device.setA(value);
-        
-        //Update CCR
-        device.clearCCRbits((byte)0xE);
-        device.setCCRbits(ccrupdate);
-    }
-    
-    /** Decrement Accumulator A by one **/
-    public void deca(){
-        int value = 0;
-        byte ccrupdate=0;
-        
-        value = device.getA();
-        device.addCycles(2);
-                
-        value--; //Subtract one from the value.
-        if(value == -1){
-            ccrupdate |= 0x2;
-            value = 255;
-        }
-        if(value >= 128)
-            ccrupdate |= 8;
-        if(value == 0)
-            ccrupdate |= 4;
-        
-        //Write back the value
-        device.setA(value);
-        
-        //Update CCR
-        device.clearCCRbits((byte)0xE);
-        device.setCCRbits(ccrupdate);
-    }
-    
-    /** Increment Accumulator B by one **/
-    public void incb(){
-        int value = 0;
-        byte ccrupdate=0;
-        
-        value = device.getB();
-        device.addCycles(2);
-        
-        value++; //Add one to the value.
-        if(value == 256){
-            ccrupdate |= 6;
-            value = 0;
-        }
-        if(value >= 128)
-            ccrupdate |= 8;
-        
-        //Write back the value
-        device.setB(value);
-        
-        //Update CCR
-        device.clearCCRbits((byte)0xE);
-        device.setCCRbits(ccrupdate);
-    }
-    
-    /** Decrement Accumulator B by one **/
-    public void decb(){
-        int value = 0;
-        byte ccrupdate=0;
-        
-        value = device.getB();
-        device.addCycles(2);
-                
-        value--; //Subtract one from the value.
-        if(value == -1){
-            ccrupdate |= 0x2;
-            value = 255;
-        }
-        if(value >= 128)
-            ccrupdate |= 8;
-        if(value == 0)
-            ccrupdate |= 4;
-        
-        //Write back the value
-        device.setB(value);
-        
-        //Update CCR
-        device.clearCCRbits((byte)0xE);
-        device.setCCRbits(ccrupdate);
-    }
-    
-    /** Increment the stack pointer **/
-    public void ins(){
-        int value = device.getSP();
-        byte ccrupdate=0;
-        
-        device.addCycles(3);
-                
-        value++; //Add one to the value.
-        if(value == 65536)
-            value = 0;
-        
-        //Write back the value
-        device.setSP(value);
-    }
-    
-    /** Decrement the stack pointer **/
-    public void des(){
-        int value = device.getSP();
-        byte ccrupdate=0;
-        
-        device.addCycles(3);
-                
-        value--; //Add one to the value.
-        if(value == -1)
-            value = 65535;
-        
-        //Write back the value
-        device.setSP(value);
-    }
-    
-    /** Increment X **/
-    public void inx(){
-        int value = device.getX();
-        byte ccrupdate=0;
-        
-        device.addCycles(3);
-                
-        value++; //Add one to the value.
-        if(value == 65536){
-            value = 0;
-            device.setCCRbits((byte)(4));
-        }
-        
-        //Write back the value
-        device.setX(value);
-    }
-    
-    /** Increment Y **/
-    public void iny(){
-        int value = device.getY();
-        byte ccrupdate=0;
-        
-        device.addCycles(4);
-        
-        value++; //Add one to the value.
-        if(value == 65536){
-            value = 0;
-            device.setCCRbits((byte)(4));
-        }
-        
-        //Write back the value
-        device.setY(value);
-    }
-    
-    /** Decrement X **/
-    public void dex(){
-        int value = device.getX();
-        
-        device.addCycles(3);
-                
-        value--; //Subtract one from the value.
-        if(value == -1){
-            value = 0xFFFF;
-        }
-        if(value == 0)
-            device.setCCRbits((byte)(4));
-        
-        //Write back the value
-        device.setX(value);
-    }
-    
-    /** Decrement Y **/
-    public void dey(){
-        int value = device.getY();
-        
-        device.addCycles(4);
-        
-        value--; //Subtract one from the value.
-        if(value == -1){
-            value = 0xFFFF;
-        }
-        if(value == 0)
-            device.setCCRbits((byte)(4));
-        
-        //Write back the value
-        device.setY(value);
-    }
-    
-    /** Store accumulator A **/
-    public void staa(int mode){
-        int value=device.getA();
-        
-        updateCCR8(value); //Set negative and zero bits
-        device.clearCCRbits((byte)(0x02)); //Clear the overflow bit
-        
-        //Grab the operand
-        if(mode==DIR){
-            int tempad = get8bitImmediate();
-            device.writeMem(tempad,value);
-            device.addCycles(3);
-        }
-        else if(mode==EXT){
-            int tempad = get16bitImmediate();
-            device.writeMem(tempad,value);
-            device.addCycles(4);
-        }
-        else if(mode==INDX){
-            int tempad = device.getX()+get8bitImmediate();
-            device.writeMem(tempad,value);
-            device.addCycles(4);
-        }
-        else if(mode==INDY){
-            int tempad = device.getY()+get8bitImmediate();
-            device.writeMem(tempad,value);
-            device.addCycles(5);
-        }
-    }
-    
-    /** Store accumulator B **/
-    public void stab(int mode){
-        int value=device.getB();
-        
-        updateCCR8(value); //Set negative and zero bits
-        device.clearCCRbits((byte)(0x02)); //Clear the overflow bit
-        
-        //Grab the operand
-        if(mode==DIR){
-            int tempad = get8bitImmediate();
-            device.writeMem(tempad,value);
-            device.addCycles(3);
-        }
-        else if(mode==EXT){
-            int tempad = get16bitImmediate();
-            device.writeMem(tempad,value);
-            device.addCycles(4);
-        }
-        else if(mode==INDX){
-            int tempad = device.getX()+get8bitImmediate();
-            device.writeMem(tempad,value);
-            device.addCycles(4);
-        }
-        else if(mode==INDY){
-            int tempad = device.getY()+get8bitImmediate();
-            device.writeMem(tempad,value);
-            device.addCycles(5);
-        }
-    }
-    
-    /** Store accumulator D - Sexually transmitted disease **/
-    public void std(int mode){
-        int value=device.getD();
-        
-        updateCCR16(value); //Set negative and zero bits
-        device.clearCCRbits((byte)(0x02)); //Clear the overflow bit
-        
-        //Grab the operand
-        if(mode==DIR){
-            int tempad = get8bitImmediate();
-            device.writeMem(tempad,(value>>8));
-            device.writeMem(tempad+1,(value&0xFF));
-            device.addCycles(4);
-        }
-        else if(mode==EXT){
-            int tempad = get16bitImmediate();
-            device.writeMem(tempad,(value>>8));
-            device.writeMem(tempad+1,(value&0xFF));
-            device.addCycles(5);
-        }
-        else if(mode==INDX){
-            int tempad = device.getX()+get8bitImmediate();
-            device.writeMem(tempad,(value>>8));
-            device.writeMem(tempad+1,(value&0xFF));
-            device.addCycles(5);
-        }
-        else if(mode==INDY){
-            int tempad = device.getY()+get8bitImmediate();
-            device.writeMem(tempad,(value>>8));
-            device.writeMem(tempad+1,(value&0xFF));
-            device.addCycles(6);
-        }
-    }
-    
-    /** Store stack pointer **/
-    public void sts(int mode){
-        int value=device.getSP();
-        
-        updateCCR16(value); //Set negative and zero bits
-        device.clearCCRbits((byte)(0x02)); //Clear the overflow bit
-        
-        //Grab the operand
-        if(mode==DIR){
-            int tempad = get8bitImmediate();
-            device.writeMem(tempad,(value>>8));
-            device.writeMem(tempad+1,(value&0xFF));
-            device.addCycles(4);
-        }
-        else if(mode==EXT){
-            int tempad = get16bitImmediate();
-            device.writeMem(tempad,(value>>8));
-            device.writeMem(tempad+1,(value&0xFF));
-            device.addCycles(5);
-        }
-        else if(mode==INDX){
-            int tempad = device.getX()+get8bitImmediate();
-            device.writeMem(tempad,(value>>8));
-            device.writeMem(tempad+1,(value&0xFF));
-            device.addCycles(5);
-        }
-        else if(mode==INDY){
-            int tempad = device.getY()+get8bitImmediate();
-            device.writeMem(tempad,(value>>8));
-            device.writeMem(tempad+1,(value&0xFF));
-            device.addCycles(6);
-        }
-    }
-    
-    /** Store accumulator X **/
-    public void stx(int mode){
-        int value=device.getX();
-        
-        updateCCR16(value); //Set negative and zero bits
-        device.clearCCRbits((byte)(0x02)); //Clear the overflow bit
-        
-        //Grab the operand
-        if(mode==DIR){
-            int tempad = get8bitImmediate();
-            device.writeMem(tempad,(value>>8));
-            device.writeMem(tempad+1,(value&0xFF));
-            device.addCycles(4);
-        }
-        else if(mode==EXT){
-            int tempad = get16bitImmediate();
-            device.writeMem(tempad,(value>>8));
-            device.writeMem(tempad+1,(value&0xFF));
-            device.addCycles(5);
-        }
-        else if(mode==INDX){
-            int tempad = device.getX()+get8bitImmediate();
-            device.writeMem(tempad,(value>>8));
-            device.writeMem(tempad+1,(value&0xFF));
-            device.addCycles(5);
-        }
-        else if(mode==INDY){
-            int tempad = device.getY()+get8bitImmediate();
-            device.writeMem(tempad,(value>>8));
-            device.writeMem(tempad+1,(value&0xFF));
-            device.addCycles(6);
-        }
-    }
-    
-    /** Store accumulator Y **/
-    public void sty(int mode){
-        int value=device.getY();
-        
-        updateCCR16(value); //Set negative and zero bits
-        device.clearCCRbits((byte)(0x02)); //Clear the overflow bit
-        
-        //Grab the operand
-        if(mode==DIR){
-            int tempad = get8bitImmediate();
-            device.writeMem(tempad,(value>>8));
-            device.writeMem(tempad+1,(value&0xFF));
-            device.addCycles(5);
-        }
-        else if(mode==EXT){
-            int tempad = get16bitImmediate();
-            device.writeMem(tempad,(value>>8));
-            device.writeMem(tempad+1,(value&0xFF));
-            device.addCycles(6);
-        }
-        else if(mode==INDX){
-            int tempad = device.getX()+get8bitImmediate();
-            device.writeMem(tempad,(value>>8));
-            device.writeMem(tempad+1,(value&0xFF));
-            device.addCycles(6);
-        }
-        else if(mode==INDY){
-            int tempad = device.getY()+get8bitImmediate();
-            device.writeMem(tempad,(value>>8));
-            device.writeMem(tempad+1,(value&0xFF));
-            device.addCycles(6);
-        }
-    }
-    
-    /** Test for Zero or Negative in memory **/
-    public void tst(int mode){
-        int value=0;
-        
-        if(mode==EXT){
-            int tempad = get16bitImmediate();
-            value = device.getMem(tempad);
-            device.addCycles(6);
-        }
-        else if(mode==INDX){
-            int tempad = device.getX()+get8bitImmediate();
-            value = device.getMem(tempad);
-            device.addCycles(6);
-        }
-        else if(mode==INDY){
-            int tempad = device.getY()+get8bitImmediate();
-            value = device.getMem(tempad);
-            device.addCycles(7);
-        }
-        updateCCR8(value); //Set negative and zero bits
-        device.clearCCRbits((byte)(0x03)); //Clear the overflow and carry bits
-    }
-    
-    /** Test A for Zero or Negative **/
-    public void tsta(){
-        int value=device.getA();
-        
-        device.addCycles(2);
-        
-        updateCCR8(value); //Set negative and zero bits
-        device.clearCCRbits((byte)(0x03)); //Clear the overflow and carry bits
-    }
-    
-    /** Test B for Zero or Negative **/
-    public void tstb(){
-        int value=device.getB();
-        
-        device.addCycles(2);
-        
-        updateCCR8(value); //Set negative and zero bits
-        device.clearCCRbits((byte)(0x03)); //Clear the overflow and carry bits
-    }
-    
-    /** Transfer A to B **/
-    public void tab(){
-        int value=device.getA();
-        device.setB(value);
-        device.addCycles(2);
-        
-        updateCCR8(value); //Set negative and zero bits
-        device.clearCCRbits((byte)(0x02)); //Clear the overflow bit
-    }
-    
-    /** Transfer B to A - Actual instruction name To Be Announced **/
-    public void tba(){
-        int value=device.getB();
-        device.setA(value);
-        device.addCycles(2);
-        
-        updateCCR8(value); //Set negative and zero bits
-        device.clearCCRbits((byte)(0x02)); //Clear the overflow bit
-    }
-    
-    /** Transfer A to CCR **/
-    public void tap(){
-        int value=device.getA();
-        if(value >= 128)
-            value-=256;
-        device.setCCR((byte)(value));
-        device.addCycles(2);
-    }
-    
-    /** Transfer CCR to A **/
-    public void tpa(){
-        int value=device.getCCR();
-        if(value < 0)
-            value+=256;
-        device.setA(value);
-        device.addCycles(2);
-    }
-    
-    /** Exchange D and X **/
-    public void xgdx(){
-        int value=device.getX();
-        device.setX(device.getD());
-        device.setD(value);
-        device.addCycles(3);
-    }
-    
-    /** Exchange D and Y **/
-    public void xgdy(){
-        int value=device.getY();
-        device.setY(device.getD());
-        device.setD(value);
-        device.addCycles(4);
-    }
-    
-    /** Transfer Stack Pointer to X **/
-    public void tsx(){
-        int value=device.getSP();
-        device.setX(value+1);
-        device.addCycles(3);
-    }
-    
-    /** Transfer X to Stack Pointer **/
-    public void txs(){
-        int value=device.getX();
-        device.setSP(value-1);
-        device.addCycles(3);
-    }
-    
-    /** Transfer Stack Pointer to Y **/
-    public void tsy(){
-        int value=device.getSP();
-        device.setY(value+1);
-        device.addCycles(4);
-    }
-    
-    /** Transfer Y to Stack Pointer **/
-    public void tys(){
-        int value=device.getY();
-        device.setSP(value-1);
-        device.addCycles(4);
-    }
-    
-    public void ldab(int mode){
-        int value=0;
-        
-        //Grab the operand
-        if(mode==IMM){
-            value = get8bitImmediate();
-            device.addCycles(2);
-        }
-        else if(mode==DIR){
-            int tempad = get8bitImmediate();
-            value = device.getMem(tempad);
-            device.addCycles(3);
-        }
-        else if(mode==EXT){
-            int tempad = get16bitImmediate();
-            value = device.getMem(tempad);
-            device.addCycles(4);
-        }
-        else if(mode==INDX){
-            int tempad = device.getX()+get8bitImmediate();
-            value = device.getMem(tempad);
-            device.addCycles(4);
-        }
-        else if(mode==INDY){
-            int tempad = device.getY()+get8bitImmediate();
-            value = device.getMem(tempad);
-            device.addCycles(5);
-        }
-        //No else statement, because I want something bad to happen if you don't call this correctly.
-        device.setB(value);
-        updateCCR8(value);
-        device.clearCCRbits((byte)(0x02)); //Clear the overflow bit
-    }
-    
-    /** Load accumulator X **/
-    public void ldx(int mode){
-        int value=0;
-        
-        //Grab the operand
-        if(mode==IMM){
-            value = get16bitImmediate();
-            device.addCycles(3);
-        }
-        else if(mode==DIR){
-            int tempad = get8bitImmediate();
-            value = device.getMem(tempad);
-            value = value << 8;
-            value += device.getMem(tempad+1);
-            device.addCycles(4);
-        }
-        else if(mode==EXT){
-            int tempad = get16bitImmediate();
-            value = device.getMem(tempad);
-            value = value << 8;
-            value += device.getMem(tempad+1);
-            device.addCycles(5);
-        }
-        else if(mode==INDX){
-            int tempad = device.getX()+get8bitImmediate();
-            value = device.getMem(tempad);
-            value = value << 8;
-            value += device.getMem(tempad+1);
-            device.addCycles(5);
-        }
-        else if(mode==INDY){
-            int tempad = device.getY()+get8bitImmediate();
-            value = device.getMem(tempad);
-            value = value << 8;
-            value += device.getMem(tempad+1);
-            device.addCycles(6);
-        }
-        //No else statement, because I want something bad to happen if you don't call this correctly.
-        device.setX(value);
-        updateCCR16(value); //Set negative and zero bits
-        device.clearCCRbits((byte)(0x02)); //Clear the overflow bit
-    }
-    
-    /** Load accumulator Y **/
-    public void ldy(int mode){
-        int value=0;
-        
-        //Grab the operand
-        if(mode==IMM){
-            value = get16bitImmediate();
-            device.addCycles(4);
-        }
-        else if(mode==DIR){
-            int tempad = get8bitImmediate();
-            value = device.getMem(tempad);
-            value = value << 8;
-            value += device.getMem(tempad+1);
-            device.addCycles(5);
-        }
-        else if(mode==EXT){
-            int tempad = get16bitImmediate();
-            value = device.getMem(tempad);
-            value = value << 8;
-            value += device.getMem(tempad+1);
-            device.addCycles(6);
-        }
-        else if(mode==INDX){
-            int tempad = device.getX()+get8bitImmediate();
-            value = device.getMem(tempad);
-            value = value << 8;
-            value += device.getMem(tempad+1);
-            device.addCycles(6);
-        }
-        else if(mode==INDY){
-            int tempad = device.getY()+get8bitImmediate();
-            value = device.getMem(tempad);
-            value = value << 8;
-            value += device.getMem(tempad+1);
-            device.addCycles(6);
-        }
-        //No else statement, because I want something bad to happen if you don't call this correctly.
-        device.setY(value);
-        updateCCR16(value); //Set negative and zero bits
-        device.clearCCRbits((byte)(0x02)); //Clear the overflow bit
-    }
-    
-    /* Update the zero and negatives in CCR regarding an 8-bit value */
-    private void updateCCR8(int value){
-        if(value == 0){
-            device.setCCRbits((byte)4);
-            device.clearCCRbits((byte)8);
-        }
-        else if (value >= 128){
-            device.setCCRbits((byte)8);
-            device.clearCCRbits((byte)4);
-        }
-        else{ //Not zero, not negative
-            device.clearCCRbits((byte)0xC);
-        }
-    }
-    
-    /* Update the zero and negatives in CCR regarding an 16-bit value */
-    private void updateCCR16(int value){
-        if(value == 0){
-            device.setCCRbits((byte)4);
-            device.clearCCRbits((byte)8);
-        }
-        else if (value >= 0x8000){
-            device.setCCRbits((byte)8);
-            device.clearCCRbits((byte)4);
-        }
-        else{ //Not zero, not negative
-            device.clearCCRbits((byte)0xC);
-        }
-    }
-    
-    /* Update the overflow flag based on the result of subtraction */
-    private void updateOverflow8(int dest, int sub, int result){
-        //dest and sub are treated like signed bytes.
-        //If dest (usually accumulator A) is negative, sub is positive, and result is positive, overflow
-        //If dest is positive, sub is negative and result is negative, overflow
-        if(((dest&0x80) != (sub&0x80)) && (sub&0x80) == (result&0x80))
-            device.setCCRbits((byte)(2)); //Set V
-        else
-            device.clearCCRbits((byte)(2)); //Clear V
-    }
-    
-    private void updateOverflow16(int dest, int sub, int result){
-        //dest and sub are treated like signed 16-bit integers. (s16, short)
-        //If dest (D, X or Y) is negative, sub is positive, and result is positive, overflow
-        //If dest is positive, sub is negative and result is negative, overflow
-        if(((dest&0x8000) != (sub&0x8000)) && (sub&0x8000) == (result&0x8000))
-            device.setCCRbits((byte)(2)); //Set V
-        else
-            device.clearCCRbits((byte)(2)); //Clear V
-    }
-    
-    private int get16bitImmediate(){
-        int value = device.nextInstruct();
-        value = value << 8;
-        value += device.nextInstruct();
-        return value;
-    }
-    
-    private int get8bitImmediate(){
-        return device.nextInstruct();
-    }
-    
-}
+/*
+ * hc11instructions.java
+ *
+ * Created on May 4, 2006, 12:44 PM
+ */
+
+package hc11emulator;
+
+/**
+ * All of the HC11 instructions are executed by this class. Each instruction has its own function.
+ * Operand bytes are fetched once by hc11_DecodeCache and passed in, already packed big-endian into
+ * a single int. The base cycle count of each opcode is also added by the decoder, not in here.
+ * Instructions with more than one addressing mode get a handler for each mode, like subaIndx(). The
+ * handler fetches its operand with the effective address helpers at the bottom of this class and
+ * then calls a private method that holds the work shared by every mode.
+ * @author Paul Kratt
+ */
+public class hc11_Instructions {
+    private final hc11_Device device; //This instruction executor's host hardware
+    
+    /** Creates a new instance of hc11instructions 
+     @param device The HC11 device I'm executing instructions for
+    */
+    public hc11_Instructions(hc11_Device device) {
+        this.device = device;
+    }
+    
+    /** No Operation **/
+    public void nop(){
+        //Nothing to do, the cycles are counted by the decoder.
+    }
+    
+    /** Clear overflow flag **/
+    public void clv(){
+        device.clearCCRbits((byte)(2));
+    }
+    
+    /** Set overflow flag **/
+    public void sev(){
+        device.setCCRbits((byte)(2));
+    }
+    
+    /** Clear carry flag **/
+    public void clc(){
+        device.clearCCRbits((byte)(1));
+    }
+    
+    /** Set carry flag **/
+    public void sec(){
+        device.setCCRbits((byte)(1));
+    }
+    
+    /** Clear the interrupt flag, enabling interupts. **/
+    public void cli(){
+        device.clearCCRbits((byte)(0x10));
+    }
+    
+    /** Set the interrupt flag, disables interrupts **/
+    public void sei(){
+        device.setCCRbits((byte)(0x10));
+    }
+    
+    /** Subtract B from A, putting the result into A. Also used for CBA. **/
+    public void sba(boolean cba){
+        int result = sub8(device.getA(), device.getB(), 0);
+        if(!cba)
+            device.setA(result);
+    }
+    
+    /** Branch if the bits in mask are all set in value **/
+    private void brset(int value, int operand){
+        int mask = (operand>>8)&0xFF;
+        int jumprel = operand&0xFF;
+        
+        if(jumprel >= 128){
+            jumprel -= 256;
+        }
+        
+        value &= mask;
+        if(value == mask){
+            device.setPC(device.getPC()+jumprel);
+        }
+    }
+    
+    /** BRSET direct **/
+    public void brsetDir(int operand){
+        brset(device.getMem(operand>>16), operand);
+    }
+    
+    /** BRSET indexed by X **/
+    public void brsetIndx(int operand){
+        brset(readX8(operand>>16), operand);
+    }
+    
+    /** BRSET indexed by Y **/
+    public void brsetIndy(int operand){
+        brset(readY8(operand>>16), operand);
+    }
+    
+    /** Branch if the bits in mask are all cleared in value **/
+    private void brclr(int value, int operand){
+        int mask = (operand>>8)&0xFF;
+        int jumprel = operand&0xFF;
+        
+        if(jumprel >= 128){
+            jumprel -= 256;
+        }
+        
+        value &= mask;
+        if(value == 0){
+            device.setPC(device.getPC()+jumprel);
+        }
+    }
+    
+    /** BRCLR direct **/
+    public void brclrDir(int operand){
+        brclr(device.getMem(operand>>16), operand);
+    }
+    
+    /** BRCLR indexed by X **/
+    public void brclrIndx(int operand){
+        brclr(readX8(operand>>16), operand);
+    }
+    
+    /** BRCLR indexed by Y **/
+    public void brclrIndy(int operand){
+        brclr(readY8(operand>>16), operand);
+    }
+    
+    /** Bit set **/
+    private void bset(int addr, int mask){
+        int value = device.getMem(addr);
+        
+        value |= mask;
+        device.writeMem(addr,value);
+        
+        updateCCR8(value); //Update N and Z
+        device.clearCCRbits((byte)(2)); //Clear overflow bit
+    }
+    
+    /** BSET direct **/
+    public void bsetDir(int operand){
+        bset(operand>>8, operand&0xFF);
+    }
+    
+    /** BSET indexed by X **/
+    public void bsetIndx(int operand){
+        bset(addrX(operand>>8), operand&0xFF);
+    }
+    
+    /** BSET indexed by Y **/
+    public void bsetIndy(int operand){
+        bset(addrY(operand>>8), operand&0xFF);
+    }
+    
+    /** Bit clear **/
+    private void bclr(int addr, int mask){
+        int value = device.getMem(addr);
+        
+        value &= (~mask);
+        device.writeMem(addr,value);
+        
+        updateCCR8(value); //Update N and Z
+        device.clearCCRbits((byte)(2)); //Clear overflow bit
+    }
+    
+    /** BCLR direct **/
+    public void bclrDir(int operand){
+        bclr(operand>>8, operand&0xFF);
+    }
+    
+    /** BCLR indexed by X **/
+    public void bclrIndx(int operand){
+        bclr(addrX(operand>>8), operand&0xFF);
+    }
+    
+    /** BCLR indexed by Y **/
+    public void bclrIndy(int operand){
+        bclr(addrY(operand>>8), operand&0xFF);
+    }
+    
+    /** Decimal Adjust A for Binary Coded Decimal - TODO: Fix this! **/
+    public void daa(){
+        int value = device.getA();
+        
+        if(((device.getCCR()&1) == 1) || (value >= 0x9A)){
+            value += 0x66; //Carry bit was set, this is the result of a big addition.
+            value&=0xFF; //Clamp it.
+            device.setCCRbits((byte)(3));
+            if((value & 0xF) > 9) //This value needs adjusting!
+                value-=6;
+        }
+        else{
+            device.clearCCRbits((byte)(3));
+        }
+        if((value & 0xF) > 9){ //This value needs adjusting!
+            value+=6;
+        }
+                
+        updateCCR8(value); //Update negative and zero bits
+        device.setA(value);
+    }
+    
+    /** Add B to A, putting the result into A **/
+    public void aba(){
+        int result = device.getA() + device.getB();
+        
+        if(((device.getA()&0xF) + (device.getB()&0xF)) > 0xF)
+            device.setCCRbits((byte)(32)); //Set the Half-Carry bit
+        else
+            device.clearCCRbits((byte)(32)); //Clear the Half-Carry bit
+        
+        if(result >= 256){
+            device.setCCRbits((byte)(3)); //Set Carry and overflow
+            result-=256;
+        }
+        else
+            device.clearCCRbits((byte)(3)); //Clear carry and overflow
+        
+        updateCCR8(result);
+        device.setA(result);
+    }
+    
+    /** Add B to X, putting the result into X **/
+    public void abx(){
+        int result = device.getB() + device.getX();
+        
+        //No CCR's get updated this time, but we still need to properly handle overflow
+        if(result > 0xFFFF)
+            result -= 0x10000;
+        
+        device.setX(result);
+    }
+    
+    /** Add B to Y, putting the result into X **/
+    public void aby(){
+        int result = device.getB() + device.getY();
+        
+        //No CCR's get updated this time, but we still need to properly handle overflow
+        if(result > 0xFFFF)
+            result -= 0x10000;
+        
+        device.setY(result);
+    }
+    
+    /** Logical shift right accumulator D. **/
+    public void lsrd(){
+        int value = device.getD();
+        
+        if((value&1)==1)
+            device.setCCRbits((byte)(1)); //Carry bit
+        else
+            device.clearCCRbits((byte)(1));
+        //I don't quite understand how this can "overflow." I'll assume it means going from A into B.
+        if((value&0x100)==0x100)
+            device.setCCRbits((byte)(2));
+        else
+            device.clearCCRbits((byte)(2));
+        
+        value >>=1; //Right shift once
+        updateCCR16(value);
+        
+        device.setD(value);
+    }
+    
+    /** Logical/Arithmetically shift left accumulator D. **/
+    public void lsld(){
+        int value = device.getD();
+        
+        if((value&0x8000)==0x8000)
+            device.setCCRbits((byte)(1)); //Carry bit
+        else
+            device.clearCCRbits((byte)(1));
+        //I'll assume overflow means going from A into B again.
+        if((value&0x80)==0x80)
+            device.setCCRbits((byte)(2));
+        else
+            device.clearCCRbits((byte)(2));
+        
+        value <<=1; //Left shift once
+        value &= 0xFFFF; //Clean up the value
+        updateCCR16(value);
+        
+        device.setD(value);
+    }
+    
+    /** Integer division! How fun! **/
+    public void idiv(){
+        int resx, resd;
+        
+        if(device.getX() > 0){
+            resx = device.getD() / device.getX();
+            resd = device.getD() % device.getX();
+        }
+        else{
+            resd = device.getX();
+            resx = 0; //Divide by zero means 0 remainder X?
+        }
+        
+        if(resx == 0)
+            device.setCCRbits((byte)(4)); //Set the zero bit
+        else
+            device.clearCCRbits((byte)(4)); //Clear the zero bit
+        if(resd != 0)
+            device.setCCRbits((byte)(1)); //Set the carry bit
+        else
+            device.clearCCRbits((byte)(1)); //Clear the carry bit
+        device.clearCCRbits((byte)(2)); //Clear the Overflow bit!
+        device.setD(resd);
+        device.setX(resx);
+    }
+    
+    /** Fractional division! Even more fun... oh wait. **/
+    public void fdiv(){
+        int resx, resd;
+        
+        if(device.getX() > 0){
+            resx = (device.getD() * 0x10000) / device.getX();
+            if(resx > 0xFFFF){
+                resx &= 0xFFFF;
+                device.setCCRbits((byte)(2)); //Overflow!!!
+            }
+            else{
+                device.clearCCRbits((byte)(2)); //Clear the Overflow bit!
+            }
+            resd = device.getD() % device.getX();
+        }
+        else{
+            resd = device.getX();
+            resx = 0; //Divide by zero means 0 remainder X?
+        }
+        
+        if(resx == 0)
+            device.setCCRbits((byte)(4)); //Set the zero bit
+        else
+            device.clearCCRbits((byte)(4)); //Clear the zero bit
+        if(resd != 0)
+            device.setCCRbits((byte)(1)); //Set the carry bit
+        else
+            device.clearCCRbits((byte)(1)); //Clear the carry bit
+        
+        device.setD(resd);
+        device.setX(resx);
+    }
+    
+    /** Branch if carry bit clear. Also is Branch if higher or same (bhs) */
+    public void bcc(int operand){
+        int offset = operand;
+        
+        if((device.getCCR()&0x1)==0){
+            if(offset>=128)
+                offset-=256;
+            device.setPC(device.getPC()+offset);
+        }
+    }
+    
+    /** Branch if carry bit set... Also is blo, branch if lower */
+    public void bcs(int operand){
+        int offset = operand;
+        
+        if((device.getCCR()&0x1)==1){
+            if(offset>=128)
+                offset-=256;
+            device.setPC(device.getPC()+offset);
+        }
+    }
+    
+    /** Branch if plus. N=0 */ 
+    public void bpl(int operand){
+        int offset = operand;
+        
+        if((device.getCCR()&0x8)==0){
+            if(offset>=128)
+                offset-=256;
+            device.setPC(device.getPC()+offset);
+        }
+    }
+    
+    /** Branch Always */ 
+    public void bra(int operand){
+        int offset = operand;
+        
+        if(offset>=128)
+            offset-=256;
+        device.setPC(device.getPC()+offset);
+    }
+    
+    /** Branch to subroutine */ 
+    public void bsr(int operand){
+        int offset = operand;
+        int retaddr = device.getPC();
+        
+        if(offset>=128)
+            offset-=256;
+        
+        device.writeMem(device.getSP(),retaddr&0xFF);
+        device.writeMem(device.getSP()-1,retaddr>>8);
+        device.setSP(device.getSP()-2);
+        device.setPC(device.getPC()+offset);
+    }
+    
+    /** Jump to subroutine */ 
+    private void jsr(int jumpaddr){
+        int retaddr=device.getPC();
+        device.writeMem(device.getSP(),retaddr&0xFF);
+        device.writeMem(device.getSP()-1,retaddr>>8);
+        device.setSP(device.getSP()-2);
+        device.setPC(jumpaddr);
+    }
+    
+    /** JSR direct **/
+    public void jsrDir(int operand){
+        jsr(operand);
+    }
+    
+    /** JSR extended **/
+    public void jsrExt(int operand){
+        jsr(operand);
+    }
+    
+    /** JSR indexed by X. The jump address is read from memory. **/
+    public void jsrIndx(int operand){
+        jsr(readX16(operand));
+    }
+    
+    /** JSR indexed by Y. The jump address is read from memory. **/
+    public void jsrIndy(int operand){
+        jsr(readY16(operand));
+    }
+    
+    /** Return from subroutine */ 
+    public void rts(){
+        int retaddr = device.getMem(device.getSP()+1);
+        retaddr = retaddr << 8;
+        retaddr += device.getMem(device.getSP()+2);
+        device.setSP(device.getSP()+2);
+        
+        device.setPC(retaddr);
+    }
+    
+    /** Return from interrupt */ 
+    public void rti(){
+        int ccr = device.getMem(device.getSP()+1);
+        int accb = device.getMem(device.getSP()+2);
+        int acca = device.getMem(device.getSP()+3);
+        int accx = device.getMem(device.getSP()+4);
+        accx <<= 8;
+        accx += device.getMem(device.getSP()+5);
+        int accy = device.getMem(device.getSP()+6);
+        accy <<= 8;
+        accy += device.getMem(device.getSP()+7);
+        int retaddr = device.getMem(device.getSP()+8);
+        retaddr = retaddr << 8;
+        retaddr += device.getMem(device.getSP()+9);
+        device.setSP(device.getSP()+9);
+        
+        if(ccr > 127)
+            ccr-=256;
+        
+        device.setCCR((byte)ccr);
+        device.setA(acca);
+        device.setB(accb);
+        device.setX(accx);
+        device.setY(accy);
+        device.setPC(retaddr);
+    }
+    
+    /** Push every register for an interrupt, in the order rti() pulls them back off **/
+    void stackRegisters(){
+        int sp = device.getSP();
+        int retaddr = device.getPC();
+        int accx = device.getX();
+        int accy = device.getY();
+        
+        device.writeMem(sp,retaddr&0xFF);
+        device.writeMem(sp-1,retaddr>>8);
+        device.writeMem(sp-2,accy&0xFF);
+        device.writeMem(sp-3,accy>>8);
+        device.writeMem(sp-4,accx&0xFF);
+        device.writeMem(sp-5,accx>>8);
+        device.writeMem(sp-6,device.getA());
+        device.writeMem(sp-7,device.getB());
+        device.writeMem(sp-8,device.getIntCCR());
+        device.setSP(sp-9);
+    }
+    
+    /** Software interrupt. Stacks every register, sets I and jumps through the SWI vector. **/
+    public void swi(){
+        stackRegisters();
+        device.enterInterrupt(hc11_Interrupts.SWI_VECTOR, 0x10);
+    }
+    
+    /** Wait for interrupt. The registers are stacked now, so the interrupt only has to fetch its vector. **/
+    public void wai(){
+        stackRegisters();
+        device.enterWait();
+    }
+    
+    /** Stop the clocks until an interrupt comes in. With the S bit set, STOP is disabled and acts as a nop. **/
+    public void stop(){
+        if((device.getIntCCR() & 0x80) == 0)
+            device.enterStop();
+    }
+    
+    /** Multiply A x B, put the result into D **/
+    public void mul(){
+        int result = device.getA() * device.getB();
+        if(result > 0x10000){ //This is IMPOSSIBLE!
+            result &= 0xFFFF;
+            device.setCCRbits((byte)(1));
+        }
+        else
+            device.clearCCRbits((byte)(1));
+        
+        device.setD(result);
+    }
+    
+    /** Branch Never */ 
+    public void brn(int operand){
+        int offset = operand;
+        
+    }
+    
+    /** Branch if minus... N=1 */ 
+    public void bmi(int operand){
+        int offset = operand;
+        
+        if((device.getCCR()&0x8)==1){
+            if(offset>=128)
+                offset-=256;
+            device.setPC(device.getPC()+offset);
+        }
+    }
+    
+    /** Branch if equal, the zero bit set */
+    public void beq(int operand){
+        int offset = operand;
+        
+        if((device.getCCR()&0x4)==4){
+            if(offset>=128)
+                offset-=256;
+            device.setPC(device.getPC()+offset);
+        }
+    }
+    
+    /** Branch if not equal to zero, Z=0 */
+    public void bne(int operand){
+        int offset = operand;
+        
+        if((device.getCCR()&0x4)==0){
+            if(offset>=128)
+                offset-=256;
+            device.setPC(device.getPC()+offset);
+        }
+    }
+    
+    /** Branch if overflow clear, V=0 */
+    public void bvc(int operand){
+        int offset = operand;
+        
+        if((device.getCCR()&0x2)==0){
+            if(offset>=128)
+                offset-=256;
+            device.setPC(device.getPC()+offset);
+        }
+    }
+    
+    /** Branch if overflow set, V=1 */
+    public void bvs(int operand){
+        int offset = operand;
+        
+        if((device.getCCR()&0x2)==2){
+            if(offset>=128)
+                offset-=256;
+            device.setPC(device.getPC()+offset);
+        }
+    }
+    
+    /** Branch if greater or equal (N ^ V == 0)*/
+    public void bge(int operand){
+        int offset = operand;
+        
+        //XOR = 0 if both bits are the same
+        if((device.getCCR()&0xA)==0 || (device.getCCR()&0xA)==0xA){
+            if(offset>=128)
+                offset-=256;
+            device.setPC(device.getPC()+offset);
+        }
+    }
+    
+    /** Branch if less than (N ^ V == 1)*/
+    public void blt(int operand){
+        int offset = operand;
+        
+        //XOR = 1 if both bits are the different
+        if((device.getCCR()&0xA)>0 && (device.getCCR()&0xA)<0xA){
+            if(offset>=128)
+                offset-=256;
+            device.setPC(device.getPC()+offset);
+        }
+    }
+    
+    /** Branch if greater than (Z + (N ^ V) == 0)*/
+    public void bgt(int operand){
+        int offset = operand;
+        
+        //XOR = 0 if both bits are the same
+        if(((device.getCCR()&0xA)==0 || (device.getCCR()&0xA)==0xA) || (device.getCCR()&0x4)==0){
+            if(offset>=128)
+                offset-=256;
+            device.setPC(device.getPC()+offset);
+        }
+    }
+    
+    /** Branch if greater than (Z + (N ^ V) == 1)*/
+    public void ble(int operand){
+        int offset = operand;
+        
+        //XOR = 0 if both bits are the same
+        if(((device.getCCR()&0xA)==0xA || (device.getCCR()&0xA)==0xA) || (device.getCCR()&0x4)==4){
+            if(offset>=128)
+                offset-=256;
+            device.setPC(device.getPC()+offset);
+        }
+    }
+    
+    /** Branch if higher (C | Z==0))*/
+    public void bhi(int operand){
+        int offset = operand;
+        
+        //XOR = 0 if both bits are the same
+        if((device.getCCR()&0x05)==0){
+            if(offset>=128)
+                offset-=256;
+            device.setPC(device.getPC()+offset);
+        }
+    }
+    
+    /** Branch if lower or same (C | Z==1))*/
+    public void bls(int operand){
+        int offset = operand;
+        
+        if((device.getCCR()&0x05)>0){
+            if(offset>=128)
+                offset-=256;
+            device.setPC(device.getPC()+offset);
+        }
+    }
+    
+    /** Push accumulator A onto the stack */
+    public void psha(){
+        int value=device.getA();
+        
+        device.writeMem(device.getSP(),value);
+        device.setSP(device.getSP()-1);
+    }
+    
+    /** Pull accumulator A off of the stack */
+    public void pula(){
+        device.setSP(device.getSP()+1);
+        device.setA(device.getMem(device.getSP()));
+         
+    }
+    
+    /** Push accumulator B onto the stack */
+    public void pshb(){
+        int value=device.getB();
+        
+        device.writeMem(device.getSP(),value);
+        device.setSP(device.getSP()-1);
+    }
+    
+    /** Pull accumulator B off of the stack */
+    public void pulb(){
+        device.setSP(device.getSP()+1);
+        device.setB(device.getMem(device.getSP()));
+         
+    }
+    
+    /** Push register X onto the stack */
+    public void pshx(){
+        int value=device.getX();
+        
+        device.writeMem(device.getSP(),value&0xFF);
+        device.writeMem(device.getSP()-1,value>>8);
+        device.setSP(device.getSP()-2);
+    }
+    
+    /** Pull register X off of the stack **/
+    public void pulx(){
+        int value=device.getMem(device.getSP()+1);
+        
+        value = value << 8;
+        value += device.getMem(device.getSP()+2);
+        device.setX(value);
+        device.setSP(device.getSP()+2);
+    }
+    
+    /** Push register Y onto the stack */
+    public void pshy(){
+        int value=device.getY();
+        
+        device.writeMem(device.getSP(),value&0xFF);
+        device.writeMem(device.getSP()-1,value>>8);
+        device.setSP(device.getSP()-2);
+    }
+    
+    /** Pull register Y off of the stack **/
+    public void puly(){
+        int value=device.getMem(device.getSP()+1);
+        
+        value = value << 8;
+        value += device.getMem(device.getSP()+2);
+        device.setY(value);
+        device.setSP(device.getSP()+2);
+    }
+    
+    /** Negate an 8-bit value by 2's complement, and return the result **/
+    private int neg(int value){
+        //Now we have our value, let us complement it on its good manners.
+        value = (~value) & 0xFF;
+        value++; //Add one
+        
+        //Carry bit
+        if(value >= 0x100){
+            device.setCCRbits((byte)(1));
+            value = value & 0xFF;
+        }
+        else
+            device.clearCCRbits((byte)(1));
+        //Overflow if -128
+        if(value == 0x80) //-128
+            device.setCCRbits((byte)(2));
+        else
+            device.clearCCRbits((byte)(2));
+        
+        updateCCR8(value); //Update N and Z bits.
+        return value;
+    }
+    
+    /** Negate a byte in memory **/
+    private void negMem(int addr){
+        device.writeMem(addr,neg(device.getMem(addr)));
+    }
+    
+    /** NEG accumulator A **/
+    public void nega(){
+        device.setA(neg(device.getA()));
+    }
+    
+    /** NEG accumulator B **/
+    public void negb(){
+        device.setB(neg(device.getB()));
+    }
+    
+    /** NEG extended **/
+    public void negExt(int operand){
+        negMem(operand);
+    }
+    
+    /** NEG indexed by X **/
+    public void negIndx(int operand){
+        negMem(addrX(operand));
+    }
+    
+    /** NEG indexed by Y **/
+    public void negIndy(int operand){
+        negMem(addrY(operand));
+    }
+    
+    /** Perform 1's complement on an 8-bit value, and return the result **/
+    private int com(int value){
+        //Now we have our value, let us complement it on its good manners.
+        value = (~value) & 0xFF;
+        
+        //Update the CCR
+        device.setCCRbits((byte)(1));
+        device.clearCCRbits((byte)(2));
+        updateCCR8(value); //Update N and Z bits.
+        return value;
+    }
+    
+    /** 1's complement a byte in memory **/
+    private void comMem(int addr){
+        device.writeMem(addr,com(device.getMem(addr)));
+    }
+    
+    /** COM accumulator A **/
+    public void coma(){
+        device.setA(com(device.getA()));
+    }
+    
+    /** COM accumulator B **/
+    public void comb(){
+        device.setB(com(device.getB()));
+    }
+    
+    /** COM extended **/
+    public void comExt(int operand){
+        comMem(operand);
+    }
+    
+    /** COM indexed by X **/
+    public void comIndx(int operand){
+        comMem(addrX(operand));
+    }
+    
+    /** COM indexed by Y **/
+    public void comIndy(int operand){
+        comMem(addrY(operand));
+    }
+    
+    /** Load Stack Pointer... Set SP to somewhere in memory **/
+    private void lds(int value){
+        device.setSP(value);
+        updateCCR16(value); //Set negative and zero bits
+        device.clearCCRbits((byte)(0x02)); //Clear the overflow bit
+    }
+    
+    /** LDS immediate **/
+    public void ldsImm(int operand){
+        lds(operand);
+    }
+    
+    /** LDS direct **/
+    public void ldsDir(int operand){
+        lds(read16(operand));
+    }
+    
+    /** LDS extended **/
+    public void ldsExt(int operand){
+        lds(read16(operand));
+    }
+    
+    /** LDS indexed by X **/
+    public void ldsIndx(int operand){
+        lds(readX16(operand));
+    }
+    
+    /** LDS indexed by Y **/
+    public void ldsIndy(int operand){
+        lds(readY16(operand));
+    }
+    
+    /** Bitwise Rotate Left a byte in memory **/
+    private void rolMem(int addr){
+        device.writeMem(addr,roll_left(device.getMem(addr)));
+    }
+    
+    /** ROL accumulator A **/
+    public void rola(){
+        device.setA(roll_left(device.getA()));
+    }
+    
+    /** ROL accumulator B **/
+    public void rolb(){
+        device.setB(roll_left(device.getB()));
+    }
+    
+    /** ROL extended **/
+    public void rolExt(int operand){
+        rolMem(operand);
+    }
+    
+    /** ROL indexed by X **/
+    public void rolIndx(int operand){
+        rolMem(addrX(operand));
+    }
+    
+    /** ROL indexed by Y **/
+    public void rolIndy(int operand){
+        rolMem(addrY(operand));
+    }
+    
+    /** Logical Shift Right an 8-bit value, setting N, Z and C, and return the result **/
+    private int lsr(int value){
+        return flags8(hc11_FlagTables.LSR, hc11_FlagTables.SHIFT_RIGHT_FLAGS, value&0xFF);
+    }
+    
+    /** Logical Shift Right a byte in memory **/
+    private void lsrMem(int addr){
+        device.writeMem(addr,lsr(device.getMem(addr)));
+    }
+    
+    /** LSR accumulator A **/
+    public void lsra(){
+        device.setA(lsr(device.getA()));
+    }
+    
+    /** LSR accumulator B **/
+    public void lsrb(){
+        device.setB(lsr(device.getB()));
+    }
+    
+    /** LSR extended **/
+    public void lsrExt(int operand){
+        lsrMem(operand);
+    }
+    
+    /** LSR indexed by X **/
+    public void lsrIndx(int operand){
+        lsrMem(addrX(operand));
+    }
+    
+    /** Arithmetically Shift Right an 8-bit value, setting N, Z and C, and return the result **/
+    private int asr(int value){
+        return flags8(hc11_FlagTables.ASR, hc11_FlagTables.SHIFT_RIGHT_FLAGS, value&0xFF);
+    }
+    
+    /** Arithmetically Shift Right a byte in memory **/
+    private void asrMem(int addr){
+        device.writeMem(addr,asr(device.getMem(addr)));
+    }
+    
+    /** ASR accumulator A **/
+    public void asra(){
+        device.setA(asr(device.getA()));
+    }
+    
+    /** ASR accumulator B **/
+    public void asrb(){
+        device.setB(asr(device.getB()));
+    }
+    
+    /** ASR extended **/
+    public void asrExt(int operand){
+        asrMem(operand);
+    }
+    
+    /** ASR indexed by X **/
+    public void asrIndx(int operand){
+        asrMem(addrX(operand));
+    }
+    
+    /** ASR indexed by Y **/
+    public void asrIndy(int operand){
+        asrMem(addrY(operand));
+    }
+    
+    /** Arithmetically Shift Left an 8-bit value, setting N, Z, V and C, and return the result **/
+    private int asl(int value){
+        return flags8(hc11_FlagTables.ASL, hc11_FlagTables.ASL_FLAGS, value&0xFF);
+    }
+    
+    /** Arithmetically Shift Left a byte in memory **/
+    private void aslMem(int addr){
+        device.writeMem(addr,asl(device.getMem(addr)));
+    }
+    
+    /** ASL accumulator A **/
+    public void asla(){
+        device.setA(asl(device.getA()));
+    }
+    
+    /** ASL accumulator B **/
+    public void aslb(){
+        device.setB(asl(device.getB()));
+    }
+    
+    /** ASL extended **/
+    public void aslExt(int operand){
+        aslMem(operand);
+    }
+    
+    /** ASL indexed by X **/
+    public void aslIndx(int operand){
+        aslMem(addrX(operand));
+    }
+    
+    /** Bitwise Rotate Right a byte in memory **/
+    private void rorMem(int addr){
+        device.writeMem(addr,roll_right(device.getMem(addr)));
+    }
+    
+    /** ROR accumulator A **/
+    public void rora(){
+        device.setA(roll_right(device.getA()));
+    }
+    
+    /** ROR accumulator B **/
+    public void rorb(){
+        device.setB(roll_right(device.getB()));
+    }
+    
+    /** ROR extended **/
+    public void rorExt(int operand){
+        rorMem(operand);
+    }
+    
+    /** ROR indexed by X **/
+    public void rorIndx(int operand){
+        rorMem(addrX(operand));
+    }
+    
+    /** ROR indexed by Y **/
+    public void rorIndy(int operand){
+        rorMem(addrY(operand));
+    }
+    
+    /** Roll the current value to the left and return the rolled value.
+     * Updates the carry bit accordingly.
+     */
+    private int roll_left(int value){
+        return flags8(hc11_FlagTables.ROL, hc11_FlagTables.ROTATE_FLAGS, (device.getCarry()<<8)|(value&0xFF));
+    }
+    
+    /** Roll the current value to the right and return the rolled value.
+     * Updates the carry bit accordingly.
+     */
+    private int roll_right(int value){
+        return flags8(hc11_FlagTables.ROR, hc11_FlagTables.ROTATE_FLAGS, (device.getCarry()<<8)|(value&0xFF));
+    }
+    
+    /** Jump to somewhere else, extended **/
+    public void jmpExt(int operand){
+        device.setPC(operand);
+    }
+    
+    /** JMP indexed by X **/
+    public void jmpIndx(int operand){
+        device.setPC(addrX(operand));
+    }
+    
+    /** JMP indexed by Y **/
+    public void jmpIndy(int operand){
+        device.setPC(addrY(operand));
+    }
+    
+    /** Subtract from Accumulator A **/
+    private void suba(int subval){
+        device.setA(sub8(device.getA(), subval, 0));
+    }
+    
+    /** SUBA immediate **/
+    public void subaImm(int operand){
+        suba(operand);
+    }
+    
+    /** SUBA direct **/
+    public void subaDir(int operand){
+        suba(read8(operand));
+    }
+    
+    /** SUBA extended **/
+    public void subaExt(int operand){
+        suba(read8(operand));
+    }
+    
+    /** SUBA indexed by X **/
+    public void subaIndx(int operand){
+        suba(readX8(operand));
+    }
+    
+    /** SUBA indexed by Y **/
+    public void subaIndy(int operand){
+        suba(readY8(operand));
+    }
+    
+    /** Compare Accumulator A **/
+    private void cmpa(int subval){
+        sub8(device.getA(), subval, 0);
+    }
+    
+    /** CMPA immediate **/
+    public void cmpaImm(int operand){
+        cmpa(operand);
+    }
+    
+    /** CMPA direct **/
+    public void cmpaDir(int operand){
+        cmpa(read8(operand));
+    }
+    
+    /** CMPA extended **/
+    public void cmpaExt(int operand){
+        cmpa(read8(operand));
+    }
+    
+    /** CMPA indexed by X **/
+    public void cmpaIndx(int operand){
+        cmpa(readX8(operand));
+    }
+    
+    /** CMPA indexed by Y **/
+    public void cmpaIndy(int operand){
+        cmpa(readY8(operand));
+    }
+    
+    /** Subtract with carry from Accumulator A **/
+    private void sbca(int subval){
+        device.setA(sub8(device.getA(), subval, device.getCarry()));
+    }
+    
+    /** SBCA immediate **/
+    public void sbcaImm(int operand){
+        sbca(operand);
+    }
+    
+    /** SBCA direct **/
+    public void sbcaDir(int operand){
+        sbca(read8(operand));
+    }
+    
+    /** SBCA extended **/
+    public void sbcaExt(int operand){
+        sbca(read8(operand));
+    }
+    
+    /** SBCA indexed by X **/
+    public void sbcaIndx(int operand){
+        sbca(readX8(operand));
+    }
+    
+    /** SBCA indexed by Y **/
+    public void sbcaIndy(int operand){
+        sbca(readY8(operand));
+    }
+    
+    /** Subtract from Accumulator B **/
+    private void subb(int subval){
+        device.setB(sub8(device.getB(), subval, 0));
+    }
+    
+    /** SUBB immediate **/
+    public void subbImm(int operand){
+        subb(operand);
+    }
+    
+    /** SUBB direct **/
+    public void subbDir(int operand){
+        subb(read8(operand));
+    }
+    
+    /** SUBB extended **/
+    public void subbExt(int operand){
+        subb(read8(operand));
+    }
+    
+    /** SUBB indexed by X **/
+    public void subbIndx(int operand){
+        subb(readX8(operand));
+    }
+    
+    /** SUBB indexed by Y **/
+    public void subbIndy(int operand){
+        subb(readY8(operand));
+    }
+
+    /** Compare Accumulator B **/
+    private void cmpb(int subval){
+        sub8(device.getB(), subval, 0);
+    }
+    
+    /** CMPB immediate **/
+    public void cmpbImm(int operand){
+        cmpb(operand);
+    }
+    
+    /** CMPB direct **/
+    public void cmpbDir(int operand){
+        cmpb(read8(operand));
+    }
+    
+    /** CMPB extended **/
+    public void cmpbExt(int operand){
+        cmpb(read8(operand));
+    }
+    
+    /** CMPB indexed by X **/
+    public void cmpbIndx(int operand){
+        cmpb(readX8(operand));
+    }
+    
+    /** CMPB indexed by Y **/
+    public void cmpbIndy(int operand){
+        cmpb(readY8(operand));
+    }
+    
+    /** Subtract with carry from Accumulator B **/
+    private void sbcb(int subval){
+        device.setB(sub8(device.getB(), subval, device.getCarry()));
+    }
+    
+    /** SBCB immediate **/
+    public void sbcbImm(int operand){
+        sbcb(operand);
+    }
+    
+    /** SBCB direct **/
+    public void sbcbDir(int operand){
+        sbcb(read8(operand));
+    }
+    
+    /** SBCB extended **/
+    public void sbcbExt(int operand){
+        sbcb(read8(operand));
+    }
+    
+    /** SBCB indexed by X **/
+    public void sbcbIndx(int operand){
+        sbcb(readX8(operand));
+    }
+    
+    /** SBCB indexed by Y **/
+    public void sbcbIndy(int operand){
+        sbcb(readY8(operand));
+    }
+    
+    /** Bitwise AND accumulator A **/
+    private void anda(int subval){
+        subval = device.getA() & subval;
+        device.clearCCRbits((byte)(2)); //Clear V
+        updateCCR8(subval);
+        device.setA(subval);
+    }
+    
+    /** ANDA immediate **/
+    public void andaImm(int operand){
+        anda(operand);
+    }
+    
+    /** ANDA direct **/
+    public void andaDir(int operand){
+        anda(read8(operand));
+    }
+    
+    /** ANDA extended **/
+    public void andaExt(int operand){
+        anda(read8(operand));
+    }
+    
+    /** ANDA indexed by X **/
+    public void andaIndx(int operand){
+        anda(readX8(operand));
+    }
+    
+    /** ANDA indexed by Y **/
+    public void andaIndy(int operand){
+        anda(readY8(operand));
+    }
+    
+    /** Bitwise AND accumulator B **/
+    private void andb(int subval){
+        subval = device.getB() & subval;
+        device.clearCCRbits((byte)(2)); //Clear V
+        updateCCR8(subval);
+        device.setB(subval);
+    }
+    
+    /** ANDB immediate **/
+    public void andbImm(int operand){
+        andb(operand);
+    }
+    
+    /** ANDB direct **/
+    public void andbDir(int operand){
+        andb(read8(operand));
+    }
+    
+    /** ANDB extended **/
+    public void andbExt(int operand){
+        andb(read8(operand));
+    }
+    
+    /** ANDB indexed by X **/
+    public void andbIndx(int operand){
+        andb(readX8(operand));
+    }
+    
+    /** ANDB indexed by Y **/
+    public void andbIndy(int operand){
+        andb(readY8(operand));
+    }
+    
+    /** Bitwise test accumulator A **/
+    private void bita(int subval){
+        subval = device.getA() & subval;
+        device.clearCCRbits((byte)(2)); //Clear V
+        updateCCR8(subval);
+    }
+    
+    /** BITA immediate **/
+    public void bitaImm(int operand){
+        bita(operand);
+    }
+    
+    /** BITA direct **/
+    public void bitaDir(int operand){
+        bita(read8(operand));
+    }
+    
+    /** BITA extended **/
+    public void bitaExt(int operand){
+        bita(read8(operand));
+    }
+    
+    /** BITA indexed by X **/
+    public void bitaIndx(int operand){
+        bita(readX8(operand));
+    }
+    
+    /** BITA indexed by Y **/
+    public void bitaIndy(int operand){
+        bita(readY8(operand));
+    }
+    
+    /** Bitwise test accumulator B **/
+    private void bitb(int subval){
+        subval = device.getB() & subval;
+        device.clearCCRbits((byte)(2)); //Clear V
+        updateCCR8(subval);
+    }
+    
+    /** BITB immediate **/
+    public void bitbImm(int operand){
+        bitb(operand);
+    }
+    
+    /** BITB direct **/
+    public void bitbDir(int operand){
+        bitb(read8(operand));
+    }
+    
+    /** BITB extended **/
+    public void bitbExt(int operand){
+        bitb(read8(operand));
+    }
+    
+    /** BITB indexed by X **/
+    public void bitbIndx(int operand){
+        bitb(readX8(operand));
+    }
+    
+    /** BITB indexed by Y **/
+    public void bitbIndy(int operand){
+        bitb(readY8(operand));
+    }
+    
+    /** XOR accumulator A **/
+    private void eora(int subval){
+        subval ^= device.getA();
+        device.clearCCRbits((byte)(2)); //Clear V
+        updateCCR8(subval);
+        device.setA(subval);
+    }
+    
+    /** EORA immediate **/
+    public void eoraImm(int operand){
+        eora(operand);
+    }
+    
+    /** EORA direct **/
+    public void eoraDir(int operand){
+        eora(read8(operand));
+    }
+    
+    /** EORA extended **/
+    public void eoraExt(int operand){
+        eora(read8(operand));
+    }
+    
+    /** EORA indexed by X **/
+    public void eoraIndx(int operand){
+        eora(readX8(operand));
+    }
+    
+    /** EORA indexed by Y **/
+    public void eoraIndy(int operand){
+        eora(readY8(operand));
+    }
+    
+    /** XOR accumulator B **/
+    private void eorb(int subval){
+        subval ^= device.getB();
+        device.clearCCRbits((byte)(2)); //Clear V
+        updateCCR8(subval);
+        device.setB(subval);
+    }
+    
+    /** EORB immediate **/
+    public void eorbImm(int operand){
+        eorb(operand);
+    }
+    
+    /** EORB direct **/
+    public void eorbDir(int operand){
+        eorb(read8(operand));
+    }
+    
+    /** EORB extended **/
+    public void eorbExt(int operand){
+        eorb(read8(operand));
+    }
+    
+    /** EORB indexed by X **/
+    public void eorbIndx(int operand){
+        eorb(readX8(operand));
+    }
+    
+    /** EORB indexed by Y **/
+    public void eorbIndy(int operand){
+        eorb(readY8(operand));
+    }
+    
+    /** Bitwise OR accumulator A **/
+    private void oraa(int subval){
+        subval |= device.getA();
+        device.clearCCRbits((byte)(2)); //Clear V
+        updateCCR8(subval);
+        device.setA(subval);
+    }
+    
+    /** ORAA immediate **/
+    public void oraaImm(int operand){
+        oraa(operand);
+    }
+    
+    /** ORAA direct **/
+    public void oraaDir(int operand){
+        oraa(read8(operand));
+    }
+    
+    /** ORAA extended **/
+    public void oraaExt(int operand){
+        oraa(read8(operand));
+    }
+    
+    /** ORAA indexed by X **/
+    public void oraaIndx(int operand){
+        oraa(readX8(operand));
+    }
+    
+    /** ORAA indexed by Y **/
+    public void oraaIndy(int operand){
+        oraa(readY8(operand));
+    }
+    
+    /** Bitwise AND accumulator B **/
+    private void orab(int subval){
+        subval |= device.getB();
+        device.clearCCRbits((byte)(2)); //Clear V
+        updateCCR8(subval);
+        device.setB(subval);
+    }
+    
+    /** ORAB immediate **/
+    public void orabImm(int operand){
+        orab(operand);
+    }
+    
+    /** ORAB direct **/
+    public void orabDir(int operand){
+        orab(read8(operand));
+    }
+    
+    /** ORAB extended **/
+    public void orabExt(int operand){
+        orab(read8(operand));
+    }
+    
+    /** ORAB indexed by X **/
+    public void orabIndx(int operand){
+        orab(readX8(operand));
+    }
+    
+    /** ORAB indexed by Y **/
+    public void orabIndy(int operand){
+        orab(readY8(operand));
+    }
+    
+    /** Add to Accumulator A **/
+    private void adda(int addval){
+        device.setA(add8(device.getA(), addval, 0));
+    }
+    
+    /** ADDA immediate **/
+    public void addaImm(int operand){
+        adda(operand);
+    }
+    
+    /** ADDA direct **/
+    public void addaDir(int operand){
+        adda(read8(operand));
+    }
+    
+    /** ADDA extended **/
+    public void addaExt(int operand){
+        adda(read8(operand));
+    }
+    
+    /** ADDA indexed by X **/
+    public void addaIndx(int operand){
+        adda(readX8(operand));
+    }
+    
+    /** ADDA indexed by Y **/
+    public void addaIndy(int operand){
+        adda(readY8(operand));
+    }
+    
+    /** Add with carry to Accumulator A **/
+    private void adca(int addval){
+        device.setA(add8(device.getA(), addval, device.getCarry()));
+    }
+    
+    /** ADCA immediate **/
+    public void adcaImm(int operand){
+        adca(operand);
+    }
+    
+    /** ADCA direct **/
+    public void adcaDir(int operand){
+        adca(read8(operand));
+    }
+    
+    /** ADCA extended **/
+    public void adcaExt(int operand){
+        adca(read8(operand));
+    }
+    
+    /** ADCA indexed by X **/
+    public void adcaIndx(int operand){
+        adca(readX8(operand));
+    }
+    
+    /** ADCA indexed by Y **/
+    public void adcaIndy(int operand){
+        adca(readY8(operand));
+    }
+    
+    /** Add to Accumulator B **/
+    private void addb(int addval){
+        device.setB(add8(device.getB(), addval, 0));
+    }
+    
+    /** ADDB immediate **/
+    public void addbImm(int operand){
+        addb(operand);
+    }
+    
+    /** ADDB direct **/
+    public void addbDir(int operand){
+        addb(read8(operand));
+    }
+    
+    /** ADDB extended **/
+    public void addbExt(int operand){
+        addb(read8(operand));
+    }
+    
+    /** ADDB indexed by X **/
+    public void addbIndx(int operand){
+        addb(readX8(operand));
+    }
+    
+    /** ADDB indexed by Y **/
+    public void addbIndy(int operand){
+        addb(readY8(operand));
+    }
+    
+    /** Add with carry to Accumulator B **/
+    private void adcb(int addval){
+        device.setB(add8(device.getB(), addval, device.getCarry()));
+    }
+    
+    /** ADCB immediate **/
+    public void adcbImm(int operand){
+        adcb(operand);
+    }
+    
+    /** ADCB direct **/
+    public void adcbDir(int operand){
+        adcb(read8(operand));
+    }
+    
+    /** ADCB extended **/
+    public void adcbExt(int operand){
+        adcb(read8(operand));
+    }
+    
+    /** ADCB indexed by X **/
+    public void adcbIndx(int operand){
+        adcb(readX8(operand));
+    }
+    
+    /** ADCB indexed by Y **/
+    public void adcbIndy(int operand){
+        adcb(readY8(operand));
+    }
+    
+    /** Subtract from Accumulator D **/
+    private void subd(int subval){
+        int result;
+        
+        int d = device.getD();
+        result = d - subval;
+        
+        if(result < 0){
+            result+=65536;
+            device.setCCRbits((byte)(1)); //Set C
+        }
+        else
+            device.clearCCRbits((byte)(1)); //Clear C
+        
+        updateOverflow16(d, subval, result);
+        updateCCR16(result);
+        device.setD(result);
+    }
+    
+    /** SUBD immediate **/
+    public void subdImm(int operand){
+        subd(operand);
+    }
+    
+    /** SUBD direct **/
+    public void subdDir(int operand){
+        subd(read16(operand));
+    }
+    
+    /** SUBD extended **/
+    public void subdExt(int operand){
+        subd(read16(operand));
+    }
+    
+    /** SUBD indexed by X **/
+    public void subdIndx(int operand){
+        subd(readX16(operand));
+    }
+    
+    /** SUBD indexed by Y **/
+    public void subdIndy(int operand){
+        subd(readY16(operand));
+    }
+    
+    /** Add to Accumulator D **/
+    private void addd(int addval){
+        addval = device.getD() + addval;
+        if(addval > 65535){
+            addval-=65536;
+            device.setCCRbits((byte)(3)); //Set V and C
+        }
+        else
+            device.clearCCRbits((byte)(3)); //Clear V and C
+        updateCCR16(addval);
+        device.setD(addval);
+    }
+    
+    /** ADDD immediate **/
+    public void adddImm(int operand){
+        addd(operand);
+    }
+    
+    /** ADDD direct **/
+    public void adddDir(int operand){
+        addd(read16(operand));
+    }
+    
+    /** ADDD extended **/
+    public void adddExt(int operand){
+        addd(read16(operand));
+    }
+    
+    /** ADDD indexed by X **/
+    public void adddIndx(int operand){
+        addd(readX16(operand));
+    }
+    
+    /** ADDD indexed by Y **/
+    public void adddIndy(int operand){
+        addd(readY16(operand));
+    }
+    
+    /** Compare Accumulator D **/
+    private void cmpd(int subval){
+        int result;
+        
+        int d = device.getD();
+        result = d - subval;
+        
+        if(result < 0){
+            result+=65536;
+            device.setCCRbits((byte)(1)); //Set C
+        }
+        else
+            device.clearCCRbits((byte)(1)); //Clear C
+        
+        updateOverflow16(d, subval, result);
+        updateCCR16(result);
+    }
+    
+    /** CMPD immediate **/
+    public void cmpdImm(int operand){
+        cmpd(operand);
+    }
+    
+    /** CMPD direct **/
+    public void cmpdDir(int operand){
+        cmpd(read16(operand));
+    }
+    
+    /** CMPD extended **/
+    public void cmpdExt(int operand){
+        cmpd(read16(operand));
+    }
+    
+    /** CMPD indexed by X **/
+    public void cmpdIndx(int operand){
+        cmpd(readX16(operand));
+    }
+    
+    /** CMPD indexed by Y **/
+    public void cmpdIndy(int operand){
+        cmpd(readY16(operand));
+    }
+    
+    /** Compare Accumulator X **/
+    private void cmpx(int subval){
+        int result;
+        
+        int x = device.getX();
+        result = x - subval;
+        if(result < 0){
+            result+=65536;
+            device.setCCRbits((byte)(1)); //Set C
+        }
+        else
+            device.clearCCRbits((byte)(1)); //Clear C
+        
+        updateOverflow16(x, subval, result);
+        updateCCR16(result);
+    }
+    
+    /** CMPX immediate **/
+    public void cmpxImm(int operand){
+        cmpx(operand);
+    }
+    
+    /** CMPX direct **/
+    public void cmpxDir(int operand){
+        cmpx(read16(operand));
+    }
+    
+    /** CMPX extended **/
+    public void cmpxExt(int operand){
+        cmpx(read16(operand));
+    }
+    
+    /** CMPX indexed by X **/
+    public void cmpxIndx(int operand){
+        cmpx(readX16(operand));
+    }
+    
+    /** CMPX indexed by Y **/
+    public void cmpxIndy(int operand){
+        cmpx(readY16(operand));
+    }
+    
+    /** Compare Accumulator Y **/
+    private void cmpy(int subval){
+        int result;
+        
+        int y = device.getY();
+        result = y - subval;
+        if(result < 0){
+            result+=65536;
+            device.setCCRbits((byte)(1)); //Set C
+        }
+        else
+            device.clearCCRbits((byte)(1)); //Clear C
+        
+        updateOverflow16(y, subval, result);
+        updateCCR16(result);
+    }
+    
+    /** CMPY immediate **/
+    public void cmpyImm(int operand){
+        cmpy(operand);
+    }
+    
+    /** CMPY direct **/
+    public void cmpyDir(int operand){
+        cmpy(read16(operand));
+    }
+    
+    /** CMPY extended **/
+    public void cmpyExt(int operand){
+        cmpy(read16(operand));
+    }
+    
+    /** CMPY indexed by X **/
+    public void cmpyIndx(int operand){
+        cmpy(readX16(operand));
+    }
+    
+    /** CMPY indexed by Y **/
+    public void cmpyIndy(int operand){
+        cmpy(readY16(operand));
+    }
+    
+    /** Load accumulator D **/
+    private void ldd(int value){
+        device.setD(value);
+        updateCCR16(value); //Set negative and zero bits
+        device.clearCCRbits((byte)(0x02)); //Clear the overflow bit
+    }
+    
+    /** LDD immediate **/
+    public void lddImm(int operand){
+        ldd(operand);
+    }
+    
+    /** LDD direct **/
+    public void lddDir(int operand){
+        ldd(read16(operand));
+    }
+    
+    /** LDD extended **/
+    public void lddExt(int operand){
+        ldd(read16(operand));
+    }
+    
+    /** LDD indexed by X **/
+    public void lddIndx(int operand){
+        ldd(readX16(operand));
+    }
+    
+    /** LDD indexed by Y **/
+    public void lddIndy(int operand){
+        ldd(readY16(operand));
+    }
+    
+    /** Load accumulator A **/
+    private void ldaa(int value){
+        device.setA(value);
+        updateCCR8(value); //Set negative and zero bits
+        device.clearCCRbits((byte)(0x02)); //Clear the overflow bit
+    }
+    
+    /** LDAA immediate **/
+    public void ldaaImm(int operand){
+        ldaa(operand);
+    }
+    
+    /** LDAA direct **/
+    public void ldaaDir(int operand){
+        ldaa(read8(operand));
+    }
+    
+    /** LDAA extended **/
+    public void ldaaExt(int operand){
+        ldaa(read8(operand));
+    }
+    
+    /** LDAA indexed by X **/
+    public void ldaaIndx(int operand){
+        ldaa(readX8(operand));
+    }
+    
+    /** Clear a byte in memory **/
+    private void clrMem(int addr){
+        device.writeMem(addr,0);
+        clr();
+    }
+    
+    /** Update the CCR after a clear **/
+    private void clr(){
+        device.setCCRbits((byte)0x04);
+        device.clearCCRbits((byte)0xB);
+    }
+    
+    /** CLR accumulator A **/
+    public void clra(){
+        device.setA(0);
+        clr();
+    }
+    
+    /** CLR accumulator B **/
+    public void clrb(){
+        device.setB(0);
+        clr();
+    }
+    
+    /** CLR extended **/
+    public void clrExt(int operand){
+        clrMem(operand);
+    }
+    
+    /** CLR indexed by X **/
+    public void clrIndx(int operand){
+        clrMem(addrX(operand));
+    }
+    
+    /** CLR indexed by Y **/
+    public void clrIndy(int operand){
+        clrMem(addrY(operand));
+    }
+    
+    /** Increment 8-bit value by one **/
+    private void inc(int addr){
+        device.writeMem(addr,inc8(device.getMem(addr)));
+    }
+    
+    /** INC extended **/
+    public void incExt(int operand){
+        inc(operand);
+    }
+    
+    /** INC indexed by X **/
+    public void incIndx(int operand){
+        inc(addrX(operand));
+    }
+    
+    /** INC indexed by Y **/
+    public void incIndy(int operand){
+        inc(addrY(operand));
+    }
+    
+    /** Decrement 8-bit value by one **/
+    private void dec(int addr){
+        device.writeMem(addr,dec8(device.getMem(addr)));
+    }
+    
+    /** DEC extended **/
+    public void decExt(int operand){
+        dec(operand);
+    }
+    
+    /** DEC indexed by X **/
+    public void decIndx(int operand){
+        dec(addrX(operand));
+    }
+    
+    /** DEC indexed by Y **/
+    public void decIndy(int operand){
+        dec(addrY(operand));
+    }
+    
+    /** Increment Accumulator A by one **/
+    public void inca(){
+        device.setA(inc8(device.getA()));
+    }
+    
+    /** Decrement Accumulator A by one **/
+    public void deca(){
+        device.setA(dec8(device.getA()));
+    }
+    
+    /** Increment Accumulator B by one **/
+    public void incb(){
+        device.setB(inc8(device.getB()));
+    }
+    
+    /** Decrement Accumulator B by one **/
+    public void decb(){
+        device.setB(dec8(device.getB()));
+    }
+    
+    /** Increment the stack pointer **/
+    public void ins(){
+        int value = device.getSP();
+        byte ccrupdate=0;
+        
+                
+        value++; //Add one to the value.
+        if(value == 65536)
+            value = 0;
+        
+        //Write back the value
+        device.setSP(value);
+    }
+    
+    /** Decrement the stack pointer **/
+    public void des(){
+        int value = device.getSP();
+        byte ccrupdate=0;
+        
+                
+        value--; //Add one to the value.
+        if(value == -1)
+            value = 65535;
+        
+        //Write back the value
+        device.setSP(value);
+    }
+    
+    /** Increment X **/
+    public void inx(){
+        int value = device.getX();
+        byte ccrupdate=0;
+        
+                
+        value++; //Add one to the value.
+        if(value == 65536){
+            value = 0;
+            device.setCCRbits((byte)(4));
+        }
+        
+        //Write back the value
+        device.setX(value);
+    }
+    
+    /** Increment Y **/
+    public void iny(){
+        int value = device.getY();
+        byte ccrupdate=0;
+        
+        
+        value++; //Add one to the value.
+        if(value == 65536){
+            value = 0;
+            device.setCCRbits((byte)(4));
+        }
+        
+        //Write back the value
+        device.setY(value);
+    }
+    
+    /** Decrement X **/
+    public void dex(){
+        int value = device.getX();
+        
+                
+        value--; //Subtract one from the value.
+        if(value == -1){
+            value = 0xFFFF;
+        }
+        if(value == 0)
+            device.setCCRbits((byte)(4));
+        
+        //Write back the value
+        device.setX(value);
+    }
+    
+    /** Decrement Y **/
+    public void dey(){
+        int value = device.getY();
+        
+        
+        value--; //Subtract one from the value.
+        if(value == -1){
+            value = 0xFFFF;
+        }
+        if(value == 0)
+            device.setCCRbits((byte)(4));
+        
+        //Write back the value
+        device.setY(value);
+    }
+    
+    /** Store accumulator A **/
+    private void staa(int addr){
+        int value=device.getA();
+        
+        updateCCR8(value); //Set negative and zero bits
+        device.clearCCRbits((byte)(0x02)); //Clear the overflow bit
+        
+        //Write it out
+        device.writeMem(addr,value);
+    }
+    
+    /** STAA direct **/
+    public void staaDir(int operand){
+        staa(operand);
+    }
+    
+    /** STAA extended **/
+    public void staaExt(int operand){
+        staa(operand);
+    }
+    
+    /** STAA indexed by X **/
+    public void staaIndx(int operand){
+        staa(addrX(operand));
+    }
+    
+    /** STAA indexed by Y **/
+    public void staaIndy(int operand){
+        staa(addrY(operand));
+    }
+    
+    /** Store accumulator B **/
+    private void stab(int addr){
+        int value=device.getB();
+        
+        updateCCR8(value); //Set negative and zero bits
+        device.clearCCRbits((byte)(0x02)); //Clear the overflow bit
+        
+        //Write it out
+        device.writeMem(addr,value);
+    }
+    
+    /** STAB direct **/
+    public void stabDir(int operand){
+        stab(operand);
+    }
+    
+    /** STAB extended **/
+    public void stabExt(int operand){
+        stab(operand);
+    }
+    
+    /** STAB indexed by X **/
+    public void stabIndx(int operand){
+        stab(addrX(operand));
+    }
+    
+    /** STAB indexed by Y **/
+    public void stabIndy(int operand){
+        stab(addrY(operand));
+    }
+    
+    /** Store accumulator D - Sexually transmitted disease **/
+    private void std(int addr){
+        int value=device.getD();
+        
+        updateCCR16(value); //Set negative and zero bits
+        device.clearCCRbits((byte)(0x02)); //Clear the overflow bit
+        
+        //Write it out
+        device.writeMem(addr,(value>>8));
+        device.writeMem(addr+1,(value&0xFF));
+    }
+    
+    /** STD direct **/
+    public void stdDir(int operand){
+        std(operand);
+    }
+    
+    /** STD extended **/
+    public void stdExt(int operand){
+        std(operand);
+    }
+    
+    /** STD indexed by X **/
+    public void stdIndx(int operand){
+        std(addrX(operand));
+    }
+    
+    /** STD indexed by Y **/
+    public void stdIndy(int operand){
+        std(addrY(operand));
+    }
+    
+    /** Store stack pointer **/
+    private void sts(int addr){
+        int value=device.getSP();
+        
+        updateCCR16(value); //Set negative and zero bits
+        device.clearCCRbits((byte)(0x02)); //Clear the overflow bit
+        
+        //Write it out
+        device.writeMem(addr,(value>>8));
+        device.writeMem(addr+1,(value&0xFF));
+    }
+    
+    /** STS direct **/
+    public void stsDir(int operand){
+        sts(operand);
+    }
+    
+    /** STS extended **/
+    public void stsExt(int operand){
+        sts(operand);
+    }
+    
+    /** STS indexed by X **/
+    public void stsIndx(int operand){
+        sts(addrX(operand));
+    }
+    
+    /** STS indexed by Y **/
+    public void stsIndy(int operand){
+        sts(addrY(operand));
+    }
+    
+    /** Store accumulator X **/
+    private void stx(int addr){
+        int value=device.getX();
+        
+        updateCCR16(value); //Set negative and zero bits
+        device.clearCCRbits((byte)(0x02)); //Clear the overflow bit
+        
+        //Write it out
+        device.writeMem(addr,(value>>8));
+        device.writeMem(addr+1,(value&0xFF));
+    }
+    
+    /** STX direct **/
+    public void stxDir(int operand){
+        stx(operand);
+    }
+    
+    /** STX extended **/
+    public void stxExt(int operand){
+        stx(operand);
+    }
+    
+    /** STX indexed by X **/
+    public void stxIndx(int operand){
+        stx(addrX(operand));
+    }
+    
+    /** STX indexed by Y **/
+    public void stxIndy(int operand){
+        stx(addrY(operand));
+    }
+    
+    /** Store accumulator Y **/
+    private void sty(int addr){
+        int value=device.getY();
+        
+        updateCCR16(value); //Set negative and zero bits
+        device.clearCCRbits((byte)(0x02)); //Clear the overflow bit
+        
+        //Write it out
+        device.writeMem(addr,(value>>8));
+        device.writeMem(addr+1,(value&0xFF));
+    }
+    
+    /** STY direct **/
+    public void styDir(int operand){
+        sty(operand);
+    }
+    
+    /** STY extended **/
+    public void styExt(int operand){
+        sty(operand);
+    }
+    
+    /** STY indexed by X **/
+    public void styIndx(int operand){
+        sty(addrX(operand));
+    }
+    
+    /** STY indexed by Y **/
+    public void styIndy(int operand){
+        sty(addrY(operand));
+    }
+    
+    /** Test for Zero or Negative in memory **/
+    private void tst(int addr){
+        int value=device.getMem(addr);
+        updateCCR8(value); //Set negative and zero bits
+        device.clearCCRbits((byte)(0x03)); //Clear the overflow and carry bits
+    }
+    
+    /** TST extended **/
+    public void tstExt(int operand){
+        tst(operand);
+    }
+    
+    /** TST indexed by X **/
+    public void tstIndx(int operand){
+        tst(addrX(operand));
+    }
+    
+    /** TST indexed by Y **/
+    public void tstIndy(int operand){
+        tst(addrY(operand));
+    }
+    
+    /** Test A for Zero or Negative **/
+    public void tsta(){
+        int value=device.getA();
+        
+        
+        updateCCR8(value); //Set negative and zero bits
+        device.clearCCRbits((byte)(0x03)); //Clear the overflow and carry bits
+    }
+    
+    /** Test B for Zero or Negative **/
+    public void tstb(){
+        int value=device.getB();
+        
+        
+        updateCCR8(value); //Set negative and zero bits
+        device.clearCCRbits((byte)(0x03)); //Clear the overflow and carry bits
+    }
+    
+    /** Transfer A to B **/
+    public void tab(){
+        int value=device.getA();
+        device.setB(value);
+        
+        updateCCR8(value); //Set negative and zero bits
+        device.clearCCRbits((byte)(0x02)); //Clear the overflow bit
+    }
+    
+    /** Transfer B to A - Actual instruction name To Be Announced **/
+    public void tba(){
+        int value=device.getB();
+        device.setA(value);
+        
+        updateCCR8(value); //Set negative and zero bits
+        device.clearCCRbits((byte)(0x02)); //Clear the overflow bit
+    }
+    
+    /** Transfer A to CCR **/
+    public void tap(){
+        int value=device.getA();
+        if(value >= 128)
+            value-=256;
+        device.setCCR((byte)(value));
+    }
+    
+    /** Transfer CCR to A **/
+    public void tpa(){
+        int value=device.getCCR();
+        if(value < 0)
+            value+=256;
+        device.setA(value);
+    }
+    
+    /** Exchange D and X **/
+    public void xgdx(){
+        int value=device.getX();
+        device.setX(device.getD());
+        device.setD(value);
+    }
+    
+    /** Exchange D and Y **/
+    public void xgdy(){
+        int value=device.getY();
+        device.setY(device.getD());
+        device.setD(value);
+    }
+    
+    /** Transfer Stack Pointer to X **/
+    public void tsx(){
+        int value=device.getSP();
+        device.setX(value+1);
+    }
+    
+    /** Transfer X to Stack Pointer **/
+    public void txs(){
+        int value=device.getX();
+        device.setSP(value-1);
+    }
+    
+    /** Transfer Stack Pointer to Y **/
+    public void tsy(){
+        int value=device.getSP();
+        device.setY(value+1);
+    }
+    
+    /** Transfer Y to Stack Pointer **/
+    public void tys(){
+        int value=device.getY();
+        device.setSP(value-1);
+    }
+    
+    private void ldab(int value){
+        device.setB(value);
+        updateCCR8(value);
+        device.clearCCRbits((byte)(0x02)); //Clear the overflow bit
+    }
+    
+    /** LDAB immediate **/
+    public void ldabImm(int operand){
+        ldab(operand);
+    }
+    
+    /** LDAB direct **/
+    public void ldabDir(int operand){
+        ldab(read8(operand));
+    }
+    
+    /** LDAB extended **/
+    public void ldabExt(int operand){
+        ldab(read8(operand));
+    }
+    
+    /** LDAB indexed by X **/
+    public void ldabIndx(int operand){
+        ldab(readX8(operand));
+    }
+    
+    /** LDAB indexed by Y **/
+    public void ldabIndy(int operand){
+        ldab(readY8(operand));
+    }
+    
+    /** Load accumulator X **/
+    private void ldx(int value){
+        device.setX(value);
+        updateCCR16(value); //Set negative and zero bits
+        device.clearCCRbits((byte)(0x02)); //Clear the overflow bit
+    }
+    
+    /** LDX immediate **/
+    public void ldxImm(int operand){
+        ldx(operand);
+    }
+    
+    /** LDX direct **/
+    public void ldxDir(int operand){
+        ldx(read16(operand));
+    }
+    
+    /** LDX extended **/
+    public void ldxExt(int operand){
+        ldx(read16(operand));
+    }
+    
+    /** LDX indexed by X **/
+    public void ldxIndx(int operand){
+        ldx(readX16(operand));
+    }
+    
+    /** LDX indexed by Y **/
+    public void ldxIndy(int operand){
+        ldx(readY16(operand));
+    }
+    
+    /** Load accumulator Y **/
+    private void ldy(int value){
+        device.setY(value);
+        updateCCR16(value); //Set negative and zero bits
+        device.clearCCRbits((byte)(0x02)); //Clear the overflow bit
+    }
+    
+    /** LDY immediate **/
+    public void ldyImm(int operand){
+        ldy(operand);
+    }
+    
+    /** LDY direct **/
+    public void ldyDir(int operand){
+        ldy(read16(operand));
+    }
+    
+    /** LDY extended **/
+    public void ldyExt(int operand){
+        ldy(read16(operand));
+    }
+    
+    /** LDY indexed by X **/
+    public void ldyIndx(int operand){
+        ldy(readX16(operand));
+    }
+    
+    /** LDY indexed by Y **/
+    public void ldyIndy(int operand){
+        ldy(readY16(operand));
+    }
+    
+    /** Look up an entry in one of the hc11_FlagTables tables, replace the CCR bits the table
+     * covers, and return the 8-bit result
+     **/
+    private int flags8(short[] table, int mask, int index){
+        int entry = table[index];
+        device.setFlags(mask, entry>>8);
+        return entry & 0xFF;
+    }
+    
+    /** Add two bytes and a carry, setting H, N, Z, V and C, and return the sum **/
+    private int add8(int a, int b, int carry){
+        return flags8(hc11_FlagTables.ADD, hc11_FlagTables.ADD_FLAGS, (carry<<16)|((a&0xFF)<<8)|(b&0xFF));
+    }
+    
+    /** Subtract a byte and a borrow from another, setting N, Z, V and C, and return the difference **/
+    private int sub8(int a, int b, int borrow){
+        return flags8(hc11_FlagTables.SUB, hc11_FlagTables.SUB_FLAGS, (borrow<<16)|((a&0xFF)<<8)|(b&0xFF));
+    }
+    
+    /** Increment a byte, setting N, Z and V **/
+    private int inc8(int value){
+        return flags8(hc11_FlagTables.INC, hc11_FlagTables.INC_FLAGS, value&0xFF);
+    }
+    
+    /** Decrement a byte, setting N, Z and V **/
+    private int dec8(int value){
+        return flags8(hc11_FlagTables.DEC, hc11_FlagTables.INC_FLAGS, value&0xFF);
+    }
+    
+    /** Read a byte for direct or extended addressing **/
+    private int read8(int addr){
+        return device.getMem(addr);
+    }
+    
+    /** Read a 16-bit value, high byte first, for direct or extended addressing **/
+    private int read16(int addr){
+        int value = device.getMem(addr)<<8;
+        return value + device.getMem(addr+1);
+    }
+    
+    /** Effective address of an X indexed operand. Like the old code, it is not wrapped to 16 bits. **/
+    private int addrX(int offset){
+        return device.getX()+offset;
+    }
+    
+    /** Effective address of a Y indexed operand **/
+    private int addrY(int offset){
+        return device.getY()+offset;
+    }
+    
+    /** Read a byte at X plus offset **/
+    private int readX8(int offset){
+        return device.getMem(device.getX()+offset);
+    }
+    
+    /** Read a byte at Y plus offset **/
+    private int readY8(int offset){
+        return device.getMem(device.getY()+offset);
+    }
+    
+    /** Read a 16-bit value at X plus offset **/
+    private int readX16(int offset){
+        return read16(device.getX()+offset);
+    }
+    
+    /** Read a 16-bit value at Y plus offset **/
+    private int readY16(int offset){
+        return read16(device.getY()+offset);
+    }
+    
+    /* Update the zero and negatives in CCR regarding an 8-bit value */
+    private void updateCCR8(int value){
+        device.setNZ(value, 0x80);
+    }
+    
+    /* Update the zero and negatives in CCR regarding an 16-bit value */
+    private void updateCCR16(int value){
+        device.setNZ(value, 0x8000);
+    }
+    
+    /* Update the overflow flag based on the result of subtraction */
+    private void updateOverflow8(int dest, int sub, int result){
+        //dest and sub are treated like signed bytes.
+        //If dest (usually accumulator A) is negative, sub is positive, and result is positive, overflow
+        //If dest is positive, sub is negative and result is negative, overflow
+        device.setV(dest, sub, result, 0x80);
+    }
+    
+    private void updateOverflow16(int dest, int sub, int result){
+        //dest and sub are treated like signed 16-bit integers. (s16, short)
+        //If dest (D, X or Y) is negative, sub is positive, and result is positive, overflow
+        //If dest is positive, sub is negative and result is negative, overflow
+        device.setV(dest, sub, result, 0x8000);
+    }
+    
+}
@@ -0,0 +1,57 @@
+/*
+ * hc11_Interrupts.java
+ *
+ * Created on October 18, 2026
+ *
+ * The interrupt sources of the HC11 and their vectors. Each source is a bit number in the pending
+ * mask hc11_Device keeps, and the bits are numbered in the chip's default priority order, so the
+ * lowest set bit is always the one to service first. Vectors live at 0xFFC0-0xFFFF, high byte first.
+ */
+
+package hc11emulator;
+
+public final class hc11_Interrupts {
+    //Interrupt sources, highest priority first. XIRQ is masked by the X bit, the rest by the I bit.
+    public static final int XIRQ=0, IRQ=1, RTI=2, TIC1=3, TIC2=4, TIC3=5, TOC1=6, TOC2=7, TOC3=8,
+            TOC4=9, TOC5=10, TOF=11, PAOV=12, PAI=13, SPI=14, SCI=15;
+    public static final int SOURCES=16;
+    
+    //Things that share the IRQ source, one bit each, for hc11_Device.requestIRQ()
+    public static final int IRQ_PIN=0x01, IRQ_STAF=0x02;
+    
+    //Pending mask bits for each kind of source
+    public static final int ALL=(1<<SOURCES)-1, X_MASKABLE=1<<XIRQ, I_MASKABLE=ALL&~X_MASKABLE;
+    //Only the external pins can wake the chip from STOP, since every internal clock is stopped
+    public static final int STOP_WAKE=(1<<XIRQ)|(1<<IRQ);
+    
+    //Vectors that don't belong to a pending source
+    public static final int SWI_VECTOR=0xFFF6, ILLEGAL_OPCODE_VECTOR=0xFFF8, COP_VECTOR=0xFFFA,
+            CLOCK_MONITOR_VECTOR=0xFFFC, RESET_VECTOR=0xFFFE;
+    
+    //Cycles to stack the registers and fetch the vector, and to only fetch the vector after WAI
+    public static final int ENTRY_CYCLES=14, WAI_EXIT_CYCLES=4;
+    
+    //Vector of each source, by bit number
+    private static final int[] VECTOR = {
+        0xFFF4, 0xFFF2, 0xFFF0, 0xFFEE, 0xFFEC, 0xFFEA, 0xFFE8, 0xFFE6,
+        0xFFE4, 0xFFE2, 0xFFE0, 0xFFDE, 0xFFDC, 0xFFDA, 0xFFD8, 0xFFD6
+    };
+    
+    private static final String[] NAME = {
+        "XIRQ", "IRQ", "RTI", "TIC1", "TIC2", "TIC3", "TOC1", "TOC2",
+        "TOC3", "TOC4", "TOC5", "TOF", "PAOV", "PAI", "SPI", "SCI"
+    };
+    
+    private hc11_Interrupts() {
+    }
+    
+    /** Get the address of the vector for an interrupt source **/
+    public static int vector(int source){
+        return VECTOR[source];
+    }
+    
+    /** Get the name of an interrupt source, as it appears in the Motorola manuals **/
+    public static String name(int source){
+        return NAME[source];
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * hc11_MemoryMap.java
+ *
+ * Created on October 18, 2026
+ *
+ * The HC11's 64kb address space, split into 256 pages of 256 bytes. Each page is RAM, ROM or I/O.
+ * hc11_Device reads RAM and ROM pages straight out of readPages, and writes RAM pages straight into
+ * writePages. A null entry sends the access to read() or write() in here instead, which ignores
+ * writes to ROM, copies a page shared with other boards before writing it, and calls the
+ * hc11_IOHandler mapped at the address. Every page keeps its bytes in data whatever its type, so
+ * silent accesses from the debugger and the loaders always work.
+ *
+ * A page nothing has written yet shares one blank array with every other board, so a board only
+ * allocates the pages its firmware, loaders and peripherals actually write.
+ */
+
+package hc11emulator;
+
+public class hc11_MemoryMap {
+    public static final int PAGE_SIZE=0x100, PAGES=0x100;
+    public static final int RAM=0, ROM=1, IO=2; //Page types
+    private static final byte[] BLANK = new byte[PAGE_SIZE]; //Every unwritten page, on every board. Never written.
+    
+    final byte[][] data; //The bytes of every page
+    final byte[][] readPages; //RAM and ROM pages. Null for I/O pages.
+    final byte[][] writePages; //RAM pages. Null for ROM and I/O pages.
+    private final boolean[] rom; //Pages that ignore writes, I/O or not
+    private final boolean[] shared; //Pages whose data array is BLANK or belongs to an hc11_RomImage, so other boards have it too
+    private final hc11_IOHandler[][] handlers; //Handler for each address of an I/O page. Null for other pages.
+    
+    /** Creates a new memory map, with every page blank RAM **/
+    public hc11_MemoryMap() {
+        data = new byte[PAGES][];
+        readPages = new byte[PAGES][];
+        writePages = new byte[PAGES][];
+        rom = new boolean[PAGES];
+        shared = new boolean[PAGES];
+        handlers = new hc11_IOHandler[PAGES][];
+        for(int page=0; page<PAGES; page++){
+            data[page] = BLANK;
+            shared[page] = true; //The first write to it makes it this board's own
+            updatePage(page);
+        }
+    }
+    
+    /** Make a range of pages RAM
+     *@param first The first page, which is the address divided by 256
+     *@param count How many pages
+     **/
+    public void setRAM(int first, int count){
+        for(int page=first; page<first+count; page++){
+            own(page); //The CPU can write it now, so it can't be shared
+            rom[page] = false;
+            updatePage(page);
+        }
+    }
+    
+    /** Make a range of pages ROM. The CPU can't write them, but the loaders and the debugger still can.
+     *@param first The first page, which is the address divided by 256
+     *@param count How many pages
+     **/
+    public void setROM(int first, int count){
+        for(int page=first; page<first+count; page++){
+            rom[page] = true;
+            updatePage(page);
+        }
+    }
+    
+    /** Map a ROM image. The pages it fills completely point at the image's own arrays, so every board
+     * mapping it shares one copy. Bytes on partly filled pages at either end are copied in, and those
+     * pages keep their type.
+     *@param image The image, which says where it goes
+     *@param readOnly True to make its pages ROM, which the CPU can't write. Otherwise they are RAM,
+     * like a file loaded with hc11_Helpers.loadBinary(), and the CPU's first write to one gives this
+     * board its own copy of that page.
+     **/
+    public void mapROM(hc11_RomImage image, boolean readOnly){
+        int start = image.getAddress(), end = start + image.getLength();
+        for(int addr=start; addr<end; ){
+            int page = addr >> 8;
+            byte[] bytes = image.page(page);
+            if(bytes != null){
+                data[page] = bytes;
+                shared[page] = true;
+                rom[page] = readOnly;
+                updatePage(page);
+                addr += PAGE_SIZE;
+            }
+            else{
+                poke(addr, image.get(addr - start));
+                addr++;
+            }
+        }
+    }
+    
+    /** Check if a page is shared with other boards, through an hc11_RomImage or because nothing has written it yet **/
+    public boolean isShared(int page){
+        return shared[page];
+    }
+    
+    /** Write a byte straight into a page, whatever its type, without calling any handler. A shared
+     * page gets a private copy first, so the other boards never see it.
+     **/
+    void poke(int address, int value){
+        own(address >> 8)[address & 0xFF] = (byte)value;
+    }
+    
+    /** Make sure a page's data array belongs to this board alone, and get it **/
+    private byte[] own(int page){
+        if(shared[page]){
+            data[page] = data[page].clone();
+            shared[page] = false;
+            updatePage(page);
+        }
+        return data[page];
+    }
+    
+    /** Get the type of a page, RAM, ROM or IO. A page is IO while anything is mapped in it. **/
+    public int getType(int page){
+        if(handlers[page] != null)
+            return IO;
+        return rom[page] ? ROM : RAM;
+    }
+    
+    /** Map a handler at an address. The rest of the page keeps acting like RAM or ROM.
+     *@param address The address
+     *@param handler What the CPU's reads and writes of it go to. Replaces whatever was there.
+     **/
+    public void mapIO(int address, hc11_IOHandler handler){
+        int page = address >> 8;
+        if(handlers[page] == null)
+            handlers[page] = new hc11_IOHandler[PAGE_SIZE];
+        handlers[page][address & 0xFF] = handler;
+        updatePage(page);
+    }
+    
+    /** Unmap a handler from every address it is mapped at
+     *@return The number of addresses it was mapped at
+     **/
+    public int unmapIO(hc11_IOHandler handler){
+        int removed = 0;
+        for(int page=0; page<PAGES; page++){
+            if(handlers[page] == null)
+                continue;
+            boolean empty = true;
+            for(int i=0; i<PAGE_SIZE; i++){
+                if(handlers[page][i] == handler){
+                    handlers[page][i] = null;
+                    removed++;
+                }
+                else if(handlers[page][i] != null)
+                    empty = false;
+            }
+            if(empty){
+                handlers[page] = null; //Nothing left, so go back to plain RAM or ROM
+                updatePage(page);
+            }
+        }
+        return removed;
+    }
+    
+    /** Read an address the fast path couldn't, because it is on an I/O page **/
+    int read(int address){
+        hc11_IOHandler handler = handlers[address >> 8][address & 0xFF];
+        if(handler != null)
+            return handler.ioRead(address);
+        return data[address >> 8][address & 0xFF] & 0xFF;
+    }
+    
+    /** Write an address the fast path couldn't, because it is on a ROM, I/O or shared page **/
+    void write(int address, int value){
+        int page = address >> 8;
+        if(!rom[page])
+            own(page)[address & 0xFF] = (byte)value; //A shared RAM page gets copied, and goes back on the fast path
+        if(handlers[page] != null){
+            hc11_IOHandler handler = handlers[page][address & 0xFF];
+            if(handler != null)
+                handler.ioWrite(address, value & 0xFF);
+        }
+    }
+    
+    /** Point the fast path tables at a page, or take them off it, to suit its type. Writes to a shared
+     * page always take the slow path, so that write() can copy it first.
+     **/
+    private void updatePage(int page){
+        boolean io = handlers[page] != null;
+        readPages[page] = io ? null : data[page];
+        writePages[page] = (io || rom[page] || shared[page]) ? null : data[page];
+    }
+}
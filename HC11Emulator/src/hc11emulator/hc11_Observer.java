@@ -1,21 +1,30 @@
-/*
- * hc11_Observer.java
- *
- * Created on July 7, 2006, 9:34 PM
- *
- *@author Paul Kratt
- */
-
-package hc11emulator;
-
-public interface hc11_Observer {
-    /** The emulator will call this function when hardware that the user can 
-     * see or interact with at runtime should update. This is called about
-     * 30 times per second by default. */
-    public void visualUpdate();
-    
-    /** This function returns the name of the observer device being added to the
-     * board. This name should be unique to each device, as it is used to 
-     * prevent the same device from being added to the board twice. */
-    public String getName();
-}
+/*
+ * hc11_Observer.java
+ *
+ * Created on July 7, 2006, 9:34 PM
+ *
+ *@author Paul Kratt
+ */
+
+package hc11emulator;
+
+public interface hc11_Observer {
+    /** The emulator will call this function when hardware that the user can 
+     * see or interact with at runtime should update. This is called about
+     * 30 times per second by default, on the Swing event thread. If the last
+     * call is still running when a new frame is ready, the frames in between
+     * are skipped.
+     *@param state The machine state at the end of the frame. It never changes.
+     */
+    public void visualUpdate(hc11_Snapshot state);
+    
+    /** This function returns the addresses the observer reads from the
+     * snapshot. Only these are copied into it. This is asked once, when
+     * the observer is added. */
+    public int[] getWatchedAddresses();
+    
+    /** This function returns the name of the observer device being added to the
+     * board. This name should be unique to each device, as it is used to 
+     * prevent the same device from being added to the board twice. */
+    public String getName();
+}
@@ -0,0 +1,45 @@
+/*
+ * hc11_ObserverSlot.java
+ *
+ * Created on October 18, 2026
+ *
+ * Carries snapshots from the emulator thread to one hc11_Observer on the Swing event thread. The slot
+ * holds at most one snapshot. Publishing into an empty slot queues a delivery, and publishing into a
+ * full one replaces the snapshot waiting there, so an observer that hasn't finished with the last frame
+ * only ever gets the newest one and the emulator thread never waits for it.
+ */
+
+package hc11emulator;
+
+import java.util.concurrent.atomic.AtomicReference;
+import javax.swing.SwingUtilities;
+
+final class hc11_ObserverSlot implements Runnable {
+    final hc11_Observer observer;
+    private final AtomicReference<hc11_Snapshot> pending = new AtomicReference<hc11_Snapshot>();
+    private volatile long dropped; //Snapshots replaced before the observer got to them
+    
+    hc11_ObserverSlot(hc11_Observer observer) {
+        this.observer = observer;
+    }
+    
+    /** Hand the observer a new snapshot. Emulator thread only. **/
+    void publish(hc11_Snapshot snapshot){
+        if(pending.getAndSet(snapshot) == null)
+            SwingUtilities.invokeLater(this);
+        else
+            dropped++; //Only this thread writes it
+    }
+    
+    /** Deliver the waiting snapshot. Runs on the Swing event thread. **/
+    public void run(){
+        hc11_Snapshot snapshot = pending.getAndSet(null);
+        if(snapshot != null)
+            observer.visualUpdate(snapshot);
+    }
+    
+    /** Get the number of snapshots the observer missed because it was busy **/
+    long getDropped(){
+        return dropped;
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * hc11_PortListener.java
+ *
+ * Created on October 18, 2026
+ *
+ * Something wired to the HC11's parallel port pins, like the keypad. Subscribe it with
+ * hc11_Ports.subscribe(), for the pins it cares about, and it hears about every change the
+ * firmware makes to them.
+ */
+
+package hc11emulator;
+
+public interface hc11_PortListener {
+    /** Called on the emulator thread when pins this listener subscribed to change. The other pins of
+     * the port may have changed in the same write too.
+     *@param cycle The cycle count when the instruction that changed them ran
+     *@param port hc11_Ports.A to hc11_Ports.E, or hc11_Ports.STROBE for the STRB line
+     *@param old The levels the port drove before, with input pins as 0
+     *@param value The levels it drives now
+     **/
+    public void pinsChanged(long cycle, int port, int old, int value);
+}
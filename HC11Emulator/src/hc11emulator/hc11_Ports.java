@@ -0,0 +1,324 @@
+/*
+ * hc11_Ports.java
+ *
+ * Created on October 18, 2026
+ *
+ * The HC11's parallel ports: PORTA-PORTE, DDRC and DDRD, and the PIOC handshake on STRA, STRB and
+ * PORTCL. Each port register is an output latch. A pin drives the latch bit while it is an output,
+ * and reads whatever setInput() last put on it while it is an input. Port B is all outputs, port E
+ * all inputs, and port A has PA4-PA6 as outputs, PA0-PA2 as inputs, and PA3 and PA7 going by DDRA3
+ * and DDRA7 in PACTL. PACTL belongs to the timer, so their directions are only looked at when port
+ * A is written.
+ *
+ * Whenever a write changes the levels a port drives, each hc11_PortListener subscribed to one of
+ * the changed pins is called with the cycle, the port, and the old and new levels. A port with no
+ * subscriber on the changed pins costs one mask test. The STRB line is published the same way, as
+ * bit 0 of the STROBE port.
+ *
+ * In simple strobe mode, writing PORTB pulses STRB for 2 cycles, and an active edge on STRA
+ * latches port C into PORTCL and sets STAF. The full input and output handshakes drive STRB from
+ * PORTCL accesses and STRA edges, interlocked or pulsed. STAF clears on a PORTCL access after PIOC
+ * was read with it set, and STAI turns it into an IRQ, shared with the IRQ pin through
+ * hc11_Device.requestIRQ(). Open-drain port C (CWOM) isn't modelled.
+ */
+
+package hc11emulator;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+public class hc11_Ports implements hc11_IOHandler, hc11_Event {
+    //Register offsets from the start of the register block
+    public static final int PORTA=0x00, PIOC=0x02, PORTC=0x03, PORTB=0x04, PORTCL=0x05, DDRC=0x07,
+            PORTD=0x08, DDRD=0x09, PORTE=0x0A;
+    public static final int A=0, B=1, C=2, D=3, E=4, STROBE=5, PORTS=6; //Ports, as listeners see them
+    //PIOC bits
+    public static final int STAF=0x80, STAI=0x40, CWOM=0x20, HNDS=0x10, OIN=0x08, PLS=0x04, EGA=0x02, INVB=0x01;
+    public static final int PIOC_RESET=EGA | INVB;
+    public static final int PULSE_CYCLES=2; //How long a STRB pulse lasts
+    private static final int PACTL=0x26, DDRA7=0x80, DDRA3=0x08; //Where port A's bit 7 and bit 3 directions are
+    private static final int[] REGISTER = {PORTA, PORTB, PORTC, PORTD, PORTE}; //Register of each port
+    
+    private final hc11_Device device;
+    private final int base; //Address of the register block
+    private final int[] latch = new int[PORTS]; //What the firmware last wrote to each port
+    private final AtomicIntegerArray input = new AtomicIntegerArray(PORTS); //Levels outside puts on the input pins. Set from any thread.
+    private final AtomicIntegerArray pins = new AtomicIntegerArray(PORTS); //Levels each port drove when listeners last heard. Read from any thread.
+    private int pioc, portcl;
+    private boolean stafRead; //PIOC was read with STAF set, so a PORTCL access clears it
+    private boolean strobing; //STRB is asserted
+    private boolean pulsing; //An event is scheduled to end a STRB pulse
+    private boolean stra; //Last level on STRA
+    private volatile Subscription[][] subscriptions = new Subscription[PORTS][0]; //Replaced whole, so any thread can subscribe
+    private volatile int[] watched = new int[PORTS]; //Pins of each port anything is subscribed to
+    
+    /** A listener and the pins it wants **/
+    private static class Subscription {
+        final hc11_PortListener listener;
+        final int mask;
+        
+        Subscription(hc11_PortListener listener, int mask) {
+            this.listener = listener;
+            this.mask = mask;
+        }
+    }
+    
+    /** Creates the ports, as they are out of reset, and maps their registers
+     *@param device The board they belong to
+     *@param base Where the register block is mapped
+     **/
+    public hc11_Ports(hc11_Device device, int base) {
+        this.device = device;
+        this.base = base;
+        for(int address=base+PORTA; address<=base+PORTE; address++){
+            if(address != base+PORTA+1 && address != base+PORTCL+1)
+                device.addIOHandler(address, this); //0x01 and 0x06 are reserved
+        }
+        reset();
+    }
+    
+    /** Put every register back the way it is out of reset. Every pin goes back to an input, or low
+     * for output-only pins, and listeners hear about the ones that were driven high.
+     **/
+    public void reset(){
+        for(int port=A; port<=D; port++)
+            latch[port] = 0;
+        device.getMemoryMap().poke(base+DDRC, 0);
+        device.getMemoryMap().poke(base+DDRD, 0);
+        pioc = PIOC_RESET;
+        portcl = 0;
+        stafRead = strobing = pulsing = false;
+        publishAll();
+        refresh();
+    }
+    
+    /** Listen for changes to some pins of a port. Any thread can call this.
+     *@param port A to E, or STROBE
+     *@param mask The pins, one bit each
+     **/
+    public synchronized void subscribe(int port, int mask, hc11_PortListener listener){
+        Subscription[][] all = subscriptions.clone();
+        Subscription[] list = new Subscription[all[port].length + 1];
+        System.arraycopy(all[port], 0, list, 0, list.length - 1);
+        list[list.length - 1] = new Subscription(listener, mask);
+        all[port] = list;
+        update(all);
+    }
+    
+    /** Stop a listener hearing about any port. Any thread can call this.
+     *@return True if it was subscribed to anything
+     **/
+    public synchronized boolean unsubscribe(hc11_PortListener listener){
+        Subscription[][] all = subscriptions.clone();
+        boolean found = false;
+        for(int port=0; port<PORTS; port++){
+            int kept = 0;
+            Subscription[] list = new Subscription[all[port].length];
+            for(int i=0; i<list.length; i++){
+                if(all[port][i].listener != listener)
+                    list[kept++] = all[port][i];
+            }
+            found |= kept < list.length;
+            all[port] = Arrays.copyOf(list, kept);
+        }
+        update(all);
+        return found;
+    }
+    
+    /** Put levels on a port's input pins. Pins that are outputs ignore them. Any thread can call
+     * this, like the keypad does from the Swing thread, and the firmware sees the levels the next
+     * time it reads the port.
+     *@param port A, C, D or E
+     *@param levels The pins, one bit each
+     **/
+    public void setInput(int port, int levels){
+        input.set(port, levels & 0xFF);
+    }
+    
+    /** Get the levels a port is driving on its output pins, with input pins as 0. Any thread can call this. **/
+    public int getOutputs(int port){
+        return pins.get(port);
+    }
+    
+    /** Get what the firmware would read from a port right now **/
+    public int getLevels(int port){
+        int outputs = outputMask(port);
+        return ((latch[port] & outputs) | (input.get(port) & ~outputs)) & (port == D ? 0x3F : 0xFF);
+    }
+    
+    /** Change the level on STRA. An edge EGA says is active latches port C into PORTCL and sets
+     * STAF, and in the interlocked handshakes it ends STRB. Call this on the emulator thread.
+     **/
+    public void setStrobeA(boolean level){
+        boolean edge = level != stra && level == ((pioc & EGA) != 0);
+        stra = level;
+        if(!edge)
+            return;
+        if((pioc & (HNDS | OIN)) != (HNDS | OIN))
+            portcl = getLevels(C); //The output handshake doesn't latch anything
+        pioc |= STAF;
+        if((pioc & HNDS) != 0 && (pioc & PLS) == 0)
+            setStrobe(false); //Interlocked. The other end has what it was waiting for.
+        refresh();
+    }
+    
+    public int ioRead(int address){
+        int register = address - base;
+        switch(register){
+            case PIOC:
+                stafRead = (pioc & STAF) != 0;
+                return pioc;
+            case PORTCL:
+                portCLAccess();
+                refresh();
+                return portcl;
+            case PORTA:
+                return getLevels(A);
+            case PORTB:
+                return latch[B];
+            case PORTC:
+                return getLevels(C);
+            case PORTD:
+                return getLevels(D);
+            case PORTE:
+                return getLevels(E);
+            default:
+                return device.getMemSilent(address); //The data direction registers
+        }
+    }
+    
+    public void ioWrite(int address, int value){
+        int register = address - base;
+        switch(register){
+            case PIOC:
+                int invert = (value ^ pioc) & INVB;
+                pioc = (pioc & STAF) | (value & ~STAF);
+                if(invert != 0)
+                    publish(STROBE);
+                break;
+            case PORTA:
+                latch[A] = value;
+                publish(A);
+                break;
+            case PORTB:
+                latch[B] = value;
+                publish(B);
+                if((pioc & HNDS) == 0)
+                    pulseStrobe(); //Simple strobe mode tells the other end port B changed
+                break;
+            case PORTCL:
+                portCLAccess();
+                latch[C] = value; //PORTCL writes go to port C's latch too
+                publish(C);
+                break;
+            case PORTC:
+                latch[C] = value;
+                publish(C);
+                break;
+            case DDRC:
+                publish(C);
+                break;
+            case PORTD:
+                latch[D] = value;
+                publish(D);
+                break;
+            case DDRD:
+                publish(D);
+                break;
+        }
+        refresh();
+    }
+    
+    /** Ends a STRB pulse **/
+    public void eventFired(long cycle, int id){
+        pulsing = false;
+        setStrobe(false);
+    }
+    
+    /** Clear STAF if PIOC was read first, and do the handshake's part of a PORTCL access **/
+    private void portCLAccess(){
+        if(stafRead){
+            pioc &= ~STAF;
+            stafRead = false;
+        }
+        if((pioc & HNDS) == 0)
+            return;
+        //Input handshake: ready for the next byte. Output handshake: the byte on port C is ready.
+        if((pioc & PLS) != 0)
+            pulseStrobe();
+        else
+            setStrobe(true);
+    }
+    
+    /** Assert STRB for PULSE_CYCLES **/
+    private void pulseStrobe(){
+        setStrobe(true);
+        if(!pulsing)
+            device.scheduleEvent(device.getCycles() + PULSE_CYCLES, this, 0);
+        pulsing = true;
+    }
+    
+    private void setStrobe(boolean asserted){
+        strobing = asserted;
+        publish(STROBE);
+    }
+    
+    /** Output pins of a port, by its data direction register **/
+    private int outputMask(int port){
+        switch(port){
+            case A: return 0x70 | (device.getMemSilent(base+PACTL) & (DDRA7 | DDRA3));
+            case B: return 0xFF;
+            case C: return device.getMemSilent(base+DDRC);
+            case D: return device.getMemSilent(base+DDRD) & 0x3F;
+            case STROBE: return 0x01;
+            default: return 0;
+        }
+    }
+    
+    /** Tell the listeners about the port's outputs, if they changed since they last heard **/
+    private void publish(int port){
+        int value;
+        if(port == STROBE)
+            value = strobing == ((pioc & INVB) != 0) ? 1 : 0; //INVB makes it active high
+        else
+            value = latch[port] & outputMask(port);
+        int old = pins.get(port);
+        if(value == old)
+            return;
+        pins.set(port, value);
+        int changed = old ^ value;
+        if((changed & watched[port]) == 0)
+            return;
+        Subscription[] list = subscriptions[port];
+        long cycle = device.getCycles();
+        for(int i=0; i<list.length; i++){
+            if((list[i].mask & changed) != 0)
+                list[i].listener.pinsChanged(cycle, port, old, value);
+        }
+    }
+    
+    private void publishAll(){
+        for(int port=0; port<PORTS; port++)
+            publish(port);
+    }
+    
+    /** Swap in new subscriptions, and the pins they watch **/
+    private void update(Subscription[][] all){
+        int[] masks = new int[PORTS];
+        for(int port=0; port<PORTS; port++){
+            for(int i=0; i<all[port].length; i++)
+                masks[port] |= all[port][i].mask;
+        }
+        subscriptions = all;
+        watched = masks;
+    }
+    
+    /** Put the registers where the debugger can see them, and ask for IRQ while STAF and STAI are set **/
+    private void refresh(){
+        device.getMemoryMap().poke(base+PIOC, pioc);
+        device.getMemoryMap().poke(base+PORTCL, portcl);
+        for(int port=A; port<=E; port++)
+            device.getMemoryMap().poke(base+REGISTER[port], port == B ? latch[B] : getLevels(port));
+        device.requestIRQ(hc11_Interrupts.IRQ_STAF, (pioc & (STAF | STAI)) == (STAF | STAI));
+    }
+}
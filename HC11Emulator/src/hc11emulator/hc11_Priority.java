@@ -0,0 +1,66 @@
+/*
+ * hc11_Priority.java
+ *
+ * Created on October 18, 2026
+ *
+ * The HC11's HPRIO register. Its PSEL3:0 bits pick one I-maskable interrupt source to raise above
+ * the others, and this passes that source on to hc11_Device.setHighestPriority(). On the chip, PSEL
+ * can only be written while the I bit is set, so a write with interrupts enabled keeps the old
+ * choice. The mode bits above PSEL only change in the special modes, which the emulator doesn't
+ * have, so they always read as 0.
+ */
+
+package hc11emulator;
+
+public class hc11_Priority implements hc11_IOHandler {
+    //Register offset from the start of the register block
+    public static final int HPRIO=0x3C;
+    public static final int PSEL=0x0F; //The bits that pick the source
+    public static final int HPRIO_RESET=0x06; //PSEL out of reset, which picks IRQ
+    
+    //Source picked by each PSEL value. 0101 is reserved, and picks IRQ like the reset value does.
+    private static final int[] SOURCE = {
+        hc11_Interrupts.TOF, hc11_Interrupts.PAOV, hc11_Interrupts.PAI, hc11_Interrupts.SPI,
+        hc11_Interrupts.SCI, hc11_Interrupts.IRQ, hc11_Interrupts.IRQ, hc11_Interrupts.RTI,
+        hc11_Interrupts.TIC1, hc11_Interrupts.TIC2, hc11_Interrupts.TIC3, hc11_Interrupts.TOC1,
+        hc11_Interrupts.TOC2, hc11_Interrupts.TOC3, hc11_Interrupts.TOC4, hc11_Interrupts.TOC5
+    };
+    
+    private final hc11_Device device;
+    private final int base; //Address of the register block
+    private int psel; //PSEL as it was last written while I was set
+    
+    /** Creates the register, as it is out of reset, and maps it
+     *@param device The board it belongs to
+     *@param base Where the register block is mapped
+     **/
+    public hc11_Priority(hc11_Device device, int base) {
+        this.device = device;
+        this.base = base;
+        device.addIOHandler(base+HPRIO, this);
+        reset();
+    }
+    
+    /** Get the interrupt source PSEL picks, as an hc11_Interrupts source **/
+    public int getSource(){
+        return SOURCE[psel];
+    }
+    
+    /** Put HPRIO back the way it is out of reset **/
+    public void reset(){
+        psel = HPRIO_RESET & PSEL;
+        device.getMemoryMap().poke(base+HPRIO, HPRIO_RESET);
+        device.setHighestPriority(getSource());
+    }
+    
+    public int ioRead(int address){
+        return device.getMemSilent(address);
+    }
+    
+    public void ioWrite(int address, int value){
+        if((device.getCCR() & 0x10) != 0)
+            psel = value & PSEL;
+        device.getMemoryMap().poke(address, psel); //Undo the mode bits, and PSEL too if I was clear
+        device.setHighestPriority(getSource());
+    }
+}
@@ -0,0 +1,417 @@
+/*
+ * hc11_Recompiler.java
+ *
+ * Created on October 18, 2026
+ *
+ * Translates hot basic blocks of HC11 code into JVM classes. Each block becomes a hidden class
+ * whose run() method makes the same hc11_Instructions calls the interpreter would, with the
+ * operands, addresses and cycle counts baked in as constants. That takes fetching, decoding and
+ * both levels of dispatch out of the loop, and leaves the JVM free to inline the instructions.
+ *
+ * A block ends at any instruction that can change PC, at an opcode the interpreter doesn't support,
+ * or after MAX_INSTRUCTIONS. Writes to a compiled block throw it away, and the device falls back
+ * to the interpreter at that address until it gets hot again.
+ */
+
+package hc11emulator;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.invoke.MethodHandles;
+
+public class hc11_Recompiler {
+    private final hc11_Device device; //The device we compile for
+    private final hc11_Block[] blocks = new hc11_Block[0x10000]; //Compiled blocks, by start address
+    private final int[] heat = new int[0x10000]; //How many times the interpreter has started at each address
+    private final boolean[] covered = new boolean[0x10000]; //Bytes that are part of some compiled block
+    private final MethodHandles.Lookup lookup = MethodHandles.lookup();
+    private int compiled; //How many blocks we have compiled
+    private boolean failed; //A block has failed to load, and that has been reported
+    
+    private static final int HOT=16; //Interpreted passes over an address before it gets compiled
+    private static final int COLD=Integer.MIN_VALUE; //Heat of an address that can't start a block
+    private static final int MAX_INSTRUCTIONS=32; //Longest block we will compile
+    private static final int MAX_BLOCK_BYTES=MAX_INSTRUCTIONS*5; //Most bytes a block can cover
+    
+    //Kinds of argument an instruction method can take
+    private static final int ARG_NONE=0, ARG_OPERAND=1, ARG_FALSE=2, ARG_TRUE=3;
+    
+    private static final String[] METHOD = new String[0x400]; //hc11_Instructions method for each handler id
+    private static final int[] ARGS = new int[0x400]; //What that method takes
+    
+    /** Instructions that change PC, and so end a block **/
+    private static final String ENDS_BLOCK = " bra brn bhi bls bcc bcs bne beq bvc bvs bpl bmi bge blt bgt ble"
+            + " brsetDir brsetIndx brsetIndy brclrDir brclrIndx brclrIndy bsr jmpExt jmpIndx jmpIndy"
+            + " jsrDir jsrExt jsrIndx jsrIndy rts rti swi wai stop ";
+    
+    private static final String DEVICE = "hc11emulator/hc11_Device";
+    private static final String INSTRUCTIONS = "hc11emulator/hc11_Instructions";
+    
+    static{
+        //These are the calls made by the switches in hc11_Device.execute(), by handler id.
+        //Page 1
+        call(0x001, "nop()");              call(0x002, "idiv()");             call(0x003, "fdiv()");
+        call(0x004, "lsrd()");             call(0x005, "lsld()");             call(0x006, "tap()");
+        call(0x007, "tpa()");              call(0x008, "inx()");              call(0x009, "dex()");
+        call(0x00A, "clv()");              call(0x00B, "sev()");              call(0x00C, "clc()");
+        call(0x00D, "sec()");              call(0x00E, "cli()");              call(0x00F, "sei()");
+        call(0x010, "sba(false)");         call(0x011, "sba(true)");          call(0x012, "brsetDir(operand)");
+        call(0x013, "brclrDir(operand)");  call(0x014, "bsetDir(operand)");   call(0x015, "bclrDir(operand)");
+        call(0x016, "tab()");              call(0x017, "tba()");              call(0x019, "daa()");
+        call(0x01B, "aba()");              call(0x01C, "bsetIndx(operand)");  call(0x01D, "bclrIndx(operand)");
+        call(0x01E, "brsetIndx(operand)"); call(0x01F, "brclrIndx(operand)"); call(0x020, "bra(operand)");
+        call(0x021, "brn(operand)");       call(0x022, "bhi(operand)");       call(0x023, "bls(operand)");
+        call(0x024, "bcc(operand)");       call(0x025, "bcs(operand)");       call(0x026, "bne(operand)");
+        call(0x027, "beq(operand)");       call(0x028, "bvc(operand)");       call(0x029, "bvs(operand)");
+        call(0x02A, "bpl(operand)");       call(0x02B, "bmi(operand)");       call(0x02C, "bge(operand)");
+        call(0x02D, "blt(operand)");       call(0x02E, "bgt(operand)");       call(0x02F, "ble(operand)");
+        call(0x030, "tsx()");              call(0x031, "ins()");              call(0x032, "pula()");
+        call(0x033, "pulb()");             call(0x034, "des()");              call(0x035, "txs()");
+        call(0x036, "psha()");             call(0x037, "pshb()");             call(0x038, "pulx()");
+        call(0x039, "rts()");              call(0x03A, "abx()");              call(0x03B, "rti()");
+        call(0x03C, "pshx()");             call(0x03D, "mul()");              call(0x03E, "wai()");
+        call(0x03F, "swi()");              call(0x040, "nega()");             call(0x043, "coma()");
+        call(0x044, "lsra()");             call(0x046, "rora()");             call(0x047, "asra()");
+        call(0x048, "asla()");             call(0x049, "rola()");             call(0x04A, "deca()");
+        call(0x04C, "inca()");             call(0x04D, "tsta()");             call(0x04F, "clra()");
+        call(0x050, "negb()");             call(0x053, "comb()");             call(0x054, "lsrb()");
+        call(0x056, "rorb()");             call(0x057, "asrb()");             call(0x058, "aslb()");
+        call(0x059, "rolb()");             call(0x05A, "decb()");             call(0x05C, "incb()");
+        call(0x05D, "tstb()");             call(0x05F, "clrb()");             call(0x060, "negIndx(operand)");
+        call(0x063, "comIndx(operand)");   call(0x064, "lsrIndx(operand)");   call(0x066, "rorIndx(operand)");
+        call(0x067, "asrIndx(operand)");   call(0x068, "aslIndx(operand)");   call(0x069, "rolIndx(operand)");
+        call(0x06A, "decIndx(operand)");   call(0x06C, "incIndx(operand)");   call(0x06D, "tstIndx(operand)");
+        call(0x06E, "jmpIndx(operand)");   call(0x06F, "clrIndx(operand)");   call(0x070, "negExt(operand)");
+        call(0x073, "comExt(operand)");    call(0x074, "lsrExt(operand)");    call(0x076, "rorExt(operand)");
+        call(0x077, "asrExt(operand)");    call(0x078, "aslExt(operand)");    call(0x079, "rolExt(operand)");
+        call(0x07A, "decExt(operand)");    call(0x07C, "incExt(operand)");    call(0x07D, "tstExt(operand)");
+        call(0x07E, "jmpExt(operand)");    call(0x07F, "clrExt(operand)");    call(0x080, "subaImm(operand)");
+        call(0x081, "cmpaImm(operand)");   call(0x082, "sbcaImm(operand)");   call(0x083, "subdImm(operand)");
+        call(0x084, "andaImm(operand)");   call(0x085, "bitaImm(operand)");   call(0x086, "ldaaImm(operand)");
+        call(0x088, "eoraImm(operand)");   call(0x089, "adcaImm(operand)");   call(0x08A, "oraaImm(operand)");
+        call(0x08B, "addaImm(operand)");   call(0x08C, "cmpxImm(operand)");   call(0x08D, "bsr(operand)");
+        call(0x08E, "ldsImm(operand)");    call(0x08F, "xgdx()");             call(0x090, "subaDir(operand)");
+        call(0x091, "cmpaDir(operand)");   call(0x092, "sbcaDir(operand)");   call(0x093, "subdDir(operand)");
+        call(0x094, "andaDir(operand)");   call(0x095, "bitaDir(operand)");   call(0x096, "ldaaDir(operand)");
+        call(0x097, "staaDir(operand)");   call(0x098, "eoraDir(operand)");   call(0x099, "adcaDir(operand)");
+        call(0x09A, "oraaDir(operand)");   call(0x09B, "addaDir(operand)");   call(0x09C, "cmpxDir(operand)");
+        call(0x09D, "jsrDir(operand)");    call(0x09E, "ldsDir(operand)");    call(0x09F, "stsDir(operand)");
+        call(0x0A0, "subaIndx(operand)");  call(0x0A1, "cmpaIndx(operand)");  call(0x0A2, "sbcaIndx(operand)");
+        call(0x0A3, "subdIndx(operand)");  call(0x0A4, "andaIndx(operand)");  call(0x0A5, "bitaIndx(operand)");
+        call(0x0A6, "ldaaIndx(operand)");  call(0x0A7, "staaIndx(operand)");  call(0x0A8, "eoraIndx(operand)");
+        call(0x0A9, "adcaIndx(operand)");  call(0x0AA, "oraaIndx(operand)");  call(0x0AB, "addaIndx(operand)");
+        call(0x0AC, "cmpxIndx(operand)");  call(0x0AD, "jsrIndx(operand)");   call(0x0AE, "ldsIndx(operand)");
+        call(0x0AF, "stsIndx(operand)");   call(0x0B0, "subaExt(operand)");   call(0x0B1, "cmpaExt(operand)");
+        call(0x0B2, "sbcaExt(operand)");   call(0x0B3, "subdExt(operand)");   call(0x0B4, "andaExt(operand)");
+        call(0x0B5, "bitaExt(operand)");   call(0x0B6, "ldaaExt(operand)");   call(0x0B7, "staaExt(operand)");
+        call(0x0B8, "eoraExt(operand)");   call(0x0B9, "adcaExt(operand)");   call(0x0BA, "oraaExt(operand)");
+        call(0x0BB, "addaExt(operand)");   call(0x0BC, "cmpxExt(operand)");   call(0x0BD, "jsrExt(operand)");
+        call(0x0BE, "ldsExt(operand)");    call(0x0BF, "stsExt(operand)");    call(0x0C0, "subbImm(operand)");
+        call(0x0C1, "cmpbImm(operand)");   call(0x0C2, "sbcbImm(operand)");   call(0x0C3, "adddImm(operand)");
+        call(0x0C4, "andbImm(operand)");   call(0x0C5, "bitbImm(operand)");   call(0x0C6, "ldabImm(operand)");
+        call(0x0C8, "eorbImm(operand)");   call(0x0C9, "adcbImm(operand)");   call(0x0CA, "orabImm(operand)");
+        call(0x0CB, "addbImm(operand)");   call(0x0CC, "lddImm(operand)");    call(0x0CE, "ldxImm(operand)");
+        call(0x0CF, "stop()");             call(0x0D0, "subbDir(operand)");   call(0x0D1, "cmpbDir(operand)");
+        call(0x0D2, "sbcbDir(operand)");   call(0x0D3, "adddDir(operand)");   call(0x0D4, "andbDir(operand)");
+        call(0x0D5, "bitbDir(operand)");   call(0x0D6, "ldabDir(operand)");   call(0x0D7, "stabDir(operand)");
+        call(0x0D8, "eorbDir(operand)");   call(0x0D9, "adcbDir(operand)");   call(0x0DA, "orabDir(operand)");
+        call(0x0DB, "addbDir(operand)");   call(0x0DC, "lddDir(operand)");    call(0x0DD, "stdDir(operand)");
+        call(0x0DE, "ldxDir(operand)");    call(0x0DF, "stxDir(operand)");    call(0x0E0, "subbIndx(operand)");
+        call(0x0E1, "cmpbIndx(operand)");  call(0x0E2, "sbcbIndx(operand)");  call(0x0E3, "adddIndx(operand)");
+        call(0x0E4, "andbIndx(operand)");  call(0x0E5, "bitbIndx(operand)");  call(0x0E6, "ldabIndx(operand)");
+        call(0x0E7, "stabIndx(operand)");  call(0x0E8, "eorbIndx(operand)");  call(0x0E9, "adcbIndx(operand)");
+        call(0x0EA, "orabIndx(operand)");  call(0x0EB, "addbIndx(operand)");  call(0x0EC, "lddIndx(operand)");
+        call(0x0ED, "stdIndx(operand)");   call(0x0EE, "ldxIndx(operand)");   call(0x0EF, "stxIndx(operand)");
+        call(0x0F0, "subbExt(operand)");   call(0x0F1, "cmpbExt(operand)");   call(0x0F2, "sbcbExt(operand)");
+        call(0x0F3, "adddExt(operand)");   call(0x0F4, "andbExt(operand)");   call(0x0F5, "bitbExt(operand)");
+        call(0x0F6, "ldabExt(operand)");   call(0x0F7, "stabExt(operand)");   call(0x0F8, "eorbExt(operand)");
+        call(0x0F9, "adcbExt(operand)");   call(0x0FA, "orabExt(operand)");   call(0x0FB, "addbExt(operand)");
+        call(0x0FC, "lddExt(operand)");    call(0x0FD, "stdExt(operand)");    call(0x0FE, "ldxExt(operand)");
+        call(0x0FF, "stxExt(operand)");
+        //Page 2, prebyte 0x18
+        call(0x108, "iny()");              call(0x109, "dey()");              call(0x11C, "bsetIndy(operand)");
+        call(0x11D, "bclrIndy(operand)");  call(0x11E, "brsetIndy(operand)"); call(0x11F, "brclrIndy(operand)");
+        call(0x130, "tsy()");              call(0x135, "tys()");              call(0x138, "puly()");
+        call(0x13A, "aby()");              call(0x13C, "pshy()");             call(0x160, "negIndy(operand)");
+        call(0x163, "comIndy(operand)");   call(0x164, "comIndy(operand)");   call(0x166, "rorIndy(operand)");
+        call(0x167, "asrIndy(operand)");   call(0x168, "asrIndy(operand)");   call(0x169, "rolIndy(operand)");
+        call(0x16A, "decIndy(operand)");   call(0x16C, "incIndy(operand)");   call(0x16D, "tstIndy(operand)");
+        call(0x16E, "jmpIndy(operand)");   call(0x16F, "clrIndy(operand)");   call(0x18C, "cmpyImm(operand)");
+        call(0x18F, "xgdy()");             call(0x19C, "cmpyDir(operand)");   call(0x1A0, "subaIndy(operand)");
+        call(0x1A1, "cmpaIndy(operand)");  call(0x1A2, "sbcaIndy(operand)");  call(0x1A3, "subdIndy(operand)");
+        call(0x1A4, "andaIndy(operand)");  call(0x1A5, "bitaIndy(operand)");  call(0x1A6, "ldsIndy(operand)");
+        call(0x1A7, "staaIndy(operand)");  call(0x1A8, "eoraIndy(operand)");  call(0x1A9, "adcaIndy(operand)");
+        call(0x1AA, "oraaIndy(operand)");  call(0x1AB, "addaIndy(operand)");  call(0x1AC, "cmpyIndy(operand)");
+        call(0x1AD, "jsrIndy(operand)");   call(0x1AE, "ldsIndy(operand)");   call(0x1AF, "stsIndy(operand)");
+        call(0x1BC, "cmpyExt(operand)");   call(0x1CE, "ldyImm(operand)");    call(0x1DE, "ldyDir(operand)");
+        call(0x1DF, "styDir(operand)");    call(0x1E0, "subbIndy(operand)");  call(0x1E1, "cmpbIndy(operand)");
+        call(0x1E2, "sbcbIndy(operand)");  call(0x1E3, "adddIndy(operand)");  call(0x1E4, "andbIndy(operand)");
+        call(0x1E5, "bitbIndy(operand)");  call(0x1E6, "ldabIndy(operand)");  call(0x1E7, "stabIndy(operand)");
+        call(0x1E8, "eorbIndy(operand)");  call(0x1E9, "adcbIndy(operand)");  call(0x1EA, "orabIndy(operand)");
+        call(0x1EB, "addbIndy(operand)");  call(0x1EC, "lddIndy(operand)");   call(0x1ED, "stdIndy(operand)");
+        call(0x1EE, "ldyIndy(operand)");   call(0x1EF, "styIndy(operand)");   call(0x1FE, "ldyExt(operand)");
+        call(0x1FF, "styExt(operand)");
+        //Page 3, prebyte 0x1A
+        call(0x283, "cmpdImm(operand)");   call(0x293, "cmpdDir(operand)");   call(0x2A3, "cmpdIndx(operand)");
+        call(0x2AC, "cmpyIndx(operand)");  call(0x2B3, "cmpdExt(operand)");   call(0x2EE, "ldyIndx(operand)");
+        call(0x2EF, "styIndx(operand)");
+        //Page 4, prebyte 0xCD
+        call(0x3A3, "cmpdIndy(operand)");  call(0x3AC, "cmpxIndy(operand)");  call(0x3EE, "ldxIndy(operand)");
+        call(0x3EF, "stxIndy(operand)");
+    }
+    
+    /** Record the interpreter call for a handler id, as written in hc11_Device.execute() **/
+    private static void call(int handler, String call){
+        String args = call.substring(call.indexOf('(')+1, call.indexOf(')'));
+        METHOD[handler] = call.substring(0, call.indexOf('('));
+        if(args.length() == 0)
+            ARGS[handler] = ARG_NONE;
+        else if(args.equals("operand"))
+            ARGS[handler] = ARG_OPERAND;
+        else if(args.equals("false"))
+            ARGS[handler] = ARG_FALSE;
+        else
+            ARGS[handler] = ARG_TRUE;
+    }
+    
+    /** Creates a new recompiler for the device passed in **/
+    public hc11_Recompiler(hc11_Device device) {
+        this.device = device;
+    }
+    
+    /** Get the compiled block starting at an address. If there isn't one, count a pass over
+     * the address and compile a block once it gets hot.
+     *@param addr The address the block would start at
+     *@return The block, or null if the interpreter should run this instruction
+     **/
+    public hc11_Block lookup(int addr){
+        hc11_Block block = blocks[addr];
+        if(block != null || ++heat[addr] < HOT)
+            return block;
+        block = compile(addr);
+        if(block == null)
+            heat[addr] = COLD;
+        return block;
+    }
+    
+    /** Memory has been written. Throw away any block that was compiled from it.
+     *@param addr The address that was written
+     **/
+    public void invalidate(int addr){
+        if(!covered[addr])
+            return;
+        for(int start=addr; start>=0 && start>addr-MAX_BLOCK_BYTES; start--){
+            hc11_Block block = blocks[start];
+            if(block != null && block.end > addr){
+                blocks[start] = null;
+                heat[start] = 0;
+                uncover(block);
+            }
+        }
+        device.blockExit = true; //The running block may have just overwritten itself
+    }
+    
+    /** A block has been thrown away. Clear covered[] over its bytes, except where another block
+     * still covers them.
+     **/
+    private void uncover(hc11_Block dropped){
+        for(int i=dropped.start; i<dropped.end; i++)
+            covered[i] = false;
+        for(int start=Math.max(0, dropped.start-MAX_BLOCK_BYTES+1); start<dropped.end; start++){
+            hc11_Block block = blocks[start];
+            if(block != null && block.end > dropped.start){
+                for(int i=Math.max(start, dropped.start); i<Math.min(block.end, dropped.end); i++)
+                    covered[i] = true;
+            }
+        }
+    }
+    
+    /** Throw away every compiled block **/
+    public void clear(){
+        for(int i=0; i<blocks.length; i++){
+            blocks[i] = null;
+            heat[i] = 0;
+            covered[i] = false;
+        }
+    }
+    
+    /** Get the number of blocks compiled so far **/
+    public int getCompiledCount(){
+        return compiled;
+    }
+    
+    /** Translate the block starting at an address into a hidden class.
+     *@return The new block, or null if there is nothing here we can compile
+     **/
+    private hc11_Block compile(int start){
+        hc11_ClassFile cf = new hc11_ClassFile("hc11emulator/hc11_CompiledBlock", "hc11emulator/hc11_Block");
+        ByteArrayOutputStream code = new ByteArrayOutputStream();
+        int lastpc = cf.fieldRef(DEVICE, "lastpc", "I");
+        int pc = cf.fieldRef(DEVICE, "pc", "I");
+        int cycles = cf.fieldRef(DEVICE, "cycles", "J");
+        int instructions = cf.fieldRef(DEVICE, "instructions", "J");
+        int inset = cf.fieldRef(DEVICE, "inset", "L" + INSTRUCTIONS + ";");
+        int blockExit = cf.fieldRef(DEVICE, "blockExit", "Z");
+        int blockStop = cf.fieldRef(DEVICE, "blockStop", "J");
+        int addr = start;
+        int count = 0;
+        boolean branched = false;
+        
+        while(count < MAX_INSTRUCTIONS){
+            int entry = device.decoder.fetch(addr);
+            int handler = hc11_DecodeCache.handler(entry);
+            int next = addr + hc11_DecodeCache.length(entry);
+            if(METHOD[handler] == null || next > 0xFFFF)
+                break; //Leave unsupported opcodes and wrapping around memory to the interpreter
+            
+            //Same bookkeeping as hc11_Device.execute(), before the instruction runs
+            code.write(hc11_ClassFile.ALOAD_1);
+            pushInt(cf, code, addr);
+            emitRef(code, hc11_ClassFile.PUTFIELD, lastpc);
+            code.write(hc11_ClassFile.ALOAD_1);
+            pushInt(cf, code, next);
+            emitRef(code, hc11_ClassFile.PUTFIELD, pc);
+            code.write(hc11_ClassFile.ALOAD_1);
+            code.write(hc11_ClassFile.DUP);
+            emitRef(code, hc11_ClassFile.GETFIELD, cycles);
+            pushInt(cf, code, hc11_DecodeCache.cycles(handler));
+            code.write(hc11_ClassFile.I2L);
+            code.write(hc11_ClassFile.LADD);
+            emitRef(code, hc11_ClassFile.PUTFIELD, cycles);
+            code.write(hc11_ClassFile.ALOAD_1);
+            code.write(hc11_ClassFile.DUP);
+            emitRef(code, hc11_ClassFile.GETFIELD, instructions);
+            pushInt(cf, code, 1);
+            code.write(hc11_ClassFile.I2L);
+            code.write(hc11_ClassFile.LADD);
+            emitRef(code, hc11_ClassFile.PUTFIELD, instructions);
+            
+            //device.inset.method(args)
+            code.write(hc11_ClassFile.ALOAD_1);
+            emitRef(code, hc11_ClassFile.GETFIELD, inset);
+            String descriptor;
+            switch(ARGS[handler]){
+                case ARG_OPERAND:
+                    pushInt(cf, code, device.decoder.operand(addr));
+                    descriptor = "(I)V";
+                    break;
+                case ARG_FALSE:
+                case ARG_TRUE:
+                    pushInt(cf, code, ARGS[handler] == ARG_TRUE ? 1 : 0);
+                    descriptor = "(Z)V";
+                    break;
+                default:
+                    descriptor = "()V";
+            }
+            emitRef(code, hc11_ClassFile.INVOKEVIRTUAL, cf.methodRef(INSTRUCTIONS, METHOD[handler], descriptor));
+            count++;
+            addr = next;
+            if(ENDS_BLOCK.indexOf(" " + METHOD[handler] + " ") >= 0){
+                branched = true;
+                break;
+            }
+            if(count == MAX_INSTRUCTIONS)
+                break;
+            
+            //if(device.blockExit) return; A trap fired, or the block wrote to code.
+            code.write(hc11_ClassFile.ALOAD_1);
+            emitRef(code, hc11_ClassFile.GETFIELD, blockExit);
+            code.write(hc11_ClassFile.IFEQ);
+            code.write(0);
+            code.write(4); //Skip over the return
+            code.write(hc11_ClassFile.RETURN);
+        }
+        if(count == 0)
+            return null;
+        if(branched){
+            //Tight loops branch straight back to the start of their block. Go around again without
+            //leaving the block: if(pc == start && cycles < blockStop && !blockExit) goto top;
+            code.write(hc11_ClassFile.ALOAD_1);
+            emitRef(code, hc11_ClassFile.GETFIELD, pc);
+            pushInt(cf, code, start);
+            int[] exits = new int[3];
+            exits[0] = code.size();
+            emitRef(code, hc11_ClassFile.IF_ICMPNE, 0);
+            code.write(hc11_ClassFile.ALOAD_1);
+            emitRef(code, hc11_ClassFile.GETFIELD, cycles);
+            code.write(hc11_ClassFile.ALOAD_1);
+            emitRef(code, hc11_ClassFile.GETFIELD, blockStop);
+            code.write(hc11_ClassFile.LCMP);
+            exits[1] = code.size();
+            emitRef(code, hc11_ClassFile.IFGE, 0);
+            code.write(hc11_ClassFile.ALOAD_1);
+            emitRef(code, hc11_ClassFile.GETFIELD, blockExit);
+            exits[2] = code.size();
+            emitRef(code, hc11_ClassFile.IFNE, 0);
+            emitRef(code, hc11_ClassFile.GOTO, -code.size() & 0xFFFF);
+            byte[] bytes = code.toByteArray();
+            for(int i=0; i<exits.length; i++){
+                int offset = bytes.length - exits[i]; //Jump to the return we are about to add
+                bytes[exits[i]+1] = (byte)(offset>>8);
+                bytes[exits[i]+2] = (byte)offset;
+            }
+            code.reset();
+            code.write(bytes, 0, bytes.length);
+        }
+        code.write(hc11_ClassFile.RETURN);
+        
+        //A constructor that just calls hc11_Block's
+        byte[] init = {(byte)hc11_ClassFile.ALOAD_0, (byte)hc11_ClassFile.INVOKESPECIAL, 0, 0, (byte)hc11_ClassFile.RETURN};
+        int superInit = cf.methodRef("hc11emulator/hc11_Block", "<init>", "()V");
+        init[2] = (byte)(superInit>>8);
+        init[3] = (byte)superInit;
+        cf.addMethod(hc11_ClassFile.ACC_PUBLIC, "<init>", "()V", 1, 1, init);
+        cf.addMethod(hc11_ClassFile.ACC_PUBLIC, "run", "(L" + DEVICE + ";)V", 6, 2, code.toByteArray());
+        
+        hc11_Block block;
+        try {
+            Class<?> blockClass = lookup.defineHiddenClass(cf.toByteArray(hc11_ClassFile.ACC_PUBLIC | hc11_ClassFile.ACC_FINAL
+                    | hc11_ClassFile.ACC_SUPER), true).lookupClass();
+            block = (hc11_Block)blockClass.getDeclaredConstructor().newInstance();
+        } catch (Exception ex) {
+            //This is a bug in the recompiler. Say so once, and keep interpreting.
+            if(!failed)
+                System.out.println("Recompiler couldn't load the block at " + Integer.toHexString(start) + ": " + ex);
+            failed = true;
+            return null;
+        }
+        block.start = start;
+        block.end = addr;
+        for(int i=start; i<addr; i++)
+            covered[i] = true;
+        blocks[start] = block;
+        compiled++;
+        return block;
+    }
+    
+    /** Emit the shortest instruction that pushes an int constant **/
+    private static void pushInt(hc11_ClassFile cf, ByteArrayOutputStream code, int value){
+        if(value >= -1 && value <= 5)
+            code.write(hc11_ClassFile.ICONST_0 + value);
+        else if(value >= -128 && value <= 127){
+            code.write(hc11_ClassFile.BIPUSH);
+            code.write(value);
+        }
+        else if(value >= -32768 && value <= 32767){
+            code.write(hc11_ClassFile.SIPUSH);
+            code.write(value>>8);
+            code.write(value);
+        }
+        else{
+            int index = cf.integer(value);
+            if(index < 0x100){
+                code.write(hc11_ClassFile.LDC);
+                code.write(index);
+            }
+            else
+                emitRef(code, hc11_ClassFile.LDC_W, index);
+        }
+    }
+    
+    /** Emit an instruction that takes a two byte constant pool index **/
+    private static void emitRef(ByteArrayOutputStream code, int opcode, int index){
+        code.write(opcode);
+        code.write(index>>8);
+        code.write(index);
+    }
+    
+}
@@ -0,0 +1,101 @@
+/*
+ * hc11_RomImage.java
+ *
+ * Created on October 18, 2026
+ *
+ * A binary ROM file, read once per process and shared by every board that maps it. The bytes are
+ * split into 256 byte pages that never change, so hc11_MemoryMap can point any number of boards'
+ * ROM pages at the same arrays instead of giving each board its own copy. A board that writes to one
+ * of these pages gets a private copy of that page first. Images are cached by file, load address,
+ * size and modification time, so a rebuilt ROM file is read again, and clearCache() forgets them all.
+ */
+
+package hc11emulator;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class hc11_RomImage {
+    //Images already read, by file, load address, size and modification time
+    private static final ConcurrentHashMap<String, hc11_RomImage> loaded = new ConcurrentHashMap<String, hc11_RomImage>();
+    
+    private final int address; //Where the first byte goes
+    private final byte[] bytes; //The whole file
+    private final byte[][] pages; //Every page the file fills completely, by page number. Null for the rest.
+    
+    private hc11_RomImage(int address, byte[] bytes) {
+        this.address = address;
+        this.bytes = bytes;
+        pages = new byte[hc11_MemoryMap.PAGES][];
+        for(int page=(address+0xFF)>>8; (page+1)<<8 <= address+bytes.length && page < hc11_MemoryMap.PAGES; page++){
+            pages[page] = new byte[hc11_MemoryMap.PAGE_SIZE];
+            System.arraycopy(bytes, (page<<8) - address, pages[page], 0, hc11_MemoryMap.PAGE_SIZE);
+        }
+    }
+    
+    /** Get the image of a ROM file, reading it only the first time it is asked for, or when the file
+     * has changed since.
+     *@param file The binary file
+     *@param address Where it loads in the address space
+     *@return The image, shared with everything else that has loaded the same file at the same address
+     *@throws IOException If the file can't be read, or doesn't fit below 0x10000
+     **/
+    public static hc11_RomImage load(File file, int address) throws IOException {
+        String path = file.getCanonicalPath();
+        String key = path + "@" + Integer.toHexString(address) + ":" + file.length() + ":" + file.lastModified();
+        hc11_RomImage image = loaded.get(key);
+        if(image == null){
+            byte[] bytes = new byte[(int)file.length()];
+            FileInputStream reader = new FileInputStream(file);
+            try{
+                int done = 0;
+                while(done < bytes.length){
+                    int read = reader.read(bytes, done, bytes.length - done);
+                    if(read < 0)
+                        throw new IOException("File got shorter while reading it: " + file);
+                    done += read;
+                }
+            }finally{
+                reader.close();
+            }
+            if(address < 0 || address + bytes.length > 0x10000)
+                throw new IOException(file + " doesn't fit at 0x" + Integer.toHexString(address));
+            //Drop older versions of the file, which nothing new will ask for
+            String prefix = path + "@" + Integer.toHexString(address) + ":";
+            for(String old : loaded.keySet()){
+                if(old.startsWith(prefix) && !old.equals(key))
+                    loaded.remove(old);
+            }
+            loaded.putIfAbsent(key, new hc11_RomImage(address, bytes));
+            image = loaded.get(key); //Whichever thread got there first
+        }
+        return image;
+    }
+    
+    /** Forget every image read so far. Boards already mapping one keep it. **/
+    public static void clearCache(){
+        loaded.clear();
+    }
+    
+    /** Get the address the image loads at **/
+    public int getAddress(){
+        return address;
+    }
+    
+    /** Get the length of the image in bytes **/
+    public int getLength(){
+        return bytes.length;
+    }
+    
+    /** Get a byte of the image, by its offset from the load address **/
+    public int get(int offset){
+        return bytes[offset] & 0xFF;
+    }
+    
+    /** Get the shared array for a page the image fills completely, or null if it doesn't. Never write to it. **/
+    byte[] page(int page){
+        return pages[page];
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * hc11_SCI.java
+ *
+ * Created on October 18, 2026
+ *
+ * The HC11's serial communications interface: BAUD, SCCR1, SCCR2, SCSR and SCDR. Each byte takes
+ * as many E cycles as the BAUD register says 10 or 11 bits take, and finishing one is an
+ * hc11_Device event, so the firmware sees the same timing it would on the chip. What it transmits
+ * goes to an hc11_SerialBridge, and what the bridge receives comes in at the same rate. The line
+ * has flow control, so received bytes wait in the bridge while RDRF is set instead of overrunning.
+ * Flags clear on the SCDR access alone, without the SCSR read the chip also wants first.
+ * Wake-up, break and the parity bit of 9-bit frames aren't modelled.
+ */
+
+package hc11emulator;
+
+public class hc11_SCI implements hc11_IOHandler, hc11_Event {
+    //Register offsets from the start of the register block
+    public static final int BAUD=0x2B, SCCR1=0x2C, SCCR2=0x2D, SCSR=0x2E, SCDR=0x2F;
+    //SCCR2 bits
+    public static final int TIE=0x80, TCIE=0x40, RIE=0x20, ILIE=0x10, TE=0x08, RE=0x04;
+    //SCSR bits
+    public static final int TDRE=0x80, TC=0x40, RDRF=0x20, IDLE=0x10, OR=0x08;
+    private static final int M=0x10; //SCCR1 bit for 9 data bits
+    private static final int[] PRESCALE = {1, 3, 4, 13}; //By the SCP1:SCP0 bits of BAUD
+    private static final int TRANSMIT=0, RECEIVE=1, FLUSH=2; //Event ids
+    private static final long FLUSH_CYCLES = 100000; //Longest a transmitted byte waits to be flushed to the bridge, 50ms at 2MHz
+    
+    private final hc11_Device device;
+    private final int base; //Address of the register block
+    private hc11_SerialBridge bridge;
+    private int baud, sccr1, sccr2, scsr;
+    private int tdr, rdr; //Transmit and receive data registers
+    private int shifting = -1; //Byte being transmitted, or -1 if the transmitter is idle
+    private boolean received; //Something came in since the line was last idle
+    private int receiving; //Handle of the scheduled RECEIVE event
+    private boolean listening, flushing; //A RECEIVE or FLUSH event is scheduled
+    private long transmitted; //Bytes sent since the SCI was made
+    
+    /** Creates the SCI, as it is out of reset, and maps its registers
+     *@param device The board it belongs to
+     *@param base Where the register block is mapped
+     **/
+    public hc11_SCI(hc11_Device device, int base) {
+        this.device = device;
+        this.base = base;
+        for(int address=base+BAUD; address<=base+SCDR; address++)
+            device.addIOHandler(address, this);
+        reset();
+    }
+    
+    /** Put every register back the way it is out of reset, for a board reset that has already
+     * thrown away the scheduled events. The bridge stays connected, and gets what was sent so far.
+     **/
+    public void reset(){
+        if(bridge != null)
+            bridge.flush();
+        baud = sccr1 = sccr2 = 0;
+        scsr = TDRE | TC;
+        shifting = -1;
+        received = listening = flushing = false;
+        for(int address=base+BAUD; address<=base+SCCR2; address++)
+            device.getMemoryMap().poke(address, 0);
+        refresh();
+    }
+    
+    /** Connect the SCI to the host. Call this on the emulator thread, or before it starts.
+     *@param bridge Where transmitted bytes go and received ones come from, or null for nowhere
+     **/
+    public void setBridge(hc11_SerialBridge bridge){
+        if(this.bridge != null)
+            this.bridge.flush();
+        this.bridge = bridge;
+        receiveNext(device.getCycles());
+    }
+    
+    public hc11_SerialBridge getBridge(){
+        return bridge;
+    }
+    
+    /** Get the number of bytes the firmware has transmitted **/
+    public long getTransmitted(){
+        return transmitted;
+    }
+    
+    /** Get the E cycles one byte takes at the current BAUD and SCCR1 settings **/
+    public long getByteCycles(){
+        int bits = (sccr1 & M) != 0 ? 11 : 10;
+        return (long)bits * 16 * PRESCALE[(baud >> 4) & 3] << (baud & 7);
+    }
+    
+    public int ioRead(int address){
+        switch(address - base){
+            case SCSR:
+                device.readWaitsForEvent(address); //Only an event or an SCDR access can change it
+                return scsr;
+            case SCDR:
+                scsr &= ~(RDRF | IDLE | OR);
+                refresh();
+                receiveNext(device.getCycles()); //Flow control lets the next byte through
+                return rdr;
+            default:
+                return device.getMemSilent(address);
+        }
+    }
+    
+    public void ioWrite(int address, int value){
+        switch(address - base){
+            case BAUD:
+                baud = value;
+                break;
+            case SCCR1:
+                sccr1 = value;
+                break;
+            case SCCR2:
+                int enabled = value & ~sccr2;
+                sccr2 = value;
+                if((enabled & TE) != 0 && (scsr & TDRE) == 0 && shifting < 0)
+                    transmitNext(device.getCycles());
+                receiveNext(device.getCycles());
+                break;
+            case SCDR:
+                tdr = value;
+                scsr &= ~(TDRE | TC);
+                if((sccr2 & TE) != 0 && shifting < 0)
+                    transmitNext(device.getCycles());
+                break;
+        }
+        refresh();
+    }
+    
+    public void eventFired(long cycle, int id){
+        if(id == TRANSMIT){
+            if(bridge != null){
+                bridge.write(shifting);
+                if(!flushing)
+                    device.scheduleEvent(cycle + FLUSH_CYCLES, this, FLUSH);
+                flushing = true;
+            }
+            transmitted++;
+            shifting = -1;
+            if((scsr & TDRE) == 0 && (sccr2 & TE) != 0)
+                transmitNext(cycle);
+            else
+                scsr |= TC;
+        }
+        else if(id == RECEIVE){
+            listening = false;
+            int value = bridge.read();
+            if(value >= 0){
+                rdr = value;
+                scsr |= RDRF;
+                received = true;
+            }
+            else if(received){
+                scsr |= IDLE; //A byte's worth of idle line after receiving something
+                received = false;
+            }
+            receiveNext(cycle);
+        }
+        else{
+            flushing = false;
+            if(bridge != null)
+                bridge.flush();
+        }
+        refresh();
+    }
+    
+    /** Move TDR into the shifter, and schedule the end of its frame
+     *@param cycle The cycle the frame starts on
+     **/
+    private void transmitNext(long cycle){
+        shifting = tdr;
+        scsr |= TDRE;
+        device.scheduleEvent(cycle + getByteCycles(), this, TRANSMIT);
+    }
+    
+    /** Schedule the next look at the bridge for a received byte, if the receiver can take one.
+     * A byte takes a frame to arrive, so there's one look per frame while the line is busy.
+     *@param cycle The cycle to count the frame from
+     **/
+    private void receiveNext(long cycle){
+        boolean listen = bridge != null && (sccr2 & RE) != 0 && (scsr & RDRF) == 0;
+        if(listen && !listening)
+            receiving = device.scheduleEvent(cycle + getByteCycles(), this, RECEIVE);
+        else if(!listen && listening)
+            device.cancelEvent(receiving);
+        listening = listen;
+    }
+    
+    /** Put the registers where the debugger can see them, and raise or withdraw the SCI interrupt **/
+    private void refresh(){
+        device.getMemoryMap().poke(base+SCSR, scsr);
+        device.getMemoryMap().poke(base+SCDR, rdr);
+        boolean pending = ((sccr2 & TIE) != 0 && (scsr & TDRE) != 0)
+                || ((sccr2 & TCIE) != 0 && (scsr & TC) != 0)
+                || ((sccr2 & RIE) != 0 && (scsr & (RDRF | OR)) != 0)
+                || ((sccr2 & ILIE) != 0 && (scsr & IDLE) != 0);
+        if(pending != device.isInterruptPending(hc11_Interrupts.SCI)){
+            if(pending)
+                device.raiseInterrupt(hc11_Interrupts.SCI);
+            else
+                device.clearInterrupt(hc11_Interrupts.SCI);
+        }
+    }
+}
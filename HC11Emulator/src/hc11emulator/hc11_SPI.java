@@ -0,0 +1,223 @@
+/*
+ * hc11_SPI.java
+ *
+ * Created on October 18, 2026
+ *
+ * The HC11's serial peripheral interface, as a master: SPCR, SPSR and SPDR. Writing SPDR swaps a
+ * byte with whichever hc11_SPISlaves have their chip select low, and the transfer takes 8 bits at the
+ * rate SPCR sets. Each chip select is watched with a write trap, so a slave sees every edge, however
+ * short the pulse. Like TCNT, the end of a transfer is worked out from the cycle counter when the
+ * firmware next looks, so a loop sending bytes back to back schedules no events at all. One is only
+ * scheduled when SPIE wants an interrupt. SPIF and WCOL clear on the SPDR access alone, without the
+ * SPSR read the chip also wants first. Slave mode and mode faults aren't modelled.
+ */
+
+package hc11emulator;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+
+public class hc11_SPI implements hc11_IOHandler, hc11_Event, hc11_ramTrapper {
+    //Register offsets from the start of the register block
+    public static final int SPCR=0x28, SPSR=0x29, SPDR=0x2A;
+    public static final int SPIE=0x80, SPE=0x40, MSTR=0x10; //SPCR bits
+    public static final int SPIF=0x80, WCOL=0x40, MODF=0x10; //SPSR bits
+    public static final int PORTD=0x08, SS=0x20; //PD5/SS, the chip select slaves get by default
+    private static final int[] DIVIDER = {2, 4, 16, 32}; //E cycles per bit, by the SPR1:SPR0 bits of SPCR
+    
+    private final hc11_Device device;
+    private final int base; //Address of the register block
+    private final ArrayList<Slave> slaves = new ArrayList<Slave>();
+    private int spcr, spsr, spdr;
+    private boolean busy; //A transfer is going
+    private long doneAt; //Cycle it finishes on
+    private int incoming; //What it will have received
+    private long transfers; //Bytes swapped since the SPI was made
+    
+    /** A slave and its chip select **/
+    private static class Slave {
+        final hc11_SPISlave slave;
+        final int address, mask; //Selected while this bit of this address is low
+        boolean selected;
+        
+        Slave(hc11_SPISlave slave, int address, int mask) {
+            this.slave = slave;
+            this.address = address;
+            this.mask = mask;
+        }
+    }
+    
+    /** Creates the SPI, as it is out of reset, and maps its registers
+     *@param device The board it belongs to
+     *@param base Where the register block is mapped
+     **/
+    public hc11_SPI(hc11_Device device, int base) {
+        this.device = device;
+        this.base = base;
+        for(int address=base+SPCR; address<=base+SPDR; address++)
+            device.addIOHandler(address, this);
+        reset();
+    }
+    
+    /** Put every register back the way it is out of reset, for a board reset that has already
+     * thrown away the scheduled events. A transfer that was going is lost. The slaves stay attached.
+     **/
+    public void reset(){
+        spcr = spsr = 0;
+        busy = false;
+        device.getMemoryMap().poke(base+SPCR, 0);
+        refresh();
+    }
+    
+    /** Put a slave on the bus. Call this on the emulator thread, or before it starts.
+     *@param slave The chip
+     *@param address Where its chip select is, usually a port register
+     *@param bit Which bit of it, 0-7. The slave is selected while it is 0.
+     **/
+    public void addSlave(hc11_SPISlave slave, int address, int bit){
+        boolean watched = false;
+        for(int i=0; i<slaves.size(); i++)
+            watched |= slaves.get(i).address == address;
+        slaves.add(new Slave(slave, address, 1 << bit));
+        if(!watched)
+            device.addTrap(address, this);
+        checkSelects();
+    }
+    
+    /** Put a slave on the bus from a description, like spi= in config.ini. The only kind so far is
+     * eeprom:file,size[,select address,select bit], a 25xx serial EEPROM kept in a file. The chip
+     * select defaults to PD5/SS.
+     *@throws IOException If the file can't be opened
+     *@throws IllegalArgumentException If the description doesn't make sense
+     **/
+    public void addSlave(String spec) throws IOException {
+        if(!spec.startsWith("eeprom:"))
+            throw new IllegalArgumentException("Unknown SPI slave: " + spec);
+        String[] args = spec.substring(7).split(",");
+        if(args.length != 2 && args.length != 4)
+            throw new IllegalArgumentException("Expected eeprom:file,size[,select address,select bit]: " + spec);
+        int address = args.length > 2 ? Integer.parseInt(args[2], 16) : base + PORTD;
+        int bit = args.length > 2 ? Integer.parseInt(args[3]) : 5;
+        addSlave(new hc11_SPIEeprom(device, new File(args[0]), Integer.parseInt(args[1])), address, bit);
+    }
+    
+    /** Get the number of bytes the firmware has transferred **/
+    public long getTransfers(){
+        return transfers;
+    }
+    
+    /** Get the E cycles one byte takes at the current SPCR setting **/
+    public int getByteCycles(){
+        return 8 * DIVIDER[spcr & 3];
+    }
+    
+    public int ioRead(int address){
+        finishTransfer();
+        switch(address - base){
+            case SPSR:
+                device.readWaitsUntil(address, busy ? doneAt : Long.MAX_VALUE);
+                return spsr;
+            case SPDR:
+                spsr &= ~(SPIF | WCOL);
+                refresh();
+                return spdr;
+            default:
+                return spcr;
+        }
+    }
+    
+    public void ioWrite(int address, int value){
+        finishTransfer();
+        switch(address - base){
+            case SPCR:
+                if((value & ~spcr & SPIE) != 0 && busy)
+                    device.scheduleEvent(doneAt, this, 0); //Interrupts turned on mid-transfer
+                spcr = value;
+                break;
+            case SPDR:
+                if(busy)
+                    spsr |= WCOL; //Too soon. The byte is lost.
+                else{
+                    spsr &= ~(SPIF | WCOL);
+                    if((spcr & (SPE | MSTR)) == (SPE | MSTR))
+                        startTransfer(value);
+                }
+                break;
+        }
+        refresh();
+    }
+    
+    /** Only scheduled for SPIE, to raise the interrupt on time **/
+    public void eventFired(long cycle, int id){
+        finishTransfer();
+        refresh();
+    }
+    
+    /** A chip select was written **/
+    public void writeTrap(int trapaddr, int instraddr){
+        checkSelects();
+    }
+    
+    public void readTrap(int trapaddr, int instraddr){
+    }
+    
+    /** Chip selects only change which slaves are listening **/
+    public boolean canStop(){
+        return false;
+    }
+    
+    /** Swap a byte with the selected slaves straight away, and work out when the transfer ends.
+     * MISO floats high, so with nothing selected the master reads 0xFF.
+     **/
+    private void startTransfer(int value){
+        checkSelects();
+        incoming = 0xFF;
+        for(int i=0; i<slaves.size(); i++){
+            Slave slave = slaves.get(i);
+            if(slave.selected)
+                incoming &= slave.slave.transfer(value);
+        }
+        busy = true;
+        doneAt = device.getCycles() + getByteCycles();
+        transfers++;
+        if((spcr & SPIE) != 0)
+            device.scheduleEvent(doneAt, this, 0);
+    }
+    
+    /** Finish the transfer in progress, if the cycle counter has got to the end of it **/
+    private void finishTransfer(){
+        if(busy && device.getCycles() >= doneAt){
+            busy = false;
+            spdr = incoming;
+            spsr |= SPIF;
+        }
+    }
+    
+    /** Tell the slaves about any chip select that has changed. Writes the trap can't see, like the
+     * debugger's, are caught up with here at the start of the next transfer.
+     **/
+    private void checkSelects(){
+        for(int i=0; i<slaves.size(); i++){
+            Slave slave = slaves.get(i);
+            boolean selected = (device.getMemSilent(slave.address) & slave.mask) == 0;
+            if(selected != slave.selected){
+                slave.selected = selected;
+                slave.slave.select(selected);
+            }
+        }
+    }
+    
+    /** Put the registers where the debugger can see them, and raise or withdraw the SPI interrupt **/
+    private void refresh(){
+        device.getMemoryMap().poke(base+SPSR, spsr);
+        device.getMemoryMap().poke(base+SPDR, spdr);
+        boolean pending = (spcr & SPIE) != 0 && (spsr & (SPIF | MODF)) != 0;
+        if(pending != device.isInterruptPending(hc11_Interrupts.SPI)){
+            if(pending)
+                device.raiseInterrupt(hc11_Interrupts.SPI);
+            else
+                device.clearInterrupt(hc11_Interrupts.SPI);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * hc11_SPIEeprom.java
+ *
+ * Created on October 18, 2026
+ *
+ * A 25xx-style serial EEPROM, as an hc11_SPISlave. The contents are a file mapped into memory, so
+ * the firmware's writes land in the file without the emulator ever copying or saving it. It knows
+ * READ, WRITE, RDSR, WREN and WRDI. A write collects up to a page of bytes and commits them when the
+ * chip select goes high, after which the chip is busy for WRITE_CYCLES of the board's cycle counter
+ * and ignores everything but RDSR. Block protection isn't modelled, so WRSR does nothing.
+ */
+
+package hc11emulator;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+public class hc11_SPIEeprom implements hc11_SPISlave {
+    //Commands
+    public static final int WRSR=0x01, WRITE=0x02, READ=0x03, WRDI=0x04, RDSR=0x05, WREN=0x06;
+    public static final int WIP=0x01, WEL=0x02; //Status bits
+    public static final int PAGE=32; //Bytes one write can take, like the 25LC640
+    public static final long WRITE_CYCLES=10000; //How long a write keeps the chip busy, 5ms at 2MHz
+    private static final int COMMAND=0, ADDRESS=1, READING=2, WRITING=3, STATUS=4, IGNORE=5; //States
+    
+    private final hc11_Device device; //For its cycle counter
+    private final MappedByteBuffer memory;
+    private final int size, addressBytes;
+    private int state = IGNORE; //Until the chip is selected
+    private int command, address, count;
+    private boolean enabled; //WEL, the write enable latch
+    private long busyUntil; //Cycle the last write finishes on
+    private final byte[] page = new byte[PAGE]; //Bytes waiting for the chip select to go high
+    private final boolean[] loaded = new boolean[PAGE];
+    private boolean written; //Something is in the page
+    
+    /** Map an EEPROM file, making it if it isn't there. New bytes read as 0xFF, like an erased chip.
+     *@param device The board, for its cycle counter
+     *@param file The file holding the contents
+     *@param size Bytes in the chip. Up to 256 take 1 address byte, up to 64K take 2, bigger ones 3.
+     *@throws IOException If the file can't be opened or mapped
+     **/
+    public hc11_SPIEeprom(hc11_Device device, File file, int size) throws IOException {
+        if(size <= 0 || size > 1<<24)
+            throw new IllegalArgumentException("EEPROM size out of range: " + size);
+        this.device = device;
+        this.size = size;
+        addressBytes = size <= 256 ? 1 : size <= 65536 ? 2 : 3;
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try{
+            long length = raf.length();
+            memory = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, size); //Grows the file to size
+            for(long i=length; i<size; i++)
+                memory.put((int)i, (byte)0xFF);
+        }finally{
+            raf.close(); //The mapping stays valid
+        }
+    }
+    
+    public void select(boolean selected){
+        if(selected){
+            state = COMMAND;
+            return;
+        }
+        if(state == WRITING && written){
+            for(int i=0; i<PAGE; i++){
+                int at = (address & ~(PAGE-1)) + i;
+                if(loaded[i] && at < size)
+                    memory.put(at, page[i]);
+                loaded[i] = false;
+            }
+            busyUntil = device.getCycles() + WRITE_CYCLES;
+            enabled = false; //A write turns WEL off when it starts
+        }
+        written = false;
+        state = IGNORE;
+    }
+    
+    public int transfer(int value){
+        switch(state){
+            case COMMAND:
+                command = value;
+                state = IGNORE;
+                if(value == RDSR)
+                    state = STATUS;
+                else if(isBusy())
+                    break; //Nothing else works during a write
+                else if(value == WREN)
+                    enabled = true;
+                else if(value == WRDI)
+                    enabled = false;
+                else if(value == READ || (value == WRITE && enabled)){
+                    state = ADDRESS;
+                    address = 0;
+                    count = addressBytes;
+                }
+                break;
+            case ADDRESS:
+                address = ((address << 8) | value) & 0xFFFFFF;
+                if(--count == 0){
+                    address %= size; //High address bits the chip doesn't have are ignored
+                    state = command == READ ? READING : WRITING;
+                }
+                break;
+            case READING:
+                int data = memory.get(address) & 0xFF;
+                address = (address + 1) % size;
+                return data;
+            case WRITING:
+                int at = address & (PAGE-1); //Wraps around within the page
+                page[at] = (byte)value;
+                loaded[at] = true;
+                written = true;
+                address = (address & ~(PAGE-1)) | ((at + 1) & (PAGE-1));
+                break;
+            case STATUS:
+                return (isBusy() ? WIP : 0) | (enabled ? WEL : 0);
+        }
+        return 0xFF;
+    }
+    
+    /** Check if a write is still going **/
+    public boolean isBusy(){
+        return device.getCycles() < busyUntil;
+    }
+    
+    /** Write the contents out to the file now, instead of whenever the OS gets to it **/
+    public void force(){
+        memory.force();
+    }
+}
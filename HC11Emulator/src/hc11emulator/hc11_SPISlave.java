@@ -0,0 +1,23 @@
+/*
+ * hc11_SPISlave.java
+ *
+ * Created on October 18, 2026
+ *
+ * A chip on the SPI bus, like a serial EEPROM or a shift register. Attach it with
+ * hc11_SPI.addSlave(), along with the port bit that is its chip select.
+ */
+
+package hc11emulator;
+
+public interface hc11_SPISlave {
+    /** Called when the chip select changes, as the instruction that changes it runs
+     *@param selected True when the chip select has gone low
+     **/
+    public void select(boolean selected);
+    
+    /** Swap a byte with the master, while selected
+     *@param value The byte on MOSI
+     *@return The byte to put on MISO
+     **/
+    public int transfer(int value);
+}
@@ -0,0 +1,287 @@
+/*
+ * hc11_SerialBridge.java
+ *
+ * Created on October 18, 2026
+ *
+ * Connects the SCI to something on the host: stdin and stdout, files, named pipes, or a TCP port on
+ * localhost that a terminal can connect to. The emulator thread never touches the host itself.
+ * Transmitted bytes are collected in direct buffers, and a full or flushed buffer is handed to a
+ * writer thread, so a chatty firmware costs one write per buffer instead of one per byte. If the host
+ * falls so far behind that every buffer is waiting, transmitted bytes are dropped and counted, and
+ * the emulator never waits for it. A reader thread fills a ring buffer that the SCI takes received
+ * bytes from.
+ */
+
+package hc11emulator;
+
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+public class hc11_SerialBridge {
+    private static final int BUFFER=4096, BUFFERS=16; //Size and number of the transmit buffers
+    private static final int INPUT=1<<16; //Size of the receive ring. A power of 2.
+    private static final ByteBuffer END = ByteBuffer.allocate(0); //Tells the writer thread to stop
+    
+    private final String description;
+    private final ArrayBlockingQueue<ByteBuffer> full, free; //Buffers waiting to be written, and written ones to reuse
+    private ByteBuffer out; //Being filled by the emulator thread
+    private final byte[] input = new byte[INPUT]; //Received bytes. The reader thread adds at tail, the SCI takes at head.
+    private volatile int head, tail;
+    private volatile WritableByteChannel sink; //Where the writer thread writes, once it's open
+    private boolean ownsSink = true; //False for stdout, which stays open when the bridge closes
+    private ServerSocketChannel server; //For tcp:, the port listening on localhost
+    private volatile boolean closed;
+    private final AtomicLong dropped = new AtomicLong(); //Transmitted bytes nothing could take
+    private Thread reader, writer;
+    
+    private hc11_SerialBridge(String description) {
+        this.description = description;
+        full = new ArrayBlockingQueue<ByteBuffer>(BUFFERS+1);
+        free = new ArrayBlockingQueue<ByteBuffer>(BUFFERS);
+        for(int i=0; i<BUFFERS; i++)
+            free.add(ByteBuffer.allocateDirect(BUFFER));
+    }
+    
+    /** Open a bridge. The spec is one of:
+     * stdio - stdin and stdout.
+     * file:out[,in] - transmit into a file, and optionally receive the bytes of another.
+     * pipe:out[,in] - the same, with named pipes. They're opened on the bridge's own threads,
+     * since opening a pipe waits for the other end.
+     * tcp:port - listen on localhost. One client at a time gets the transmitted bytes, and
+     * sends the received ones. Bytes transmitted while nobody is connected are dropped.
+     *@throws IOException If a file can't be created or the port can't be listened on
+     *@throws IllegalArgumentException If the spec isn't one of these
+     **/
+    public static hc11_SerialBridge open(String spec) throws IOException {
+        hc11_SerialBridge bridge = new hc11_SerialBridge(spec);
+        if(spec.equals("stdio")){
+            bridge.ownsSink = false;
+            bridge.start(Channels.newChannel(System.in), new FileOutputStream(FileDescriptor.out).getChannel());
+        }
+        else if(spec.startsWith("file:")){
+            String[] files = spec.substring(5).split(",");
+            bridge.start(files.length > 1 ? new FileInputStream(files[1]).getChannel() : null,
+                    new FileOutputStream(files[0]).getChannel());
+        }
+        else if(spec.startsWith("pipe:")){
+            bridge.startPipes(spec.substring(5).split(","));
+        }
+        else if(spec.startsWith("tcp:")){
+            bridge.server = ServerSocketChannel.open();
+            bridge.server.socket().setReuseAddress(true);
+            bridge.server.socket().bind(new InetSocketAddress(InetAddress.getLoopbackAddress(),
+                    Integer.parseInt(spec.substring(4))));
+            bridge.startServer();
+        }
+        else
+            throw new IllegalArgumentException("Unknown serial bridge: " + spec);
+        return bridge;
+    }
+    
+    /** Start the threads for channels that are already open **/
+    private void start(final ReadableByteChannel in, WritableByteChannel out){
+        sink = out;
+        startWriter(null);
+        if(in != null){
+            startReader(new Runnable() {
+                public void run() {
+                    receive(in);
+                }
+            });
+        }
+    }
+    
+    /** Start the threads for named pipes. Each one opens its own, since that waits for the other end. **/
+    private void startPipes(final String[] pipes){
+        startWriter(pipes[0]);
+        if(pipes.length > 1){
+            startReader(new Runnable() {
+                public void run() {
+                    try{
+                        receive(new FileInputStream(pipes[1]).getChannel());
+                    }catch(IOException e){
+                        System.out.println("Serial bridge " + description + ": " + e.getMessage());
+                    }
+                }
+            });
+        }
+    }
+    
+    /** Start a reader thread that takes one client at a time, and makes it the sink too **/
+    private void startServer(){
+        ownsSink = false; //The reader closes each client
+        startWriter(null);
+        startReader(new Runnable() {
+            public void run() {
+                while(!closed){
+                    try{
+                        SocketChannel client = server.accept();
+                        client.socket().setTcpNoDelay(true);
+                        sink = client;
+                        receive(client);
+                        sink = null;
+                        client.close();
+                    }catch(IOException e){
+                        if(!closed)
+                            System.out.println("Serial bridge " + description + ": " + e.getMessage());
+                        return;
+                    }
+                }
+            }
+        });
+    }
+    
+    private void startReader(Runnable task){
+        reader = new Thread(task, "SCI reader");
+        reader.setDaemon(true);
+        reader.start();
+    }
+    
+    /** Start the writer thread
+     *@param pipe A named pipe for it to open first, or null if the sink is already set
+     **/
+    private void startWriter(final String pipe){
+        writer = new Thread(new Runnable() {
+            public void run() {
+                if(pipe != null){
+                    try{
+                        sink = new FileOutputStream(pipe).getChannel();
+                    }catch(IOException e){
+                        System.out.println("Serial bridge " + description + ": " + e.getMessage());
+                    }
+                }
+                drain();
+            }
+        }, "SCI writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+    
+    /** Reader thread. Copy bytes from a channel into the ring until it ends. **/
+    private void receive(ReadableByteChannel in){
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER);
+        try{
+            while(!closed && in.read(buffer) >= 0){
+                buffer.flip();
+                while(buffer.hasRemaining()){
+                    while(((tail + 1) & (INPUT-1)) == head && !closed)
+                        LockSupport.parkNanos(1000000); //Full. Wait for the firmware to take some.
+                    input[tail] = buffer.get();
+                    tail = (tail + 1) & (INPUT-1);
+                }
+                buffer.clear();
+            }
+        }catch(IOException e){
+            if(!closed && server == null)
+                System.out.println("Serial bridge " + description + ": " + e.getMessage());
+        }
+    }
+    
+    /** Writer thread. Write each full buffer to the sink, and give it back. **/
+    private void drain(){
+        try{
+            while(true){
+                ByteBuffer buffer = full.take();
+                if(buffer == END)
+                    break;
+                WritableByteChannel channel = sink;
+                try{
+                    if(channel == null)
+                        dropped.addAndGet(buffer.remaining());
+                    else
+                        while(buffer.hasRemaining())
+                            channel.write(buffer);
+                }catch(IOException e){
+                    dropped.addAndGet(buffer.remaining()); //A client that went away, or a full disk
+                }
+                buffer.clear();
+                free.add(buffer);
+            }
+            if(sink != null && ownsSink)
+                sink.close();
+        }catch(InterruptedException e){
+        }catch(IOException e){
+        }
+    }
+    
+    /** Take the next received byte. Call this on the emulator thread.
+     *@return The byte, or -1 if nothing has come in
+     **/
+    public int read(){
+        int at = head;
+        if(at == tail)
+            return -1;
+        int value = input[at] & 0xFF;
+        head = (at + 1) & (INPUT-1);
+        return value;
+    }
+    
+    /** Send a byte. It's only buffered until the buffer fills or flush() is called. Call this on the emulator thread.
+     * If every buffer is still waiting to be written, the byte is dropped and counted, like an overrun.
+     **/
+    public void write(int value){
+        if(out == null){
+            out = free.poll();
+            if(out == null){
+                dropped.incrementAndGet(); //The host is behind. Never hold up the emulator for it.
+                return;
+            }
+        }
+        out.put((byte)value);
+        if(!out.hasRemaining())
+            flush();
+    }
+    
+    /** Hand what has been sent so far to the writer thread. Call this on the emulator thread. **/
+    public void flush(){
+        if(out != null && out.position() > 0){
+            out.flip();
+            full.add(out);
+            out = null;
+        }
+    }
+    
+    /** Flush, wait a second at most for the writer to finish, and close everything. Says how many
+     * transmitted bytes were dropped, if any were.
+     **/
+    public void close(){
+        flush();
+        full.add(END);
+        try{
+            writer.join(1000);
+        }catch(InterruptedException e){
+        }
+        closed = true;
+        if(dropped.get() > 0)
+            System.out.println("Serial bridge " + description + ": " + dropped.get() + " transmitted bytes dropped");
+        try{
+            if(server != null)
+                server.close();
+            if(sink != null && server != null)
+                sink.close();
+        }catch(IOException e){
+        }
+    }
+    
+    /** Get the number of transmitted bytes lost because nothing was connected, or the host fell behind **/
+    public long getDropped(){
+        return dropped.get();
+    }
+    
+    public String toString(){
+        return description;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * hc11_Snapshot.java
+ *
+ * Created on October 18, 2026
+ *
+ * The state of an hc11_Device at the end of a frame, as hc11_Observers see it. The emulator thread
+ * takes one each frame and hands the same one to every observer on the Swing event thread, so it never
+ * changes once made. Only the memory pages some observer watches are copied, which keeps it cheap.
+ */
+
+package hc11emulator;
+
+public final class hc11_Snapshot {
+    private final long cycles;
+    private final int pc, sp, x, y, d, ccr;
+    private final boolean idle;
+    private final byte[][] pages; //Copies of the watched pages. Null for the rest.
+    
+    /** Take a snapshot of a device. Emulator thread only.
+     *@param device The device to copy
+     *@param watched Which memory pages to copy
+     **/
+    hc11_Snapshot(hc11_Device device, boolean[] watched) {
+        cycles = device.getCycles();
+        pc = device.getPC();
+        sp = device.getSP();
+        x = device.getX();
+        y = device.getY();
+        d = device.getD();
+        ccr = device.getIntCCR();
+        idle = device.isIdle();
+        pages = new byte[hc11_MemoryMap.PAGES][];
+        byte[][] data = device.memory.data;
+        for(int page=0; page<hc11_MemoryMap.PAGES; page++){
+            if(watched[page])
+                pages[page] = data[page].clone();
+        }
+    }
+    
+    public long getCycles(){
+        return cycles;
+    }
+    
+    public int getPC(){
+        return pc;
+    }
+    
+    public int getSP(){
+        return sp;
+    }
+    
+    public int getX(){
+        return x;
+    }
+    
+    public int getY(){
+        return y;
+    }
+    
+    public int getD(){
+        return d;
+    }
+    
+    public int getA(){
+        return d >> 8;
+    }
+    
+    public int getB(){
+        return d & 0xFF;
+    }
+    
+    public int getCCR(){
+        return ccr;
+    }
+    
+    /** Check if the CPU was sitting in WAI or STOP **/
+    public boolean isIdle(){
+        return idle;
+    }
+    
+    /** Check if the snapshot has a copy of an address. It does for every address an observer watches. **/
+    public boolean hasMem(int addr){
+        return pages[(addr >> 8) & 0xFF] != null;
+    }
+    
+    /** Get a byte of memory as it was when the snapshot was taken. Reading it has no side effects.
+     *@param addr An address some observer watches
+     *@return The value at that address
+     **/
+    public int getMem(int addr){
+        byte[] page = pages[(addr >> 8) & 0xFF];
+        if(page == null)
+            throw new IllegalArgumentException("Address 0x" + Integer.toHexString(addr) + " is not watched");
+        return page[addr & 0xFF] & 0xFF;
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * hc11_Timer.java
+ *
+ * Created on October 18, 2026
+ *
+ * The HC11's main timer: the free-running counter TCNT and its prescaler, the five output compares,
+ * the three input captures, and the flag and mask registers that go with them. Nothing here ticks.
+ * TCNT is worked out from the cycle counter whenever it is read, and each output compare match and
+ * the overflow are hc11_Device events, scheduled for the cycle the counter gets there, and so is each
+ * real-time interrupt tick, every 2^13 E cycles times the RTR rate in PACTL. The pins the
+ * output compares drive aren't modelled, so TCTL1, OC1M, OC1D and CFORC just hold what is written.
+ */
+
+package hc11emulator;
+
+import java.util.Arrays;
+
+public class hc11_Timer implements hc11_IOHandler, hc11_Event {
+    //Register offsets from the start of the register block
+    public static final int CFORC=0x0B, OC1M=0x0C, OC1D=0x0D, TCNT=0x0E, TIC1=0x10, TOC1=0x16,
+            TCTL1=0x20, TCTL2=0x21, TMSK1=0x22, TFLG1=0x23, TMSK2=0x24, TFLG2=0x25, PACTL=0x26;
+    public static final int OUTPUT_COMPARES=5, INPUT_CAPTURES=3;
+    public static final int TOF=0x80, RTIF=0x40; //Overflow and real-time interrupt bits of TMSK2 and TFLG2
+    public static final int RTI_CYCLES=1<<13; //E cycles per real-time interrupt at the fastest RTR rate
+    private static final int[] PRESCALE = {1, 4, 8, 16}; //E cycles per count, by the PR1:PR0 bits of TMSK2
+    private static final int OVERFLOW=OUTPUT_COMPARES, RTI=OUTPUT_COMPARES+1; //Event ids of the overflow and RTI. The compares use 0-4.
+    
+    private final hc11_Device device;
+    private final int base; //Address of the register block
+    private long origin; //Cycle the counter would have been 0 on, at the current prescaler
+    private int prescale = 1;
+    private long rtiOrigin; //Cycle the real-time interrupt divider started from
+    private final int[] compare = new int[OUTPUT_COMPARES]; //TOC1-TOC5
+    private final int[] capture = new int[INPUT_CAPTURES]; //TIC1-TIC3
+    private final int[] handles = new int[OUTPUT_COMPARES+2]; //Last event scheduled for each compare, the overflow and RTI, or NONE
+    private int tmsk1, tflg1, tmsk2, tflg2, pactl;
+    
+    /** Creates the timer, as it is out of reset, and maps its registers
+     *@param device The board it belongs to
+     *@param base Where the register block is mapped, 0x1000 unless INIT moves it
+     **/
+    public hc11_Timer(hc11_Device device, int base) {
+        this.device = device;
+        this.base = base;
+        for(int address=base+CFORC; address<=base+PACTL; address++)
+            device.addIOHandler(address, this);
+        Arrays.fill(handles, hc11_EventQueue.NONE);
+        reset();
+    }
+    
+    /** Put every register back the way it is out of reset, and start counting from now **/
+    public void reset(){
+        origin = device.getCycles();
+        rtiOrigin = origin;
+        prescale = 1;
+        for(int address=base+CFORC; address<=base+PACTL; address++)
+            device.getMemoryMap().poke(address, 0); //Forget what the program wrote
+        for(int i=0; i<OUTPUT_COMPARES; i++){
+            compare[i] = 0xFFFF;
+            device.getMemoryMap().poke(base+TOC1+2*i, 0xFF);
+            device.getMemoryMap().poke(base+TOC1+2*i+1, 0xFF);
+        }
+        for(int i=0; i<INPUT_CAPTURES; i++)
+            capture[i] = 0xFFFF; //Really undefined out of reset
+        tmsk1 = tflg1 = tmsk2 = tflg2 = pactl = 0;
+        schedule(); //Replaces every event, along with scheduleRTI()
+        scheduleRTI(origin);
+        refresh();
+    }
+    
+    /** Get the counter's value right now **/
+    public int getCount(){
+        return (int)(tick(device.getCycles()) & 0xFFFF);
+    }
+    
+    /** Get the number of E cycles per count **/
+    public int getPrescale(){
+        return prescale;
+    }
+    
+    /** Get the number of E cycles between real-time interrupts, at the current RTR rate **/
+    public int getRTIPeriod(){
+        return RTI_CYCLES << (pactl & 3);
+    }
+    
+    /** Latch the counter into an input capture register and set its flag, as if the edge TCTL2 asks
+     * for had just come in on its pin. The ports call this when they see one.
+     *@param channel 0-2 for IC1-IC3
+     **/
+    public void capture(int channel){
+        capture[channel] = getCount();
+        tflg1 |= 0x04 >> channel;
+        refresh();
+    }
+    
+    public int ioRead(int address){
+        int register = address - base;
+        switch(register){
+            case TCNT:
+                return getCount() >> 8;
+            case TCNT+1:
+                return getCount() & 0xFF;
+            case TFLG1:
+            case TFLG2:
+                device.readWaitsForEvent(address); //Only an event or a write can change these
+                return register == TFLG1 ? tflg1 : tflg2;
+            default:
+                return device.getMemSilent(address); //Holds whatever we last put there
+        }
+    }
+    
+    public void ioWrite(int address, int value){
+        int register = address - base;
+        if(register >= TOC1 && register < TOC1 + 2*OUTPUT_COMPARES){
+            int channel = (register - TOC1) >> 1;
+            if((register & 1) == 0)
+                compare[channel] = (value << 8) | (compare[channel] & 0xFF);
+            else
+                compare[channel] = (compare[channel] & 0xFF00) | value;
+            reschedule(channel, compare[channel]);
+        }
+        else if(register == TMSK1)
+            tmsk1 = value;
+        else if(register == TFLG1)
+            tflg1 &= ~value; //Flags are cleared by writing 1s to them
+        else if(register == TMSK2){
+            tmsk2 = value;
+            setPrescale(PRESCALE[value & 3]);
+        }
+        else if(register == TFLG2)
+            tflg2 &= ~value;
+        else if(register == PACTL){
+            int rate = (value ^ pactl) & 3;
+            pactl = value;
+            if(rate != 0)
+                scheduleRTI(device.getCycles());
+        }
+        refresh();
+    }
+    
+    public void eventFired(long cycle, int id){
+        if(id == OVERFLOW){
+            tflg2 |= TOF;
+            reschedule(OVERFLOW, 0, cycle);
+        }
+        else if(id == RTI){
+            tflg2 |= RTIF;
+            scheduleRTI(cycle);
+        }
+        else{
+            tflg1 |= 0x80 >> id;
+            reschedule(id, compare[id], cycle);
+        }
+        refresh();
+    }
+    
+    /** Change the prescaler, keeping the count where it is. Real chips only let the program do this
+     * in the first 64 cycles out of reset, but the emulator can be started with firmware anywhere.
+     **/
+    private void setPrescale(int prescale){
+        if(prescale == this.prescale)
+            return;
+        long now = device.getCycles();
+        long count = tick(now);
+        this.prescale = prescale;
+        origin = now - count*prescale;
+        schedule();
+    }
+    
+    /** The number of counts since the counter's origin, at a cycle **/
+    private long tick(long cycle){
+        return (cycle - origin) / prescale;
+    }
+    
+    /** Schedule every compare and the overflow again, after the prescaler changed **/
+    private void schedule(){
+        for(int i=0; i<OUTPUT_COMPARES; i++)
+            reschedule(i, compare[i]);
+        reschedule(OVERFLOW, 0);
+    }
+    
+    /** Schedule the next real-time interrupt tick after a cycle. The divider runs on from reset,
+     * so changing the rate moves the next tick to the next multiple of the new period.
+     **/
+    private void scheduleRTI(long after){
+        device.cancelEvent(handles[RTI]);
+        int period = getRTIPeriod();
+        handles[RTI] = device.scheduleEvent(rtiOrigin + ((after - rtiOrigin) / period + 1) * period, this, RTI);
+    }
+    
+    private void reschedule(int id, int value){
+        reschedule(id, value, device.getCycles());
+    }
+    
+    /** Schedule an event for the next time the counter changes to a value, after a given cycle. A
+     * compare written with the count it already has waits for the counter to come all the way around.
+     *@param id The compare channel, or OVERFLOW
+     *@param value The count to match
+     *@param after The cycle to look from
+     **/
+    private void reschedule(int id, int value, long after){
+        device.cancelEvent(handles[id]); //Does nothing if it already fired, or is NONE
+        long now = tick(after);
+        long next = now + ((value - now) & 0xFFFF);
+        if(next == now)
+            next += 0x10000;
+        handles[id] = device.scheduleEvent(origin + next*prescale, this, id);
+    }
+    
+    /** Put the flags where the debugger can see them, and raise or withdraw each interrupt **/
+    private void refresh(){
+        device.getMemoryMap().poke(base+TFLG1, tflg1);
+        device.getMemoryMap().poke(base+TFLG2, tflg2);
+        for(int i=0; i<INPUT_CAPTURES; i++){
+            device.getMemoryMap().poke(base+TIC1+2*i, capture[i] >> 8);
+            device.getMemoryMap().poke(base+TIC1+2*i+1, capture[i] & 0xFF);
+        }
+        int pending = tflg1 & tmsk1;
+        for(int i=0; i<OUTPUT_COMPARES; i++)
+            request(hc11_Interrupts.TOC1+i, (pending & (0x80 >> i)) != 0);
+        for(int i=0; i<INPUT_CAPTURES; i++)
+            request(hc11_Interrupts.TIC1+i, (pending & (0x04 >> i)) != 0);
+        request(hc11_Interrupts.TOF, (tflg2 & tmsk2 & TOF) != 0);
+        request(hc11_Interrupts.RTI, (tflg2 & tmsk2 & RTIF) != 0);
+    }
+    
+    private void request(int source, boolean on){
+        if(on != device.isInterruptPending(source)){
+            if(on)
+                device.raiseInterrupt(source);
+            else
+                device.clearInterrupt(source);
+        }
+    }
+}
@@ -0,0 +1,306 @@
+/*
+ * hc11_TrapIndex.java
+ *
+ * Created on October 18, 2026
+ *
+ * The memory traps set on a device, indexed by address. One bit per address says whether anything
+ * is trapped there, so an untrapped access costs a single bit test however many traps are set.
+ * The trappers themselves are kept in an array per address, in the order they were added, and
+ * those arrays are only allocated for pages that have a trap on them. Range and mask traps set the
+ * bits of every address they cover, and are listed on each page they touch, so finding the ones
+ * that cover an address only looks at that page's list, however many are set elsewhere.
+ * Nothing here is synchronized. Only the thread running the board may change the traps, so other
+ * threads post their changes to it with hc11_thread.invoke().
+ */
+
+package hc11emulator;
+
+import java.util.ArrayList;
+
+public class hc11_TrapIndex {
+    final int[] bits; //One bit per address, set while it has a trap
+    private final hc11_ramTrapper[][][] trappers; //By page, then by address within the page
+    private final Region[][] pageRegions; //Range and mask traps touching each page. Null for none.
+    private final ArrayList<Region> regions; //Every range and mask trap, in the order they were added
+    private int count; //Traps set
+    
+    /** A range or mask trap. It covers the addresses from start to end that match under the mask. **/
+    private static class Region {
+        final int start, end, mask, match;
+        final hc11_ramTrapper trapper;
+        
+        Region(int start, int end, int mask, int match, hc11_ramTrapper trapper){
+            if(start < 0 || end > 0xFFFF || start > end)
+                throw new IllegalArgumentException("Bad trap range: " + Integer.toHexString(start) + "-" + Integer.toHexString(end));
+            this.start = start;
+            this.end = end;
+            this.mask = mask;
+            this.match = match & mask;
+            this.trapper = trapper;
+        }
+        
+        boolean covers(int address){
+            return address >= start && address <= end && (address & mask) == match;
+        }
+        
+        boolean same(int start, int end, int mask, int match, hc11_ramTrapper trapper){
+            return this.start == start && this.end == end && this.mask == mask
+                    && this.match == (match & mask) && this.trapper == trapper;
+        }
+    }
+    
+    /** Creates a new, empty trap index **/
+    public hc11_TrapIndex() {
+        bits = new int[0x10000 >> 5];
+        trappers = new hc11_ramTrapper[0x100][][];
+        pageRegions = new Region[0x100][];
+        regions = new ArrayList<Region>();
+    }
+    
+    /** Add a trap. The same trapper can be added more than once, and then it is called more than once. **/
+    public void add(int address, hc11_ramTrapper trapper){
+        int page = address >> 8;
+        if(trappers[page] == null)
+            trappers[page] = new hc11_ramTrapper[0x100][];
+        hc11_ramTrapper[] old = trappers[page][address & 0xFF];
+        int size = old == null ? 0 : old.length;
+        hc11_ramTrapper[] list = new hc11_ramTrapper[size + 1];
+        for(int i=0; i<size; i++)
+            list[i] = old[i];
+        list[size] = trapper;
+        trappers[page][address & 0xFF] = list; //Replaced whole, so the emulator thread never sees half of it
+        bits[address >> 5] |= 1 << address;
+        count++;
+    }
+    
+    /** Remove one trap a trapper has on an address
+     *@return True if there was one to remove
+     **/
+    public boolean remove(int address, hc11_ramTrapper trapper){
+        hc11_ramTrapper[] list = get(address);
+        if(list == null)
+            return false;
+        for(int i=0; i<list.length; i++){
+            if(list[i] == trapper){
+                hc11_ramTrapper[] shorter = new hc11_ramTrapper[list.length - 1];
+                for(int j=0, k=0; j<list.length; j++)
+                    if(j != i)
+                        shorter[k++] = list[j];
+                set(address, shorter);
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /** Remove every trap on an address
+     *@return The number of traps removed
+     **/
+    public int removeAll(int address){
+        hc11_ramTrapper[] list = get(address);
+        if(list == null)
+            return 0;
+        set(address, new hc11_ramTrapper[0]);
+        return list.length;
+    }
+    
+    /** Add a trap on every address from start to end, inclusive **/
+    public void addRange(int start, int end, hc11_ramTrapper trapper){
+        addRegion(new Region(start, end, 0, 0, trapper));
+    }
+    
+    /** Add a trap on every address that matches an address in the bits that are set in a mask.
+     * For example, address 0x1000 and mask 0xF000 traps 0x1000-0x1FFF.
+     **/
+    public void addMask(int address, int mask, hc11_ramTrapper trapper){
+        addRegion(new Region(0, 0xFFFF, mask, address, trapper));
+    }
+    
+    /** Remove a range trap added by addRange()
+     *@return True if there was one to remove
+     **/
+    public boolean removeRange(int start, int end, hc11_ramTrapper trapper){
+        return removeRegion(start, end, 0, 0, trapper);
+    }
+    
+    /** Remove a mask trap added by addMask()
+     *@return True if there was one to remove
+     **/
+    public boolean removeMask(int address, int mask, hc11_ramTrapper trapper){
+        return removeRegion(0, 0xFFFF, mask, address, trapper);
+    }
+    
+    /** Remove every trap a trapper has, on any address, including range and mask traps
+     *@return The number of traps removed
+     **/
+    public int removeAll(hc11_ramTrapper trapper){
+        int removed = 0;
+        for(int i=regions.size()-1; i>=0; i--){
+            Region region = regions.get(i);
+            if(region.trapper == trapper){
+                removeRegion(region);
+                removed++;
+            }
+        }
+        for(int page=0; page<0x100; page++){
+            if(trappers[page] == null)
+                continue;
+            for(int i=0; i<0x100; i++){
+                int address = (page << 8) | i;
+                while(remove(address, trapper))
+                    removed++;
+            }
+        }
+        return removed;
+    }
+    
+    /** Get the number of traps set **/
+    public int size(){
+        return count;
+    }
+    
+    /** Check if an address has a trap on it **/
+    public boolean isTrapped(int address){
+        return (bits[address >> 5] & (1 << address)) != 0;
+    }
+    
+    /** Tell every trapper on an address about a read. Single address traps go first.
+     *@return True if any of them might want the emulator to stop, which any trapper whose canStop() is true might
+     **/
+    boolean fireRead(int address, int instraddr){
+        boolean stop = false;
+        hc11_ramTrapper[] list = get(address);
+        if(list != null){
+            for(int i=0; i<list.length; i++){
+                list[i].readTrap(address, instraddr);
+                stop |= list[i].canStop();
+            }
+        }
+        Region[] page = pageRegions[address >> 8];
+        if(page != null){
+            for(int i=0; i<page.length; i++){
+                if(page[i].covers(address)){
+                    page[i].trapper.readTrap(address, instraddr);
+                    stop |= page[i].trapper.canStop();
+                }
+            }
+        }
+        return stop;
+    }
+    
+    /** Tell every trapper on an address about a write. Single address traps go first.
+     *@return True if any of them might want the emulator to stop, which any trapper whose canStop() is true might
+     **/
+    boolean fireWrite(int address, int instraddr){
+        boolean stop = false;
+        hc11_ramTrapper[] list = get(address);
+        if(list != null){
+            for(int i=0; i<list.length; i++){
+                list[i].writeTrap(address, instraddr);
+                stop |= list[i].canStop();
+            }
+        }
+        Region[] page = pageRegions[address >> 8];
+        if(page != null){
+            for(int i=0; i<page.length; i++){
+                if(page[i].covers(address)){
+                    page[i].trapper.writeTrap(address, instraddr);
+                    stop |= page[i].trapper.canStop();
+                }
+            }
+        }
+        return stop;
+    }
+    
+    /** List a range or mask trap on every page it covers part of, and set the bits it covers **/
+    private void addRegion(Region region){
+        regions.add(region);
+        count++;
+        for(int page=region.start >> 8; page<=region.end >> 8; page++){
+            boolean touches = false;
+            for(int i=0; i<0x100; i++){
+                int address = (page << 8) | i;
+                if(region.covers(address)){
+                    bits[address >> 5] |= 1 << address;
+                    touches = true;
+                }
+            }
+            if(touches){
+                Region[] old = pageRegions[page];
+                int size = old == null ? 0 : old.length;
+                Region[] list = new Region[size + 1];
+                for(int i=0; i<size; i++)
+                    list[i] = old[i];
+                list[size] = region;
+                pageRegions[page] = list; //Replaced whole, like the single address lists
+            }
+        }
+    }
+    
+    /** Find a range or mask trap and remove it
+     *@return True if there was one to remove
+     **/
+    private boolean removeRegion(int start, int end, int mask, int match, hc11_ramTrapper trapper){
+        for(int i=0; i<regions.size(); i++){
+            if(regions.get(i).same(start, end, mask, match, trapper)){
+                removeRegion(regions.get(i));
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /** Take a range or mask trap off every page it is listed on, and work their bits out again **/
+    private void removeRegion(Region region){
+        regions.remove(region);
+        count--;
+        for(int page=region.start >> 8; page<=region.end >> 8; page++){
+            Region[] old = pageRegions[page];
+            if(old == null)
+                continue;
+            int keep = 0;
+            for(int i=0; i<old.length; i++)
+                if(old[i] != region)
+                    keep++;
+            if(keep == old.length)
+                continue; //It never touched this page
+            Region[] list = null;
+            if(keep > 0){
+                list = new Region[keep];
+                for(int i=0, k=0; i<old.length; i++)
+                    if(old[i] != region)
+                        list[k++] = old[i];
+            }
+            pageRegions[page] = list;
+            for(int i=0; i<0x100; i++)
+                updateBit((page << 8) | i);
+        }
+    }
+    
+    /** Set or clear the bit of an address, to match whatever traps still cover it **/
+    private void updateBit(int address){
+        boolean trapped = get(address) != null;
+        Region[] page = pageRegions[address >> 8];
+        if(page != null)
+            for(int i=0; i<page.length && !trapped; i++)
+                trapped = page[i].covers(address);
+        if(trapped)
+            bits[address >> 5] |= 1 << address;
+        else
+            bits[address >> 5] &= ~(1 << address);
+    }
+    
+    /** Get the trappers on an address, or null if there aren't any **/
+    private hc11_ramTrapper[] get(int address){
+        hc11_ramTrapper[][] page = trappers[address >> 8];
+        return page == null ? null : page[address & 0xFF];
+    }
+    
+    /** Replace the trappers on an address, clearing its bit if nothing else covers it **/
+    private void set(int address, hc11_ramTrapper[] list){
+        count -= trappers[address >> 8][address & 0xFF].length - list.length;
+        trappers[address >> 8][address & 0xFF] = list.length == 0 ? null : list;
+        if(list.length == 0)
+            updateBit(address);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * hc11_TrapLog.java
+ *
+ * Created on October 18, 2026
+ *
+ * A trapper that records each access it traps into a ring buffer, for another thread to read later.
+ * The emulator thread is the only writer and one reader drains it, so the two only share the head
+ * and tail counters and neither ever waits for the other. Records are kept in preallocated primitive
+ * arrays, so recording one creates no garbage. When the reader falls behind and the ring fills up,
+ * new records are counted as dropped instead of holding up the emulator.
+ */
+
+package hc11emulator;
+
+public class hc11_TrapLog implements hc11_ramTrapper {
+    public static final int READ=0, WRITE=1; //Kinds of access
+    
+    /** Gets the records drain() takes out of the log **/
+    public interface Reader {
+        /** Called for each record, oldest first
+         *@param cycle The cycle count when the access was made
+         *@param pc The address of the instruction that made it
+         *@param address The address accessed
+         *@param value The value at that address just after the access
+         *@param kind READ or WRITE
+         **/
+        public void trapRecord(long cycle, int pc, int address, int value, int kind);
+    }
+    
+    private final hc11_Device device;
+    private final int mask; //Capacity - 1. The capacity is a power of two.
+    private final long[] cycles;
+    private final int[] pcs, addresses;
+    private final byte[] values, kinds;
+    private volatile long head; //Records written. Only the emulator thread changes this.
+    private volatile long tail; //Records read. Only the reader changes this.
+    private volatile long dropped; //Records lost because the ring was full
+    
+    /** Creates a new trap log
+     *@param device The device being trapped, to read the cycle count and values from
+     *@param capacity The most records it can hold before dropping any. Rounded up to a power of two.
+     **/
+    public hc11_TrapLog(hc11_Device device, int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        this.device = device;
+        mask = size - 1;
+        cycles = new long[size];
+        pcs = new int[size];
+        addresses = new int[size];
+        values = new byte[size];
+        kinds = new byte[size];
+    }
+    
+    public void readTrap(int trapaddr, int instraddr) {
+        record(trapaddr, instraddr, READ);
+    }
+    
+    public void writeTrap(int trapaddr, int instraddr) {
+        record(trapaddr, instraddr, WRITE);
+    }
+    
+    /** A log only records, so it never stops the emulator **/
+    public boolean canStop() {
+        return false;
+    }
+    
+    /** Add a record, or count it as dropped if the ring is full. Emulator thread only. **/
+    private void record(int address, int pc, int kind){
+        long next = head;
+        if(next - tail > mask){
+            dropped++; //Only this thread writes it
+            return;
+        }
+        int slot = (int)next & mask;
+        cycles[slot] = device.getCycles();
+        pcs[slot] = pc;
+        addresses[slot] = address;
+        values[slot] = (byte)device.getMemSilent(address);
+        kinds[slot] = (byte)kind;
+        head = next + 1; //Publishes the record to the reader
+    }
+    
+    /** Pass the records waiting in the log to a reader, oldest first, and free their slots.
+     * Only one thread may drain a log.
+     *@param reader Where the records go
+     *@param max The most records to take in one go
+     *@return The number of records taken
+     **/
+    public int drain(Reader reader, int max){
+        long first = tail;
+        long last = Math.min(head, first + max);
+        for(long i=first; i<last; i++){
+            int slot = (int)i & mask;
+            reader.trapRecord(cycles[slot], pcs[slot], addresses[slot], values[slot] & 0xFF, kinds[slot]);
+        }
+        tail = last; //Hands the slots back to the emulator thread
+        return (int)(last - first);
+    }
+    
+    /** Get the number of records waiting to be drained **/
+    public int size(){
+        return (int)(head - tail);
+    }
+    
+    /** Get the number of records dropped because the log was full **/
+    public long getDropped(){
+        return dropped;
+    }
+}
@@ -1,23 +1,28 @@
-/*
- * hc11_ramTrapper.java
- *
- * Created on December 27, 2006, 6:43 PM
- *
- * @author Paul Kratt
- */
-
-package hc11emulator;
-
-public interface hc11_ramTrapper {
-    /** Notify the class trapping this memory location that the trapped ram has been written to.
-     *@param trapaddr The address that was trapped
-     *@param instaddr The address of the instruction that fell into our trap.
-     **/
-    public void writeTrap(int trapaddr, int instraddr);
-    
-    /** Notify the class trapping this memory location that the trapped ram has been read from.
-     *@param trapaddr The address that was trapped
-     *@param instaddr The address of the instruction that fell into our trap.
-     **/
-    public void readTrap(int trapaddr, int instraddr);
-}
+/*
+ * hc11_ramTrapper.java
+ *
+ * Created on December 27, 2006, 6:43 PM
+ *
+ * @author Paul Kratt
+ */
+
+package hc11emulator;
+
+public interface hc11_ramTrapper {
+    /** Notify the class trapping this memory location that the trapped ram has been written to.
+     *@param trapaddr The address that was trapped
+     *@param instaddr The address of the instruction that fell into our trap.
+     **/
+    public void writeTrap(int trapaddr, int instraddr);
+    
+    /** Notify the class trapping this memory location that the trapped ram has been read from.
+     *@param trapaddr The address that was trapped
+     *@param instaddr The address of the instruction that fell into our trap.
+     **/
+    public void readTrap(int trapaddr, int instraddr);
+    
+    /** Check if this trapper might stop the emulator when it fires. One that only watches, like a
+     * trap log or a chip select, returns false, so compiled blocks carry on past it.
+     **/
+    public boolean canStop();
+}
@@ -1,80 +1,465 @@
-/*
- * hc11_thread.java
- *
- * Created on July 7, 2006, 8:49 PM
- * @author Paul Kratt
- */
-
-package hc11emulator;
-
-public class hc11_thread extends Thread{
-    private hc11_Device board; //The hc11 board we're running.
-    private final long clkspeed = 2000000; //Clock speed. Default is 2mhz
-    private final int fps=30; //How many times per second the observers should be notified.
-    private boolean runmode,noquit;
-    private debug_breakPtHandler bphandler; //Breakpoint handler, if attached.
-    
-    /** Creates a new instance of hc11_thread */
-    public hc11_thread(hc11_Device board) {
-        this.board=board;
-        runmode=false;
-        noquit=true;
-    }
-    
-    /** Continously execute instructions on the HC11.
-     * Sleep 30 times a second, so that the speed of the emulator matches real hardware.
-     */
-    public void run() {
-        long segment_cycles=clkspeed/fps;
-        long lastTime=0;
-        final long sleeptime = (long)Math.ceil(1000.0/fps);
-        
-        try {
-            while(noquit){
-                //This should remain an infinite loop, until the program wants to quit.
-                if(runmode){
-                    lastTime+=System.currentTimeMillis();
-                    long stoptime = board.getCycles()+segment_cycles;
-                    while(board.getCycles()<stoptime){
-                        board.execute();
-                        if(bphandler!=null && bphandler.checkPC()){
-                            //Breakpoints are on, and we need to stop
-                            runmode = false;
-                            stoptime=board.getCycles();
-                            break;
-                        }
-                    }
-                    board.notifyObservers();
-                    lastTime=sleeptime-(System.currentTimeMillis()-lastTime); //How many ms have passed?
-                    if(lastTime>0){
-                        this.sleep(lastTime);
-                        lastTime=0;
-                        //If lastTime is negative, we'll just sleep less the next cycle to catch up.
-                    }
-                } else{
-                    this.sleep(100); //Sleep for a 10th of a second
-                    lastTime=0;
-                }
-                
-            }
-        } catch (InterruptedException ex) {
-            ex.printStackTrace();
-        }
-    }
-    
-    /** Tell the thread to be running, executing instructions in pseudo-realtime. */
-    public void setRunmode(boolean runmode) {
-        this.runmode = runmode;
-    }
-    
-    /** Set the noquit variable. If true, don't quit. If false, end the thread as soon as you can. **/
-    public void setNoquit(boolean noquit) {
-        this.noquit = noquit;
-    }
-    
-    /** Attach a breakpoint handler to this thread. We sort've need one for the GUI to handle breakpoints! **/
-    public void attachBPhandler(debug_breakPtHandler bph){
-        bphandler = bph;
-    }
-    
-}
+/*
+ * hc11_thread.java
+ *
+ * Created on July 7, 2006, 8:49 PM
+ * @author Paul Kratt
+ */
+
+package hc11emulator;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+import javax.swing.SwingUtilities;
+
+public class hc11_thread extends Thread{
+    private static final long NANOS = 1000000000L; //Nanoseconds per second
+    public static final double MAX_SPEED = 0; //Speed multiplier that runs as fast as the host can, without waiting
+    private static final int MAX_CATCHUP = 5; //Most frames to run back to back to catch up, before giving up on them
+    private static final int NONE=0, PC=1, CYCLES=2, RETURN=3, OUT=4; //Things a run can be stopping for
+    public static final long MIN_SLICE = 64; //Fewest cycles between command checks
+    private static final long SLICE_TARGET = 20000; //Nanoseconds of real time each slice should take while someone is interacting
+    private static final long INTERACTIVE_HOLD = NANOS; //How long slices stay small after the last interaction
+    private static final int OVERHEAD_SAMPLE = 256; //Time one slice boundary in this many, to measure their cost
+    private hc11_Device board; //The hc11 board we're running.
+    private volatile int fps=30; //How many times per second the observers should be notified.
+    private final ConcurrentLinkedQueue<hc11_Command> commands; //Posted by other threads, run by this one
+    private volatile boolean runmode; //Only this thread changes it
+    private boolean noquit; //Only this thread touches it
+    private int target=NONE; //What the current run stops for, besides a STOP or a breakpoint
+    private long targetValue; //The PC or cycle count it stops at
+    private int targetSP; //SP when a step over or step out started
+    private hc11_Command current; //The command that started the current run, to tell when it's done
+    private volatile debug_breakPtHandler bphandler; //Breakpoint handler, if attached.
+    private volatile long drift; //Nanoseconds emulated time is behind real time, since running started
+    private volatile long missed; //Frames that finished after their deadline
+    private volatile double speed = 1; //Multiple of real time to run at, or MAX_SPEED
+    private volatile double mips, mhz; //Measured speed, over the last half second or so
+    private volatile long stopLatency, maxStopLatency; //Nanoseconds from posting a STOP to being stopped
+    private volatile long lastInteraction; //When a command was last posted or interact() was last called
+    private volatile long slice = MIN_SLICE; //Cycles in the current slice. Only this thread changes it.
+    private long interactiveSlice = MIN_SLICE; //Cycles the host runs in SLICE_TARGET, measured every frame
+    private long slices; //Slice boundaries since the current speed measurement started
+    private long boundaryNanos, boundarySamples; //Time spent in the sampled boundaries
+    private volatile double sliceNanos, sliceOverhead; //Measured real time per slice, and the share of it spent at the boundary
+    
+    /** Creates a new instance of hc11_thread */
+    public hc11_thread(hc11_Device board) {
+        this.board=board;
+        commands = new ConcurrentLinkedQueue<hc11_Command>();
+        runmode=false;
+        noquit=true;
+    }
+    
+    /** Continously execute instructions on the HC11.
+     * Each frame runs the cycles that fit in 1/fps seconds, times the speed multiplier, and then waits
+     * for the frame's deadline. Frame n's deadline and cycle count are both worked out from frame 0,
+     * so rounding never adds up. A frame that runs late is made up by running the next ones without
+     * waiting, up to MAX_CATCHUP frames behind. Past that the schedule starts again from now, and the
+     * lost time shows in getDrift(). At MAX_SPEED nothing waits, and the observers are only notified
+     * once every 1/fps real seconds. Commands are picked up between the slices of a frame, and wake
+     * the thread up if it is waiting.
+     * Slices adapt to what the thread is doing. For a second after a command or a call to interact(),
+     * each slice is as many cycles as the host runs in SLICE_TARGET, so a stop or a step is picked up
+     * within microseconds whatever the speed. Otherwise the
+     * slices double at each boundary until they take the whole frame, and a batch run or a run at
+     * MAX_SPEED only stops to check things a few dozen times a second.
+     */
+    public void run() {
+        long startTime=0, startCycles=0, frame=0; //Where the current schedule started
+        long scheduleClock=0, scheduleFps=0; //Settings the current schedule was made with
+        double scheduleSpeed=0;
+        boolean scheduled=false;
+        long lost=0; //Nanoseconds given up on when the schedule was restarted
+        long sampleTime=0, sampleCycles=0, sampleInstructions=0; //Start of the current speed measurement
+        long lastNotify=0; //When the observers were last notified at MAX_SPEED
+        
+        while(noquit){
+            //This should remain an infinite loop, until the program wants to quit.
+            processCommands();
+            if(runmode){
+                long clock=board.getClockSpeed(), rate=fps;
+                double multiplier=speed;
+                if(!scheduled || clock!=scheduleClock || rate!=scheduleFps || multiplier!=scheduleSpeed){
+                    //Start a new schedule, for the first frame or new settings
+                    startTime=System.nanoTime();
+                    startCycles=board.getCycles();
+                    frame=0;
+                    scheduleClock=clock;
+                    scheduleFps=rate;
+                    scheduleSpeed=multiplier;
+                    scheduled=true;
+                }
+                if(sampleTime==0){
+                    sampleTime=System.nanoTime();
+                    sampleCycles=board.getCycles();
+                    sampleInstructions=board.getInstructions();
+                    slices=0;
+                    boundaryNanos=0;
+                    boundarySamples=0;
+                }
+                //Emulated cycles per real second. Peripherals still count emulated cycles, so they keep their timing.
+                long pace = multiplier==MAX_SPEED ? clock : Math.max(1, (long)(clock*multiplier));
+                frame++;
+                long frameStart=System.nanoTime(), frameCycles=board.getCycles();
+                boolean interactive=frameStart-lastInteraction < INTERACTIVE_HOLD;
+                if(interactive)
+                    slice=interactiveSlice;
+                runUntil(startCycles+frame*pace/rate, interactive);
+                long ran=System.nanoTime()-frameStart;
+                if(ran>0 && board.getCycles()-frameCycles>=MIN_SLICE)
+                    interactiveSlice=Math.max(MIN_SLICE, (board.getCycles()-frameCycles)*SLICE_TARGET/ran);
+                
+                long now=System.nanoTime();
+                if(multiplier==MAX_SPEED){
+                    if(now-lastNotify >= NANOS/rate){
+                        board.notifyObservers();
+                        lastNotify=now;
+                    }
+                    drift=0; //There's no schedule to be behind
+                }
+                else{
+                    board.notifyObservers();
+                    long frameDeadline=startTime+frame*NANOS/rate;
+                    if(now>frameDeadline){
+                        missed++;
+                        if(now-frameDeadline > MAX_CATCHUP*NANOS/rate){
+                            //Too far behind to catch up. Give up on the lost time and start again from here.
+                            lost+=now-frameDeadline;
+                            scheduled=false;
+                        }
+                    }
+                    else{
+                        //Wait for the deadline, or a command. parkNanos can return early, so keep checking.
+                        while((now=System.nanoTime()) < frameDeadline && commands.isEmpty())
+                            LockSupport.parkNanos(this, frameDeadline-now);
+                    }
+                    drift=lost+(now-startTime)-toNanos(board.getCycles()-startCycles, pace);
+                }
+                
+                if(now-sampleTime >= NANOS/2){
+                    //Instructions and cycles per microsecond are MIPS and MHz
+                    mips=(board.getInstructions()-sampleInstructions)*1000.0/(now-sampleTime);
+                    mhz=(board.getCycles()-sampleCycles)*1000.0/(now-sampleTime);
+                    if(slices>0){
+                        //Real time per slice is the longest a command waits while running, besides the pacing wait
+                        sliceNanos=(double)(now-sampleTime)/slices;
+                        if(boundarySamples>0)
+                            sliceOverhead=(double)boundaryNanos/boundarySamples*slices/(now-sampleTime);
+                    }
+                    slices=0;
+                    boundaryNanos=0;
+                    boundarySamples=0;
+                    sampleTime=now;
+                    sampleCycles=board.getCycles();
+                    sampleInstructions=board.getInstructions();
+                }
+                if(!runmode)
+                    scheduled=false; //Stopped at a breakpoint. Time spent stopped isn't drift.
+            } else{
+                if(commands.isEmpty())
+                    LockSupport.parkNanos(this, NANOS/10); //Wait for a command, a 10th of a second at most
+                scheduled=false;
+                lost=0;
+                sampleTime=0;
+                mips=0;
+                mhz=0;
+                sliceNanos=0;
+                sliceOverhead=0;
+            }
+        }
+    }
+    
+    /** Run the board up to a cycle count, or until a breakpoint, the run's target or a command stops it
+     *@param stoptime The cycle count to stop at
+     *@param interactive True to keep the slices the size they are, false to let them grow
+     **/
+    private void runUntil(long stoptime, boolean interactive){
+        if(target==CYCLES)
+            stoptime=Math.min(stoptime, targetValue);
+        while(board.getCycles()<stoptime){
+            //Run flat out to the end of the slice or the next event, then let the hardware it belongs to catch up
+            long deadline = Math.min(Math.min(stoptime, board.getCycles()+slice), board.getNextEventCycle());
+            if(target==NONE || target==CYCLES){
+                if(bphandler==null || !bphandler.hasExecuteBreakpoints())
+                    board.executeBlocks(deadline); //Use compiled blocks if the recompiler is on
+                else{
+                    board.execute(); //Go one instruction at a time, so that no bpx gets skipped
+                    board.idle(deadline); //Skip ahead if that left it in WAI or STOP
+                }
+            }
+            else{
+                //Go one instruction at a time, to see the PC or the return the run is waiting for
+                int opcode = board.getMemSilent(board.getPC() & 0xFFFF);
+                board.execute();
+                board.idle(deadline);
+                if(reachedTarget(opcode)){
+                    board.runEvents();
+                    finish();
+                    return;
+                }
+            }
+            //The boundary. Time one in every OVERHEAD_SAMPLE, so timing them doesn't cost more than they do.
+            long boundaryStart = (++slices & (OVERHEAD_SAMPLE-1)) == 0 ? System.nanoTime() : 0;
+            board.runEvents();
+            if(bphandler!=null && bphandler.checkPC()){
+                //Breakpoints are on, and we need to stop
+                finish();
+                return;
+            }
+            if(!commands.isEmpty())
+                return; //Let run() pick them up. The next frame makes up the cycles.
+            if(!interactive)
+                slice=Math.min(slice*2, Integer.MAX_VALUE); //Nobody's waiting, so check less often
+            if(boundaryStart!=0){
+                boundaryNanos+=System.nanoTime()-boundaryStart;
+                boundarySamples++;
+            }
+        }
+        if(target==CYCLES && board.getCycles()>=targetValue)
+            finish();
+    }
+    
+    /** Work out how long some cycles take in real time, at a pace in cycles per second. Split so
+     * it can't overflow, since cycles*NANOS would after about 9.2e9 cycles.
+     **/
+    private static long toNanos(long cycles, long pace){
+        return cycles/pace*NANOS + cycles%pace*NANOS/pace;
+    }
+    
+    /** Check if the instruction just executed brought the run to its target
+     *@param opcode The first byte of that instruction
+     **/
+    private boolean reachedTarget(int opcode){
+        if(target==PC)
+            return board.getPC()==targetValue;
+        if(target==RETURN)
+            return board.getPC()==targetValue && board.getSP()>=targetSP; //Not a deeper call to the same place
+        return (opcode==0x39 || opcode==0x3B) && board.getSP()>targetSP; //An RTS or RTI out of where we started
+    }
+    
+    /** Run every command that has been posted, in order **/
+    private void processCommands(){
+        hc11_Command command;
+        while((command=commands.poll()) != null){
+            switch(command.getKind()){
+                case hc11_Command.RUN:
+                    start(command, NONE, 0);
+                    break;
+                case hc11_Command.STOP:
+                    if(runmode){
+                        stopLatency=System.nanoTime()-command.getPosted();
+                        maxStopLatency=Math.max(maxStopLatency, stopLatency);
+                    }
+                    finish();
+                    done(command);
+                    break;
+                case hc11_Command.STEP:
+                    finish();
+                    step(command.getArgument());
+                    done(command);
+                    break;
+                case hc11_Command.STEP_OVER:
+                    finish();
+                    int pc=board.getPC() & 0xFFFF;
+                    int opcode=board.getMemSilent(pc);
+                    if(opcode==0x18)
+                        opcode=board.getMemSilent((pc+1) & 0xFFFF) | 0x100; //JSR ,Y
+                    if(opcode==0x8D || opcode==0x9D || opcode==0xAD || opcode==0xBD || opcode==0x1AD || opcode==0x3F){
+                        //BSR, JSR or SWI. Run until it comes back to the next instruction.
+                        targetSP=board.getSP();
+                        start(command, RETURN, (pc+board.dissassemble(pc).getSize()) & 0xFFFF);
+                    }
+                    else{
+                        step(1);
+                        done(command);
+                    }
+                    break;
+                case hc11_Command.STEP_OUT:
+                    targetSP=board.getSP();
+                    start(command, OUT, 0);
+                    break;
+                case hc11_Command.RUN_TO:
+                    start(command, PC, command.getArgument() & 0xFFFF);
+                    break;
+                case hc11_Command.RUN_FOR:
+                    start(command, CYCLES, board.getCycles()+command.getArgument());
+                    break;
+                case hc11_Command.CALL:
+                    command.getAction().run(); //A run carries on afterwards
+                    done(command);
+                    break;
+                default:
+                    finish();
+                    noquit=false;
+                    done(command);
+            }
+        }
+    }
+    
+    /** Start a run, finishing any run already going **/
+    private void start(hc11_Command command, int target, long value){
+        finish();
+        this.target=target;
+        targetValue=value;
+        current=command;
+        runmode=true;
+    }
+    
+    /** Stop running, and tell whoever started the run **/
+    private void finish(){
+        runmode=false;
+        target=NONE;
+        if(current!=null){
+            done(current);
+            current=null;
+        }
+    }
+    
+    /** Execute instructions straight away, the way the step button always has **/
+    private void step(long count){
+        for(long i=0; i<count; i++){
+            board.execute();
+            board.idle(board.getNextEventCycle()); //Stepping in WAI or STOP goes on to the next event
+            board.runEvents();
+        }
+    }
+    
+    /** Run a command's done callback on the Swing event thread **/
+    private void done(hc11_Command command){
+        if(command.getDone()!=null)
+            SwingUtilities.invokeLater(command.getDone());
+    }
+    
+    /** Post a command for the emulator thread to run. Safe to call from any thread, and never waits.
+     * A running thread picks it up at the end of the slice it's in, and a waiting one wakes up for it.
+     **/
+    public void post(hc11_Command command){
+        lastInteraction=System.nanoTime();
+        commands.add(command);
+        LockSupport.unpark(this);
+    }
+    
+    /** Run something on the emulator thread, between slices, without stopping a run. Anything that
+     * changes the breakpoints or traps while the thread is going should go through here.
+     **/
+    public void invoke(Runnable action){
+        post(new hc11_Command(action, null));
+    }
+    
+    /** Tell the thread someone is using the emulator, such as moving the mouse over one of its windows.
+     * For the next second it runs in short slices, so whatever they do next gets picked up quickly.
+     * Cheap enough to call on every input event.
+     **/
+    public void interact(){
+        lastInteraction=System.nanoTime();
+    }
+    
+    /** Tell the thread to be running, executing instructions in pseudo-realtime. */
+    public void setRunmode(boolean runmode) {
+        post(new hc11_Command(runmode ? hc11_Command.RUN : hc11_Command.STOP));
+    }
+    
+    /** Check if the thread is running the board **/
+    public boolean isRunning(){
+        return runmode;
+    }
+    
+    /** Set the noquit variable. If true, don't quit. If false, end the thread as soon as you can. **/
+    public void setNoquit(boolean noquit) {
+        if(!noquit)
+            post(new hc11_Command(hc11_Command.QUIT));
+    }
+    
+    /** Get the time the last STOP took to take effect, from being posted to the board stopping, in nanoseconds **/
+    public long getStopLatency(){
+        return stopLatency;
+    }
+    
+    /** Get the longest time a STOP has taken to take effect, in nanoseconds **/
+    public long getMaxStopLatency(){
+        return maxStopLatency;
+    }
+    
+    /** Get the number of cycles the emulator thread runs between checks for commands, right now **/
+    public long getSliceCycles(){
+        return slice;
+    }
+    
+    /** Get the measured real time per slice, in nanoseconds. While running, a command waits about
+     * this long to be picked up, unless the thread is waiting for a deadline. 0 while stopped.
+     **/
+    public double getSliceNanos(){
+        return sliceNanos;
+    }
+    
+    /** Get the measured share of running time spent between slices, checking for commands and
+     * breakpoints, from 0 to 1. 0 while stopped.
+     **/
+    public double getSliceOverhead(){
+        return sliceOverhead;
+    }
+    
+    /** Set the clock speed to emulate, in cycles per second. Takes effect on the next frame. The
+     * board keeps it, so its peripherals go by the same clock.
+     **/
+    public void setClockSpeed(long clkspeed){
+        board.setClockSpeed(clkspeed);
+    }
+    
+    public long getClockSpeed(){
+        return board.getClockSpeed();
+    }
+    
+    /** Set how many frames to run per second. Observers are notified once a frame. Takes effect on the next frame. **/
+    public void setFrameRate(int fps){
+        if(fps <= 0)
+            throw new IllegalArgumentException("Frame rate must be positive: " + fps);
+        this.fps = fps;
+    }
+    
+    public int getFrameRate(){
+        return fps;
+    }
+    
+    /** Set how many times faster than real time to run. Timers and other peripherals still count
+     * emulated cycles, so the firmware sees the same timing at any speed.
+     *@param speed The multiplier, such as 1 for real time or 10 for ten times faster, or MAX_SPEED
+     **/
+    public void setSpeed(double speed){
+        if(!(speed > 0) && speed != MAX_SPEED)
+            throw new IllegalArgumentException("Speed must be positive, or MAX_SPEED: " + speed);
+        this.speed = speed;
+    }
+    
+    public double getSpeed(){
+        return speed;
+    }
+    
+    /** Get the measured speed in millions of emulated instructions per second. 0 while stopped. **/
+    public double getMIPS(){
+        return mips;
+    }
+    
+    /** Get the measured speed in emulated MHz, which is millions of cycles per second. 0 while stopped. **/
+    public double getEffectiveMHz(){
+        return mhz;
+    }
+    
+    /** Get how far emulated time is behind real time, in nanoseconds, since the run button was last
+     * pressed. It goes up when frames take longer to emulate than they last, and down as they catch up.
+     **/
+    public long getDrift(){
+        return drift;
+    }
+    
+    /** Get the number of frames that have finished after their deadline **/
+    public long getMissedDeadlines(){
+        return missed;
+    }
+    
+    /** Attach a breakpoint handler to this thread. We sort've need one for the GUI to handle breakpoints! **/
+    public void attachBPhandler(debug_breakPtHandler bph){
+        bphandler = bph;
+    }
+    
+}
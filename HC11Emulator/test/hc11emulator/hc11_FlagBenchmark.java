@@ -0,0 +1,109 @@
+/*
+ * hc11_FlagBenchmark.java
+ *
+ * Created on October 18, 2026
+ *
+ * Times the hc11_FlagTables lookups against the branching reference code they were built from.
+ * It lives with the tests, so it isn't shipped in the jar. After "ant compile-test", run it with:
+ * java -cp build/classes:build/test/classes hc11emulator.hc11_FlagBenchmark [operations] [rounds]
+ */
+
+package hc11emulator;
+
+public class hc11_FlagBenchmark {
+    
+    private hc11_FlagBenchmark() {
+    }
+    
+    /**
+     * @param args Optional number of operations per round, and number of rounds
+     */
+    public static void main(String[] args) {
+        int operations = args.length > 0 ? Integer.parseInt(args[0]) : 20000000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        long bestBranchy = Long.MAX_VALUE, bestTable = Long.MAX_VALUE;
+        int branchySum = 0, tableSum = 0;
+        
+        //Alternate the two, so that neither gets all the warm up
+        for(int round=0; round<rounds; round++){
+            long start = System.nanoTime();
+            branchySum = branchy(operations);
+            bestBranchy = Math.min(bestBranchy, System.nanoTime() - start);
+            
+            start = System.nanoTime();
+            tableSum = table(operations);
+            bestTable = Math.min(bestTable, System.nanoTime() - start);
+        }
+        
+        if(branchySum != tableSum)
+            System.out.println("Results differ! branchy=" + branchySum + " table=" + tableSum);
+        //Each operation is one of add, subtract, increment, decrement, shift or rotate
+        System.out.println("Branches: " + format(bestBranchy, operations) + " ns per operation");
+        System.out.println("Tables:   " + format(bestTable, operations) + " ns per operation");
+        System.out.println("Speedup:  " + format(bestBranchy, bestTable) + "x");
+    }
+    
+    /** Nanoseconds per operation, to two places **/
+    private static String format(long nanos, long operations){
+        long hundredths = nanos * 100 / operations;
+        return (hundredths / 100) + "." + (hundredths % 100 < 10 ? "0" : "") + (hundredths % 100);
+    }
+    
+    /** Work out a stream of pseudo-random operations with the reference code, and sum the results **/
+    static int branchy(int operations){
+        int seed = 12345, sum = 0;
+        for(int i=0; i<operations; i++){
+            seed = seed * 1103515245 + 12345;
+            int a = (seed >> 8) & 0xFF, b = (seed >> 16) & 0xFF, carry = (seed >>> 31);
+            switch(seed & 7){
+                case 0: case 1:
+                    sum += hc11_FlagTables.referenceAdd(a, b, carry);
+                    break;
+                case 2: case 3:
+                    sum += hc11_FlagTables.referenceSub(a, b, carry);
+                    break;
+                case 4:
+                    sum += hc11_FlagTables.referenceInc(a) + hc11_FlagTables.referenceDec(b);
+                    break;
+                case 5:
+                    sum += hc11_FlagTables.referenceAsl(a) + hc11_FlagTables.referenceLsr(b);
+                    break;
+                case 6:
+                    sum += hc11_FlagTables.referenceAsr(a);
+                    break;
+                default:
+                    sum += hc11_FlagTables.referenceRol(a, carry) + hc11_FlagTables.referenceRor(b, carry);
+            }
+        }
+        return sum;
+    }
+    
+    /** The same stream of operations as branchy(), looked up in the tables **/
+    static int table(int operations){
+        int seed = 12345, sum = 0;
+        for(int i=0; i<operations; i++){
+            seed = seed * 1103515245 + 12345;
+            int a = (seed >> 8) & 0xFF, b = (seed >> 16) & 0xFF, carry = (seed >>> 31);
+            switch(seed & 7){
+                case 0: case 1:
+                    sum += hc11_FlagTables.ADD[(carry<<16)|(a<<8)|b];
+                    break;
+                case 2: case 3:
+                    sum += hc11_FlagTables.SUB[(carry<<16)|(a<<8)|b];
+                    break;
+                case 4:
+                    sum += hc11_FlagTables.INC[a] + hc11_FlagTables.DEC[b];
+                    break;
+                case 5:
+                    sum += hc11_FlagTables.ASL[a] + hc11_FlagTables.LSR[b];
+                    break;
+                case 6:
+                    sum += hc11_FlagTables.ASR[a];
+                    break;
+                default:
+                    sum += hc11_FlagTables.ROL[(carry<<8)|a] + hc11_FlagTables.ROR[(carry<<8)|b];
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * hc11_FlagTablesTest.java
+ *
+ * Created on October 18, 2026
+ *
+ * Runs the flag tables' own check, and the stream of operations hc11_FlagBenchmark times, which
+ * has to come out the same from the tables as from the branching code they were built from.
+ */
+
+package hc11emulator;
+
+import junit.framework.TestCase;
+
+public class hc11_FlagTablesTest extends TestCase {
+    
+    public hc11_FlagTablesTest(String name) {
+        super(name);
+    }
+    
+    /** Every entry agrees with the bitwise working. Loading the class already did this once. **/
+    public void testVerify(){
+        hc11_FlagTables.verify();
+    }
+    
+    /** The benchmark's two loops sum every result and flag they work out **/
+    public void testBenchmarkAgrees(){
+        assertEquals("sum", hc11_FlagBenchmark.branchy(1000000), hc11_FlagBenchmark.table(1000000));
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * hc11_LazyFlagsTest.java
+ *
+ * Created on October 18, 2026
+ *
+ * Runs two boards side by side, one working out N, Z and V eagerly and one lazily, and checks
+ * that every register, the CCR and the cycle count agree after every instruction. The CCR is read
+ * with getIntCCR(), which works the pending flags out without storing them, so the lazy board
+ * carries its pending flags from one instruction to the next just as it does when nobody looks.
+ */
+
+package hc11emulator;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Random;
+import junit.framework.TestCase;
+
+public class hc11_LazyFlagsTest extends TestCase {
+    private static final int SEEDS=300, STEPS=3000; //Random programs, and instructions run from each
+    private static final long LAB_CYCLES=2000000; //How far to run the lab image
+    
+    private PrintStream console;
+    
+    public hc11_LazyFlagsTest(String name) {
+        super(name);
+    }
+    
+    /** Random code hits unsupported opcodes all the time, and the interpreter prints each one **/
+    protected void setUp(){
+        console = System.out;
+        System.setOut(new PrintStream(new OutputStream(){
+            public void write(int b){
+            }
+        }));
+    }
+    
+    protected void tearDown(){
+        System.setOut(console);
+    }
+    
+    /** Fill memory and the registers with random values, and run whatever that decodes to **/
+    public void testRandomStreams(){
+        for(int seed=0; seed<SEEDS; seed++){
+            Random random = new Random(seed);
+            byte[] memory = new byte[0x10000];
+            random.nextBytes(memory);
+            int pc = random.nextInt(0xF000), x = random.nextInt(0x10000), y = random.nextInt(0x10000);
+            int sp = 0x0100 + random.nextInt(0xFE00), d = random.nextInt(0x10000), ccr = random.nextInt(0x100);
+            hc11_Device eager = new fox11w();
+            hc11_Device lazy = new fox11w();
+            hc11_Device[] boards = {eager, lazy};
+            for(int i=0; i<boards.length; i++){
+                boards[i].writeMem(0, memory);
+                boards[i].setPC(pc);
+                boards[i].setX(x);
+                boards[i].setY(y);
+                boards[i].setSP(sp);
+                boards[i].setD(d);
+                boards[i].setCCR((byte)ccr);
+            }
+            eager.setLazyFlags(false);
+            lazy.setLazyFlags(true);
+            for(int step=0; step<STEPS; step++){
+                String where = "seed " + seed + " step " + step;
+                boolean eagerThrew = step(eager), lazyThrew = step(lazy);
+                assertEquals(where + " threw", eagerThrew, lazyThrew);
+                assertMatch(where, eager, lazy);
+                if(eagerThrew)
+                    break; //Both stopped at the same place. Nothing after it means anything.
+            }
+        }
+    }
+    
+    /** Run the wytec ROM and lab3kp.elf, the way the debugger loads them **/
+    public void testLab3kp(){
+        hc11_Device eager = loadLab(), lazy = loadLab();
+        eager.setLazyFlags(false);
+        lazy.setLazyFlags(true);
+        for(long step=0; eager.getCycles() < LAB_CYCLES; step++){
+            eager.execute();
+            lazy.execute();
+            assertMatch("step " + step, eager, lazy);
+        }
+    }
+    
+    /** Execute one instruction, and say if it threw **/
+    private static boolean step(hc11_Device board){
+        try {
+            board.execute();
+            return false;
+        } catch (RuntimeException ex) {
+            return true;
+        }
+    }
+    
+    private static void assertMatch(String where, hc11_Device eager, hc11_Device lazy){
+        assertEquals(where + " PC", eager.getPC(), lazy.getPC());
+        assertEquals(where + " CCR", eager.getIntCCR(), lazy.getIntCCR());
+        assertEquals(where + " D", eager.getD(), lazy.getD());
+        assertEquals(where + " X", eager.getX(), lazy.getX());
+        assertEquals(where + " Y", eager.getY(), lazy.getY());
+        assertEquals(where + " SP", eager.getSP(), lazy.getSP());
+        assertEquals(where + " cycles", eager.getCycles(), lazy.getCycles());
+    }
+    
+    private static hc11_Device loadLab(){
+        hc11_Device board = new fox11w();
+        assertTrue(hc11_Helpers.loadBinary(new File("wytecrom_low.bin"), board, 0x0800));
+        assertTrue(hc11_Helpers.loadBinary(new File("wytecrom_high.bin"), board, 0x1800));
+        assertTrue(hc11_Helpers.loadElf(new File("../Resources/lab3kp.elf"), board));
+        return board;
+    }
+}